@@ -26,6 +26,7 @@ import com.christianheina.communication.javafied.signalprocessing.data.Frequency
 import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
 import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
 import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.mixer.NcoMixer;
 
 /**
  * Signal processing with multiple outputs.
@@ -231,4 +232,20 @@ public class SignalProcessing {
         return SignalFactory.newFrequencyDomainSignal(iqDataList, signal.getSampleRate()).asTimeDomainSignal();
     }
 
+    /**
+     * Shift signal by a frequency offset using a {@link NcoMixer}. Shifting a frequency of interest to IQ center allows
+     * using methods working around IQ center, such as {@link #filterReplaceWithZero(TimeDomainSignal, long)}, anywhere
+     * in the spectrum.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to shift
+     * @param frequencyOffset
+     *            frequency offset in Hz to shift by, positive shifts up
+     * 
+     * @return shifted {@link TimeDomainSignal}
+     */
+    public static TimeDomainSignal frequencyShift(TimeDomainSignal signal, double frequencyOffset) {
+        return NcoMixer.shift(signal, frequencyOffset);
+    }
+
 }
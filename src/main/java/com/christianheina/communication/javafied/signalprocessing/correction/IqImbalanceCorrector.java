@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correction;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.BinaryIqFormat;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.BinaryIqDecoder;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Streaming front-end correction removing DC offset, gain imbalance and quadrature phase imbalance from IQ data.<br>
+ * DC offset, the power of I and Q and their cross correlation are tracked by running averages over about
+ * {@link #getAveragingSamples()} samples, starting as plain averages until that many samples have been seen. With Q
+ * modelled as {@code g * A * sin(wt + phi)} for I {@code A * cos(wt)}, gain {@code g} is the RMS ratio of Q and I and
+ * {@code sin(phi)} their normalized correlation. I is kept and Q is rebuilt orthogonal to I with equal power, which
+ * removes the image the imbalance creates at the mirrored frequency. Correction coefficients are updated every
+ * {@value #UPDATE_INTERVAL} samples.<br>
+ * Raw captures can be decoded from {@link BinaryIqFormat} bytes and corrected in the same pass, without first
+ * converting the whole capture.<br>
+ * <strong>Note!</strong> A corrector is not thread safe, use one corrector per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class IqImbalanceCorrector {
+
+    private static final int UPDATE_INTERVAL = 32;
+    private static final double MAX_SKEW = 0.99;
+
+    private final int averagingSamples;
+    private long sampleCount;
+    private double dcReal;
+    private double dcImag;
+    private double powerInPhase;
+    private double powerQuadrature;
+    private double correlation;
+    private double crossCoefficient;
+    private double quadratureCoefficient;
+
+    /**
+     * Constructor
+     * 
+     * @param averagingSamples
+     *            number of samples the running averages are taken over, longer gives more accurate but slower estimates
+     */
+    public IqImbalanceCorrector(int averagingSamples) {
+        if (averagingSamples < 1) {
+            throw new SignalProcessingException("Averaging needs to be at least 1 sample");
+        }
+        this.averagingSamples = averagingSamples;
+        reset();
+    }
+
+    /**
+     * Correct IQ samples stored as I and Q pairs in place.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs, overwritten with corrected values
+     * @param offset
+     *            index of the first sample (not array index) to correct
+     * @param samples
+     *            number of samples to correct
+     */
+    public void process(double[] iqArray, int offset, int samples) {
+        if (offset < 0 || samples < 0 || 2 * ((long) offset + samples) > iqArray.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        for (int i = 2 * offset; i < 2 * (offset + samples); i += 2) {
+            correctSample(iqArray[i], iqArray[i + 1], iqArray, i);
+        }
+    }
+
+    /**
+     * Decode and correct IQ samples from a buffer of I and Q pairs. Reads as many complete pairs as remain in the
+     * buffer and fit in the output array, using the byte order of the buffer.
+     * 
+     * @param iqBuffer
+     *            buffer containing I and Q pairs, position is advanced past the decoded samples
+     * @param format
+     *            the binary format of the buffer
+     * @param output
+     *            array to fill with corrected I and Q pairs
+     * @param outputOffset
+     *            index of the first output sample (not array index)
+     * 
+     * @return number of samples decoded
+     */
+    public int process(ByteBuffer iqBuffer, BinaryIqFormat format, double[] output, int outputOffset) {
+        if (outputOffset < 0 || 2L * outputOffset > output.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int samples = Math.min(iqBuffer.remaining() / (2 * format.getByteLength()), output.length / 2 - outputOffset);
+        for (int i = 2 * outputOffset; i < 2 * (outputOffset + samples); i += 2) {
+            double inPhase = BinaryIqDecoder.decode(iqBuffer, format);
+            double quadrature = BinaryIqDecoder.decode(iqBuffer, format);
+            correctSample(inPhase, quadrature, output, i);
+        }
+        return samples;
+    }
+
+    /**
+     * Correct all samples in {@link TimeDomainSignal}, continuing from the current estimates.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to correct
+     * 
+     * @return corrected {@link TimeDomainSignal} with the same number of samples and sample rate
+     */
+    public TimeDomainSignal process(TimeDomainSignal signal) {
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        process(iqArray, 0, iqArray.length / 2);
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(iqArray), signal.getSampleRate());
+    }
+
+    /**
+     * Decode and correct byte array containing I and Q pairs, continuing from the current estimates. Same conversion as
+     * {@link SignalFactory#newTimeDomainSignal(byte[], BinaryIqFormat, ByteOrder, int)}.
+     * 
+     * @param iqBytes
+     *            byte array containing I and Q pairs
+     * @param format
+     *            the binary format of conversion
+     * @param byteOrder
+     *            the iqBytes byte order
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * 
+     * @return corrected {@link TimeDomainSignal}
+     */
+    public TimeDomainSignal process(byte[] iqBytes, BinaryIqFormat format, ByteOrder byteOrder, int sampleRate) {
+        if (iqBytes.length % (2 * format.getByteLength()) != 0) {
+            throw new SignalProcessingException("IQ byte values need to be in I and Q pairs of the expected format");
+        }
+        double[] iqArray = new double[iqBytes.length / format.getByteLength()];
+        process(ByteBuffer.wrap(iqBytes).order(byteOrder), format, iqArray, 0);
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(iqArray), sampleRate);
+    }
+
+    /**
+     * Correct complete {@link TimeDomainSignal}, estimating from the start of the signal.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to correct
+     * 
+     * @return corrected {@link TimeDomainSignal}
+     */
+    public TimeDomainSignal correct(TimeDomainSignal signal) {
+        reset();
+        return process(signal);
+    }
+
+    private void correctSample(double inPhase, double quadrature, double[] output, int index) {
+        double weight = 1.0 / Math.min(sampleCount + 1, averagingSamples);
+        dcReal += weight * (inPhase - dcReal);
+        dcImag += weight * (quadrature - dcImag);
+        double real = inPhase - dcReal;
+        double imag = quadrature - dcImag;
+        powerInPhase += weight * (real * real - powerInPhase);
+        powerQuadrature += weight * (imag * imag - powerQuadrature);
+        correlation += weight * (real * imag - correlation);
+        sampleCount++;
+        if (sampleCount % UPDATE_INTERVAL == 0) {
+            updateCoefficients();
+        }
+        output[index] = real;
+        output[index + 1] = crossCoefficient * real + quadratureCoefficient * imag;
+    }
+
+    private void updateCoefficients() {
+        if (powerInPhase <= 0 || powerQuadrature <= 0) {
+            return;
+        }
+        double gain = Math.sqrt(powerQuadrature / powerInPhase);
+        double skew = Math.max(-MAX_SKEW, Math.min(MAX_SKEW, correlation / Math.sqrt(powerInPhase * powerQuadrature)));
+        double cosine = Math.sqrt(1 - skew * skew);
+        // Q' = (Q / g - I * sin(phi)) / cos(phi)
+        crossCoefficient = -skew / cosine;
+        quadratureCoefficient = 1 / (gain * cosine);
+    }
+
+    /**
+     * Retrieve estimated DC offset
+     * 
+     * @return DC offset as I and Q
+     */
+    public Complex getDcOffset() {
+        return new Complex(dcReal, dcImag);
+    }
+
+    /**
+     * Retrieve estimated gain imbalance
+     * 
+     * @return RMS amplitude of Q relative to I, 1 when balanced
+     */
+    public double getGainImbalance() {
+        if (powerInPhase <= 0) {
+            return 1;
+        }
+        return Math.sqrt(powerQuadrature / powerInPhase);
+    }
+
+    /**
+     * Retrieve estimated quadrature phase imbalance
+     * 
+     * @return deviation from 90 degrees between I and Q in radians, 0 when balanced
+     */
+    public double getPhaseImbalance() {
+        if (powerInPhase <= 0 || powerQuadrature <= 0) {
+            return 0;
+        }
+        return Math.asin(Math.max(-1, Math.min(1, correlation / Math.sqrt(powerInPhase * powerQuadrature))));
+    }
+
+    /**
+     * Retrieve number of samples averaged over
+     * 
+     * @return averaging samples
+     */
+    public int getAveragingSamples() {
+        return averagingSamples;
+    }
+
+    /**
+     * Clear all estimates, the next sample starts a new estimation.
+     */
+    public void reset() {
+        sampleCount = 0;
+        dcReal = 0;
+        dcImag = 0;
+        powerInPhase = 0;
+        powerQuadrature = 0;
+        correlation = 0;
+        crossCoefficient = 0;
+        quadratureCoefficient = 1;
+    }
+
+}
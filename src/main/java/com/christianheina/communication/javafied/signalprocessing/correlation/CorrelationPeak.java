@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correlation;
+
+import org.apache.commons.math3.complex.Complex;
+
+/**
+ * Class for handling a cross-correlation peak. The lag is positive when the signal is delayed relative to the
+ * reference.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class CorrelationPeak {
+
+    private final double lag;
+    private final Complex value;
+    private final double magnitude;
+    private final int sampleRate;
+
+    CorrelationPeak(double lag, Complex value, double magnitude, int sampleRate) {
+        this.lag = lag;
+        this.value = value;
+        this.magnitude = magnitude;
+        this.sampleRate = sampleRate;
+    }
+
+    /**
+     * Create a peak refined by fitting a parabola through the peak magnitude and its neighbours.
+     */
+    static CorrelationPeak interpolate(double lag, Complex value, double previous, double center, double next,
+            int sampleRate) {
+        double curvature = previous - 2 * center + next;
+        if (Double.isNaN(curvature) || curvature >= 0) {
+            return new CorrelationPeak(lag, value, center, sampleRate);
+        }
+        double offset = 0.5 * (previous - next) / curvature;
+        return new CorrelationPeak(lag + offset, value, center - 0.25 * (previous - next) * offset, sampleRate);
+    }
+
+    /**
+     * Retrieve interpolated lag in samples
+     * 
+     * @return lag in samples
+     */
+    public double getLag() {
+        return lag;
+    }
+
+    /**
+     * Retrieve interpolated lag in seconds
+     * 
+     * @return delay in seconds
+     */
+    public double getDelay() {
+        return lag / sampleRate;
+    }
+
+    /**
+     * Retrieve normalized correlation value at the nearest whole lag, the phase is the phase of the signal relative to
+     * the reference
+     * 
+     * @return {@code Complex} correlation value
+     */
+    public Complex getValue() {
+        return value;
+    }
+
+    /**
+     * Retrieve interpolated normalized correlation magnitude, 1 for a delayed copy of the reference
+     * 
+     * @return correlation magnitude
+     */
+    public double getMagnitude() {
+        return magnitude;
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correlation;
+
+import org.apache.commons.math3.complex.Complex;
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * FFT based cross-correlation of IQ data over all lags.<br>
+ * The correlation at lag k is {@code sum(signal[n + k] * conj(reference[n]))}, calculated for lags from
+ * {@code -(referenceSamples - 1)} to {@code signalSamples - 1} with zero padded FFTs in O(n log n). Signals may have
+ * different lengths.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class CrossCorrelation {
+
+    private CrossCorrelation() {
+        /* Hidden Constructor */
+    }
+
+    /**
+     * Full cross-correlation of IQ arrays.
+     * 
+     * @param reference
+     *            reference IQ array
+     * @param signal
+     *            signal IQ array
+     * 
+     * @return IQ array with one correlation value per lag, index i holds lag {@code i - (referenceSamples - 1)}
+     */
+    public static double[] correlate(double[] reference, double[] signal) {
+        int referenceSamples = reference.length / 2;
+        int signalSamples = signal.length / 2;
+        if (referenceSamples == 0 || signalSamples == 0) {
+            throw new SignalProcessingException("Signals need at least 1 sample");
+        }
+        int lags = referenceSamples + signalSamples - 1;
+        int fftSize = Integer.highestOneBit(lags) == lags ? lags : Integer.highestOneBit(lags) << 1;
+        DoubleFFT_1D fft = new DoubleFFT_1D(fftSize);
+        double[] referenceSpectrum = new double[2 * fftSize];
+        double[] product = new double[2 * fftSize];
+        System.arraycopy(reference, 0, referenceSpectrum, 0, 2 * referenceSamples);
+        System.arraycopy(signal, 0, product, 0, 2 * signalSamples);
+        fft.complexForward(referenceSpectrum);
+        fft.complexForward(product);
+        for (int i = 0; i < 2 * fftSize; i += 2) {
+            // signal * conj(reference)
+            double real = product[i] * referenceSpectrum[i] + product[i + 1] * referenceSpectrum[i + 1];
+            double imag = product[i + 1] * referenceSpectrum[i] - product[i] * referenceSpectrum[i + 1];
+            product[i] = real;
+            product[i + 1] = imag;
+        }
+        fft.complexInverse(product, true);
+
+        double[] correlation = new double[2 * lags];
+        // Negative lags wrap around to the end of the circular correlation
+        System.arraycopy(product, 2 * (fftSize - referenceSamples + 1), correlation, 0, 2 * (referenceSamples - 1));
+        System.arraycopy(product, 0, correlation, 2 * (referenceSamples - 1), 2 * signalSamples);
+        return correlation;
+    }
+
+    /**
+     * Full cross-correlation of {@link TimeDomainSignal}.
+     * 
+     * @param reference
+     *            reference signal
+     * @param signal
+     *            signal with the same sample rate as reference
+     * 
+     * @return IQ array with one correlation value per lag, index i holds lag {@code i - (referenceSamples - 1)}
+     */
+    public static double[] correlate(TimeDomainSignal reference, TimeDomainSignal signal) {
+        checkSampleRate(reference, signal);
+        return correlate(IqArrayUtil.toIqArray(reference.getIqDataList()),
+                IqArrayUtil.toIqArray(signal.getIqDataList()));
+    }
+
+    /**
+     * Find the lag where signal best matches reference.
+     * 
+     * @param reference
+     *            reference IQ array
+     * @param signal
+     *            signal IQ array
+     * @param sampleRate
+     *            the sample rate of both IQ arrays
+     * 
+     * @return {@link CorrelationPeak} with interpolated lag, normalized by the energy of both signals
+     */
+    public static CorrelationPeak findPeak(double[] reference, double[] signal, int sampleRate) {
+        double[] correlation = correlate(reference, signal);
+        double scale = 1 / Math.sqrt(energy(reference) * energy(signal));
+        if (Double.isInfinite(scale)) {
+            throw new SignalProcessingException("Signals need to contain energy to be correlated");
+        }
+        int peak = 0;
+        double peakPower = -1;
+        for (int i = 0; i < correlation.length; i += 2) {
+            double power = correlation[i] * correlation[i] + correlation[i + 1] * correlation[i + 1];
+            if (power > peakPower) {
+                peakPower = power;
+                peak = i / 2;
+            }
+        }
+        return interpolatePeak(correlation, peak, reference.length / 2 - 1, scale, sampleRate);
+    }
+
+    /**
+     * Find the lag where signal best matches reference.
+     * 
+     * @param reference
+     *            reference signal
+     * @param signal
+     *            signal with the same sample rate as reference
+     * 
+     * @return {@link CorrelationPeak} with interpolated lag, normalized by the energy of both signals
+     */
+    public static CorrelationPeak findPeak(TimeDomainSignal reference, TimeDomainSignal signal) {
+        checkSampleRate(reference, signal);
+        return findPeak(IqArrayUtil.toIqArray(reference.getIqDataList()), IqArrayUtil.toIqArray(signal.getIqDataList()),
+                signal.getSampleRate());
+    }
+
+    private static CorrelationPeak interpolatePeak(double[] correlation, int peak, int zeroLagIndex, double scale,
+            int sampleRate) {
+        int values = correlation.length / 2;
+        double previous = peak > 0 ? magnitude(correlation, peak - 1) * scale : Double.NaN;
+        double next = peak < values - 1 ? magnitude(correlation, peak + 1) * scale : Double.NaN;
+        Complex value = new Complex(correlation[2 * peak] * scale, correlation[2 * peak + 1] * scale);
+        return CorrelationPeak.interpolate(peak - zeroLagIndex, value, previous, value.abs(), next, sampleRate);
+    }
+
+    private static double energy(double[] iqArray) {
+        double energy = 0;
+        for (int i = 0; i < iqArray.length; i++) {
+            energy += iqArray[i] * iqArray[i];
+        }
+        return energy;
+    }
+
+    private static double magnitude(double[] iqArray, int index) {
+        return Math.hypot(iqArray[2 * index], iqArray[2 * index + 1]);
+    }
+
+    private static void checkSampleRate(TimeDomainSignal reference, TimeDomainSignal signal) {
+        if (reference.getSampleRate() != signal.getSampleRate()) {
+            throw new SignalProcessingException("Signals need to have the same sample rate");
+        }
+    }
+
+}
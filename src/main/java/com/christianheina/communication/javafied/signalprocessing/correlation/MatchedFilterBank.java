@@ -0,0 +1,197 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correlation;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.commons.math3.complex.Complex;
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Bank of matched filters correlating one input against a set of templates.<br>
+ * The input is transformed once and multiplied with the cached spectrum of every template, templates are processed in
+ * parallel. Only lags where a template lies fully inside the input are searched. Correlation values are normalized by
+ * the energy of the template and of the input samples it covers, making the peak magnitude 1 for an exact (scaled and
+ * rotated) copy of a template and comparable between templates. Template spectra are cached per FFT size, so
+ * correlating inputs of the same length only transforms the templates once. A bank is safe to use from several threads.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class MatchedFilterBank {
+
+    private final int sampleRate;
+    private final double[][] templates;
+    private final double[] templateEnergy;
+    private final int maxTemplateSamples;
+    private final Map<Integer, Plan> planCache = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     * 
+     * @param templateList
+     *            templates to correlate against, all with the same sample rate
+     */
+    public MatchedFilterBank(List<TimeDomainSignal> templateList) {
+        if (templateList.isEmpty()) {
+            throw new SignalProcessingException("At least one template is needed");
+        }
+        this.sampleRate = templateList.get(0).getSampleRate();
+        this.templates = new double[templateList.size()][];
+        this.templateEnergy = new double[templateList.size()];
+        int maxSamples = 0;
+        for (int t = 0; t < templates.length; t++) {
+            TimeDomainSignal template = templateList.get(t);
+            if (template.getSampleRate() != sampleRate) {
+                throw new SignalProcessingException("All templates need to have the same sample rate");
+            }
+            templates[t] = IqArrayUtil.toIqArray(template.getIqDataList());
+            for (double value : templates[t]) {
+                templateEnergy[t] += value * value;
+            }
+            if (templateEnergy[t] == 0) {
+                throw new SignalProcessingException("Templates need to contain energy");
+            }
+            maxSamples = Math.max(maxSamples, templates[t].length / 2);
+        }
+        this.maxTemplateSamples = maxSamples;
+    }
+
+    /**
+     * Correlate input against all templates.
+     * 
+     * @param input
+     *            input signal with the same sample rate as the templates
+     * 
+     * @return one {@link CorrelationPeak} per template in template order, the lag is the interpolated input sample
+     *         index where the template starts
+     */
+    public List<CorrelationPeak> correlate(TimeDomainSignal input) {
+        if (input.getSampleRate() != sampleRate) {
+            throw new SignalProcessingException("Input sample rate does not match template sample rate");
+        }
+        return correlate(IqArrayUtil.toIqArray(input.getIqDataList()));
+    }
+
+    /**
+     * Correlate input against all templates.
+     * 
+     * @param input
+     *            input IQ array with the same sample rate as the templates
+     * 
+     * @return one {@link CorrelationPeak} per template in template order, the lag is the interpolated input sample
+     *         index where the template starts
+     */
+    public List<CorrelationPeak> correlate(double[] input) {
+        int inputSamples = input.length / 2;
+        if (inputSamples < maxTemplateSamples) {
+            throw new SignalProcessingException("Input needs to be at least as long as the longest template");
+        }
+        // Lags with the template fully inside the input never wrap around, no extra padding needed
+        int fftSize = Integer.highestOneBit(inputSamples) == inputSamples ? inputSamples
+                : Integer.highestOneBit(inputSamples) << 1;
+        Plan plan = planCache.computeIfAbsent(fftSize, Plan::new);
+
+        double[] inputSpectrum = Arrays.copyOf(input, 2 * fftSize);
+        plan.fft.complexForward(inputSpectrum);
+        double[] energyPrefix = new double[inputSamples + 1];
+        for (int i = 0; i < inputSamples; i++) {
+            energyPrefix[i + 1] = energyPrefix[i] + input[2 * i] * input[2 * i] + input[2 * i + 1] * input[2 * i + 1];
+        }
+
+        return IntStream.range(0, templates.length).parallel()
+                .mapToObj(t -> correlateTemplate(plan, t, inputSpectrum, energyPrefix, inputSamples))
+                .collect(Collectors.toList());
+    }
+
+    private CorrelationPeak correlateTemplate(Plan plan, int template, double[] inputSpectrum, double[] energyPrefix,
+            int inputSamples) {
+        double[] templateSpectrum = plan.spectra[template];
+        double[] product = new double[inputSpectrum.length];
+        for (int i = 0; i < product.length; i += 2) {
+            // input * conj(template)
+            product[i] = inputSpectrum[i] * templateSpectrum[i] + inputSpectrum[i + 1] * templateSpectrum[i + 1];
+            product[i + 1] = inputSpectrum[i + 1] * templateSpectrum[i] - inputSpectrum[i] * templateSpectrum[i + 1];
+        }
+        plan.fft.complexInverse(product, true);
+
+        int templateSamples = templates[template].length / 2;
+        int lags = inputSamples - templateSamples + 1;
+        double[] magnitude = new double[lags];
+        int peak = 0;
+        for (int k = 0; k < lags; k++) {
+            double energy = energyPrefix[k + templateSamples] - energyPrefix[k];
+            double scale = energy > 0 ? 1 / Math.sqrt(templateEnergy[template] * energy) : 0;
+            magnitude[k] = Math.hypot(product[2 * k], product[2 * k + 1]) * scale;
+            if (magnitude[k] > magnitude[peak]) {
+                peak = k;
+            }
+        }
+        double energy = energyPrefix[peak + templateSamples] - energyPrefix[peak];
+        double scale = energy > 0 ? 1 / Math.sqrt(templateEnergy[template] * energy) : 0;
+        Complex value = new Complex(product[2 * peak] * scale, product[2 * peak + 1] * scale);
+        return CorrelationPeak.interpolate(peak, value, peak > 0 ? magnitude[peak - 1] : Double.NaN, magnitude[peak],
+                peak < lags - 1 ? magnitude[peak + 1] : Double.NaN, sampleRate);
+    }
+
+    /**
+     * Retrieve number of templates
+     * 
+     * @return template count
+     */
+    public int getTemplateCount() {
+        return templates.length;
+    }
+
+    /**
+     * Retrieve IQ data sample rate in Hz
+     * 
+     * @return sample rate
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * FFT plan with template spectra for one FFT size.
+     */
+    private final class Plan {
+
+        private final DoubleFFT_1D fft;
+        private final double[][] spectra;
+
+        private Plan(int fftSize) {
+            this.fft = new DoubleFFT_1D(fftSize);
+            this.spectra = new double[templates.length][];
+            IntStream.range(0, templates.length).parallel().forEach(t -> {
+                double[] spectrum = Arrays.copyOf(templates[t], 2 * fftSize);
+                fft.complexForward(spectrum);
+                spectra[t] = spectrum;
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,275 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correlation;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.complex.Complex;
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Streaming sync detector sliding a reference over a continuous sample stream with overlap-save block correlation.<br>
+ * The reference spectrum is calculated once. Samples are collected in blocks of {@link #getFftSize()} samples where the
+ * last {@code referenceSamples - 1} samples of each block are kept for the next one, so every block yields
+ * {@code fftSize - referenceSamples + 1} new correlation values. Each value is normalized by the energy of the
+ * reference and of the stream samples it covers, making it 1 for an exact (scaled and rotated) copy of the reference.
+ * <br>
+ * Consecutive values above the threshold are treated as one peak. The peak is reported, refined by parabolic
+ * interpolation, once the correlation falls below the threshold again or {@link #flush(SyncListener)} is called. Peaks
+ * are therefore reported with a latency of up to one block.<br>
+ * <strong>Note!</strong> A detector is not thread safe, use one detector per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class SyncDetector {
+
+    private static final int BLOCK_FACTOR = 4;
+
+    private final int sampleRate;
+    private final int referenceSamples;
+    private final double threshold;
+    private final int fftSize;
+    private final DoubleFFT_1D fft;
+    private final double[] referenceSpectrum;
+    private final double referenceEnergy;
+    private final double[] block;
+    private final double[] work;
+    private final double[] energyPrefix;
+    private int blockFill;
+    private long blockStart;
+
+    private double previousMagnitude = Double.NaN;
+    private boolean inPeak;
+    private boolean awaitingNext;
+    private long peakPosition;
+    private Complex peakValue;
+    private double peakMagnitude;
+    private double peakPrevious;
+    private double peakNext;
+
+    /**
+     * Constructor
+     * 
+     * @param reference
+     *            reference signal to search for
+     * @param threshold
+     *            normalized correlation magnitude between 0 and 1 a peak needs to reach to be reported
+     */
+    public SyncDetector(TimeDomainSignal reference, double threshold) {
+        this(IqArrayUtil.toIqArray(reference.getIqDataList()), reference.getSampleRate(), threshold);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param reference
+     *            reference IQ array to search for
+     * @param sampleRate
+     *            the sample rate of reference and stream
+     * @param threshold
+     *            normalized correlation magnitude between 0 and 1 a peak needs to reach to be reported
+     */
+    public SyncDetector(double[] reference, int sampleRate, double threshold) {
+        this.referenceSamples = reference.length / 2;
+        if (referenceSamples == 0) {
+            throw new SignalProcessingException("Reference needs at least 1 sample");
+        }
+        if (threshold <= 0 || threshold > 1) {
+            throw new SignalProcessingException("Threshold needs to be larger than 0 and at most 1");
+        }
+        double energy = 0;
+        for (double value : reference) {
+            energy += value * value;
+        }
+        if (energy == 0) {
+            throw new SignalProcessingException("Reference needs to contain energy");
+        }
+        this.sampleRate = sampleRate;
+        this.threshold = threshold;
+        this.referenceEnergy = energy;
+        this.fftSize = Integer.highestOneBit(BLOCK_FACTOR * referenceSamples - 1) << 1;
+        this.fft = new DoubleFFT_1D(fftSize);
+        this.referenceSpectrum = new double[2 * fftSize];
+        System.arraycopy(reference, 0, referenceSpectrum, 0, 2 * referenceSamples);
+        fft.complexForward(referenceSpectrum);
+        this.block = new double[2 * fftSize];
+        this.work = new double[2 * fftSize];
+        this.energyPrefix = new double[fftSize + 1];
+    }
+
+    /**
+     * Process IQ samples stored as I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to process
+     * @param samples
+     *            number of samples to process
+     * @param listener
+     *            listener notified for every detected peak
+     */
+    public void process(double[] iqArray, int offset, int samples, SyncListener listener) {
+        if (2 * (offset + samples) > iqArray.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int index = offset;
+        int end = offset + samples;
+        while (index < end) {
+            int copy = Math.min(end - index, fftSize - blockFill);
+            System.arraycopy(iqArray, 2 * index, block, 2 * blockFill, 2 * copy);
+            blockFill += copy;
+            index += copy;
+            if (blockFill == fftSize) {
+                processBlock(listener);
+            }
+        }
+    }
+
+    /**
+     * Process all samples in {@link TimeDomainSignal}.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to process
+     * @param listener
+     *            listener notified for every detected peak
+     */
+    public void process(TimeDomainSignal signal, SyncListener listener) {
+        if (signal.getSampleRate() != sampleRate) {
+            throw new SignalProcessingException("Signal sample rate does not match detector sample rate");
+        }
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        process(iqArray, 0, iqArray.length / 2, listener);
+    }
+
+    private void processBlock(SyncListener listener) {
+        int validLags = fftSize - referenceSamples + 1;
+        correlate(validLags, listener);
+
+        // Keep the samples still needed by the next lags
+        System.arraycopy(block, 2 * validLags, block, 0, 2 * (referenceSamples - 1));
+        blockFill = referenceSamples - 1;
+        blockStart += validLags;
+    }
+
+    private void correlate(int validLags, SyncListener listener) {
+        System.arraycopy(block, 0, work, 0, work.length);
+        fft.complexForward(work);
+        for (int i = 0; i < work.length; i += 2) {
+            // block * conj(reference)
+            double real = work[i] * referenceSpectrum[i] + work[i + 1] * referenceSpectrum[i + 1];
+            double imag = work[i + 1] * referenceSpectrum[i] - work[i] * referenceSpectrum[i + 1];
+            work[i] = real;
+            work[i + 1] = imag;
+        }
+        fft.complexInverse(work, true);
+        for (int i = 0; i < fftSize; i++) {
+            energyPrefix[i + 1] = energyPrefix[i] + block[2 * i] * block[2 * i] + block[2 * i + 1] * block[2 * i + 1];
+        }
+
+        for (int k = 0; k < validLags; k++) {
+            double energy = energyPrefix[k + referenceSamples] - energyPrefix[k];
+            double scale = energy > 0 ? 1 / Math.sqrt(referenceEnergy * energy) : 0;
+            double real = work[2 * k] * scale;
+            double imag = work[2 * k + 1] * scale;
+            update(blockStart + k, real, imag, listener);
+        }
+    }
+
+    private void update(long position, double real, double imag, SyncListener listener) {
+        double magnitude = Math.hypot(real, imag);
+        if (awaitingNext) {
+            peakNext = magnitude;
+            awaitingNext = false;
+        }
+        if (magnitude >= threshold) {
+            if (!inPeak || magnitude > peakMagnitude) {
+                inPeak = true;
+                peakPosition = position;
+                peakValue = new Complex(real, imag);
+                peakMagnitude = magnitude;
+                peakPrevious = previousMagnitude;
+                peakNext = Double.NaN;
+                awaitingNext = true;
+            }
+        } else if (inPeak) {
+            emitPeak(listener);
+        }
+        previousMagnitude = magnitude;
+    }
+
+    private void emitPeak(SyncListener listener) {
+        inPeak = false;
+        awaitingNext = false;
+        listener.syncDetected(CorrelationPeak.interpolate(peakPosition, peakValue, peakPrevious, peakMagnitude,
+                peakNext, sampleRate));
+    }
+
+    /**
+     * Search the samples of a partial block, for example at the end of a stream, and report any peak that is still
+     * above the threshold. Only lags where the whole reference fits in the received samples are searched. The detector
+     * is reset afterwards.
+     * 
+     * @param listener
+     *            listener notified for every detected peak
+     */
+    public void flush(SyncListener listener) {
+        int validLags = blockFill - referenceSamples + 1;
+        if (validLags > 0) {
+            Arrays.fill(block, 2 * blockFill, block.length, 0);
+            correlate(validLags, listener);
+        }
+        if (inPeak) {
+            emitPeak(listener);
+        }
+        reset();
+    }
+
+    /**
+     * Reset detector to its initial state.
+     */
+    public void reset() {
+        blockFill = 0;
+        blockStart = 0;
+        previousMagnitude = Double.NaN;
+        inPeak = false;
+        awaitingNext = false;
+    }
+
+    /**
+     * Retrieve IQ data sample rate in Hz
+     * 
+     * @return sample rate
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Retrieve number of samples per FFT block
+     * 
+     * @return FFT size
+     */
+    public int getFftSize() {
+        return fftSize;
+    }
+
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correlation;
+
+/**
+ * Listener notified every time a {@link SyncDetector} has found the reference in the sample stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+@FunctionalInterface
+public interface SyncListener {
+
+    /**
+     * Called when a correlation peak above the threshold has been found.
+     * 
+     * @param peak
+     *            peak where the lag is the interpolated stream sample index at which the reference starts, counted
+     *            since creation or last reset
+     */
+    void syncDetected(CorrelationPeak peak);
+
+}
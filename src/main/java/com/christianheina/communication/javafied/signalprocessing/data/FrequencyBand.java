@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.data;
+
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Class for handling a frequency band described by center frequency and bandwidth in Hz relative to IQ center.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FrequencyBand {
+
+    private final double centerFrequency;
+    private final double bandwidth;
+
+    /**
+     * Constructor
+     * 
+     * @param centerFrequency
+     *            band center frequency in Hz relative to IQ center
+     * @param bandwidth
+     *            band width in Hz
+     */
+    public FrequencyBand(double centerFrequency, double bandwidth) {
+        if (bandwidth <= 0) {
+            throw new SignalProcessingException("Bandwidth needs to be larger than 0");
+        }
+        this.centerFrequency = centerFrequency;
+        this.bandwidth = bandwidth;
+    }
+
+    /**
+     * Retrieve band center frequency in Hz relative to IQ center
+     * 
+     * @return center frequency
+     */
+    public double getCenterFrequency() {
+        return centerFrequency;
+    }
+
+    /**
+     * Retrieve band width in Hz
+     * 
+     * @return bandwidth
+     */
+    public double getBandwidth() {
+        return bandwidth;
+    }
+
+    /**
+     * Retrieve lower band edge in Hz relative to IQ center
+     * 
+     * @return low frequency
+     */
+    public double getLowFrequency() {
+        return centerFrequency - bandwidth / 2;
+    }
+
+    /**
+     * Retrieve upper band edge in Hz relative to IQ center
+     * 
+     * @return high frequency
+     */
+    public double getHighFrequency() {
+        return centerFrequency + bandwidth / 2;
+    }
+
+    /**
+     * Create a band with the same bandwidth shifted by an offset, for example an adjacent channel.
+     * 
+     * @param offset
+     *            frequency offset in Hz
+     * 
+     * @return shifted {@link FrequencyBand}
+     */
+    public FrequencyBand shift(double offset) {
+        return new FrequencyBand(centerFrequency + offset, bandwidth);
+    }
+
+}
@@ -25,7 +25,7 @@ import org.apache.commons.math3.complex.Complex;
 
 import com.christianheina.communication.javafied.signalprocessing.enums.BinaryIqFormat;
 import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
-import com.christianheina.langx.half4j.Half;
+import com.christianheina.communication.javafied.signalprocessing.util.BinaryIqDecoder;
 
 /**
  * Factory for {@link Signal}
@@ -101,20 +101,8 @@ public class SignalFactory {
         List<Complex> iqValueList = new ArrayList<Complex>();
         ByteBuffer buf = ByteBuffer.wrap(iqBytes).order(byteOrder);
         for (int i = 0; i < chunks; i += 2) {
-            double inPhase = 0;
-            double quadrature = 0;
-            if (format == BinaryIqFormat.FLOAT_16) {
-                inPhase = Half.shortBitsToHalf(buf.getShort()).doubleValue();
-                quadrature = Half.shortBitsToHalf(buf.getShort()).doubleValue();
-            } else if (format == BinaryIqFormat.FLOAT_32) {
-                inPhase = buf.getFloat();
-                quadrature = buf.getFloat();
-            } else if (format == BinaryIqFormat.FLOAT_64) {
-                inPhase = buf.getDouble();
-                quadrature = buf.getDouble();
-            } else {
-                throw new SignalProcessingException(format + " is currently not supported");
-            }
+            double inPhase = BinaryIqDecoder.decode(buf, format);
+            double quadrature = BinaryIqDecoder.decode(buf, format);
             iqValueList.add(new Complex(inPhase, quadrature));
         }
         return new TimeDomainSignal(iqValueList, sampleRate);
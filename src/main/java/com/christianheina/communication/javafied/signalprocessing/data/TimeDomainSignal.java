@@ -16,11 +16,16 @@
 
 package com.christianheina.communication.javafied.signalprocessing.data;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import org.apache.commons.math3.complex.Complex;
 
 import com.christianheina.common.math.ComplexAdditions;
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.window.Window;
+import com.christianheina.communication.javafied.signalprocessing.window.WindowFactory;
 
 /**
  * Class for handling time domain signals.
@@ -44,4 +49,41 @@ public class TimeDomainSignal extends Signal {
                 sampleRate);
     }
 
+    /**
+     * Converts {@link TimeDomainSignal} to {@link FrequencyDomainSignal} after applying a window. The spectrum is
+     * corrected by the window coherent gain so sinusoids keep their power.
+     * 
+     * @param windowType
+     *            window to apply
+     * 
+     * @return {@link FrequencyDomainSignal}
+     */
+    public FrequencyDomainSignal asFrequencyDomainSignal(WindowType windowType) {
+        return asFrequencyDomainSignal(WindowFactory.getWindow(windowType, iqDataList.size()));
+    }
+
+    /**
+     * Converts {@link TimeDomainSignal} to {@link FrequencyDomainSignal} after applying a window. The spectrum is
+     * corrected by the window coherent gain so sinusoids keep their power.
+     * 
+     * @param window
+     *            window to apply, needs to be the same length as the IQ data list
+     * 
+     * @return {@link FrequencyDomainSignal}
+     */
+    public FrequencyDomainSignal asFrequencyDomainSignal(Window window) {
+        if (window.getLength() != iqDataList.size()) {
+            throw new SignalProcessingException("Window length needs to match IQ data length");
+        }
+        double scale = 1 / window.getCoherentGain();
+        List<Complex> windowedList = new ArrayList<>(iqDataList.size());
+        int index = 0;
+        for (Complex sample : iqDataList) {
+            windowedList.add(sample.multiply(window.getCoefficient(index++) * scale));
+        }
+        return new FrequencyDomainSignal(
+                ComplexAdditions.normalizeBySizeOfList(ComplexAdditions.fftShift(ComplexAdditions.fft(windowedList))),
+                sampleRate);
+    }
+
 }
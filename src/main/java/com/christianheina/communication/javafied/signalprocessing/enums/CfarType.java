@@ -0,0 +1,33 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.enums;
+
+/**
+ * Enum for handling supported constant false alarm rate (CFAR) noise estimators
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public enum CfarType {
+    /**
+     * Cell averaging, noise is the mean power of the training cells
+     */
+    CELL_AVERAGING,
+    /**
+     * Ordered statistic, noise is a selected rank of the sorted training cells
+     */
+    ORDERED_STATISTIC;
+}
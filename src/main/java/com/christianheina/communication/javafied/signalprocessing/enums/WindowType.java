@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.enums;
+
+/**
+ * Window functions used for spectral analysis and filter design.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public enum WindowType {
+    /**
+     * Rectangular window, all coefficients equal to one
+     */
+    RECTANGULAR(0),
+    /**
+     * Hann (raised cosine) window
+     */
+    HANN(0),
+    /**
+     * Hamming window
+     */
+    HAMMING(0),
+    /**
+     * 4-term Blackman-Harris window
+     */
+    BLACKMAN_HARRIS(0),
+    /**
+     * Flat top window for accurate amplitude measurements
+     */
+    FLAT_TOP(0),
+    /**
+     * Kaiser window, parameter is the shape factor beta
+     */
+    KAISER(8.6),
+    /**
+     * Tukey (tapered cosine) window, parameter is the fraction of the window inside the cosine tapers
+     */
+    TUKEY(0.5);
+
+    private double defaultParameter;
+
+    WindowType(double defaultParameter) {
+        this.defaultParameter = defaultParameter;
+    }
+
+    /**
+     * Retrieve default window parameter. Only used by {@link #KAISER} and {@link #TUKEY}.
+     * 
+     * @return default parameter
+     */
+    public double getDefaultParameter() {
+        return defaultParameter;
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Streaming IIR filter implemented as a cascade of second order sections (biquads) with real coefficients applied to IQ
+ * data.<br>
+ * Each section is {@code H(z) = (b0 + b1 z^-1 + b2 z^-2) / (a0 + a1 z^-1 + a2 z^-2)} and is run in transposed direct
+ * form II, costing five multiply-accumulates per section for I and Q each. Filtering is done in place one section at a
+ * time over the whole block and state is carried between calls so a stream can be filtered block by block without
+ * allocating. Since coefficients are real the response is the same for positive and negative frequencies relative to IQ
+ * center. Use {@link IirFilterFactory} to design filters.<br>
+ * <strong>Note!</strong> A filter is not thread safe, use one filter per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class BiquadFilter {
+
+    private final double[][] sections;
+    private final double[] state;
+
+    /**
+     * Constructor
+     * 
+     * @param sections
+     *            second order sections as {@code [b0, b1, b2, a0, a1, a2]}, at least one, a0 may not be 0
+     */
+    public BiquadFilter(double[][] sections) {
+        if (sections.length == 0) {
+            throw new SignalProcessingException("Filter needs at least 1 section");
+        }
+        this.sections = new double[sections.length][];
+        for (int s = 0; s < sections.length; s++) {
+            double[] section = sections[s];
+            if (section.length != 6 || section[3] == 0) {
+                throw new SignalProcessingException("Section needs 6 coefficients with a0 not 0");
+            }
+            this.sections[s] = new double[6];
+            for (int c = 0; c < 6; c++) {
+                this.sections[s][c] = section[c] / section[3];
+            }
+        }
+        this.state = new double[4 * sections.length];
+    }
+
+    /**
+     * Filter IQ samples stored as I and Q pairs in place.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs, overwritten with filtered values
+     * @param offset
+     *            index of the first sample (not array index) to filter
+     * @param samples
+     *            number of samples to filter
+     */
+    public void process(double[] iqArray, int offset, int samples) {
+        if (offset < 0 || samples < 0 || 2 * ((long) offset + samples) > iqArray.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int end = 2 * (offset + samples);
+        for (int s = 0; s < sections.length; s++) {
+            double b0 = sections[s][0];
+            double b1 = sections[s][1];
+            double b2 = sections[s][2];
+            double a1 = sections[s][4];
+            double a2 = sections[s][5];
+            double inPhase1 = state[4 * s];
+            double inPhase2 = state[4 * s + 1];
+            double quadrature1 = state[4 * s + 2];
+            double quadrature2 = state[4 * s + 3];
+            for (int i = 2 * offset; i < end; i += 2) {
+                double inPhase = iqArray[i];
+                double quadrature = iqArray[i + 1];
+                double inPhaseOut = b0 * inPhase + inPhase1;
+                double quadratureOut = b0 * quadrature + quadrature1;
+                inPhase1 = b1 * inPhase - a1 * inPhaseOut + inPhase2;
+                quadrature1 = b1 * quadrature - a1 * quadratureOut + quadrature2;
+                inPhase2 = b2 * inPhase - a2 * inPhaseOut;
+                quadrature2 = b2 * quadrature - a2 * quadratureOut;
+                iqArray[i] = inPhaseOut;
+                iqArray[i + 1] = quadratureOut;
+            }
+            state[4 * s] = inPhase1;
+            state[4 * s + 1] = inPhase2;
+            state[4 * s + 2] = quadrature1;
+            state[4 * s + 3] = quadrature2;
+        }
+    }
+
+    /**
+     * Filter all samples in {@link TimeDomainSignal}, continuing from the current state.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to filter
+     * 
+     * @return filtered {@link TimeDomainSignal} with the same number of samples and sample rate
+     */
+    public TimeDomainSignal process(TimeDomainSignal signal) {
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        process(iqArray, 0, iqArray.length / 2);
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(iqArray), signal.getSampleRate());
+    }
+
+    /**
+     * Filter a complete {@link TimeDomainSignal}. The filter is reset before filtering.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to filter
+     * 
+     * @return filtered {@link TimeDomainSignal} with the same number of samples and sample rate
+     */
+    public TimeDomainSignal filter(TimeDomainSignal signal) {
+        reset();
+        return process(signal);
+    }
+
+    /**
+     * Calculate filter frequency response.
+     * 
+     * @param frequency
+     *            frequency in Hz relative to IQ center
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * 
+     * @return complex gain at frequency
+     */
+    public Complex frequencyResponse(double frequency, int sampleRate) {
+        double omega = 2 * Math.PI * frequency / sampleRate;
+        Complex z1 = new Complex(Math.cos(omega), -Math.sin(omega));
+        Complex z2 = z1.multiply(z1);
+        Complex response = Complex.ONE;
+        for (double[] section : sections) {
+            Complex numerator = z2.multiply(section[2]).add(z1.multiply(section[1])).add(section[0]);
+            Complex denominator = z2.multiply(section[5]).add(z1.multiply(section[4])).add(section[3]);
+            response = response.multiply(numerator.divide(denominator));
+        }
+        return response;
+    }
+
+    /**
+     * Reset filter to its initial state.
+     */
+    public void reset() {
+        Arrays.fill(state, 0);
+    }
+
+    /**
+     * Retrieve second order sections normalized so that a0 is 1
+     * 
+     * @return copy of sections as {@code [b0, b1, b2, a0, a1, a2]}
+     */
+    public double[][] getSections() {
+        double[][] copy = new double[sections.length][];
+        for (int s = 0; s < sections.length; s++) {
+            copy[s] = sections[s].clone();
+        }
+        return copy;
+    }
+
+    /**
+     * Retrieve number of second order sections
+     * 
+     * @return section count
+     */
+    public int getSectionCount() {
+        return sections.length;
+    }
+
+}
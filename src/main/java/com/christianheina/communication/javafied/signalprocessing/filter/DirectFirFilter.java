@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.Arrays;
+
+/**
+ * Direct form FIR filter, each sample costs one multiply-accumulate per tap and output is produced immediately.<br>
+ * The sample history is stored twice in a row so the latest samples are always contiguous and no index wrapping is
+ * needed in the inner loop. Best suited for short filters.<br>
+ * <strong>Note!</strong> A filter is not thread safe, use one filter per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class DirectFirFilter extends FirFilter {
+
+    private final double[] reversedTaps;
+    private final double[] history;
+    private int position;
+
+    /**
+     * Constructor
+     * 
+     * @param taps
+     *            filter taps, at least one
+     */
+    public DirectFirFilter(double[] taps) {
+        super(taps);
+        this.reversedTaps = new double[taps.length];
+        for (int i = 0; i < taps.length; i++) {
+            reversedTaps[i] = taps[taps.length - 1 - i];
+        }
+        this.history = new double[4 * taps.length];
+    }
+
+    @Override
+    public int process(double[] iqArray, int offset, int samples, double[] output, int outputOffset) {
+        checkRange(iqArray, offset, samples);
+        checkRange(output, outputOffset, samples);
+        int length = reversedTaps.length;
+        for (int n = 0; n < samples; n++) {
+            double inPhase = iqArray[2 * (offset + n)];
+            double quadrature = iqArray[2 * (offset + n) + 1];
+            history[2 * position] = inPhase;
+            history[2 * position + 1] = quadrature;
+            history[2 * (position + length)] = inPhase;
+            history[2 * (position + length) + 1] = quadrature;
+            position = position + 1 == length ? 0 : position + 1;
+
+            // Oldest sample needed is at position, newest at position + length - 1
+            double real = 0;
+            double imag = 0;
+            int h = 2 * position;
+            for (int k = 0; k < length; k++) {
+                real += reversedTaps[k] * history[h++];
+                imag += reversedTaps[k] * history[h++];
+            }
+            output[2 * (outputOffset + n)] = real;
+            output[2 * (outputOffset + n) + 1] = imag;
+        }
+        return samples;
+    }
+
+    @Override
+    public int flush(double[] output, int outputOffset) {
+        reset();
+        return 0;
+    }
+
+    @Override
+    public int outputSamplesFor(int samples) {
+        return samples;
+    }
+
+    @Override
+    public int getBufferedSamples() {
+        return 0;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(history, 0);
+        position = 0;
+    }
+
+}
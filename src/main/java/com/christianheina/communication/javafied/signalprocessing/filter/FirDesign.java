@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.math3.complex.Complex;
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Designed FIR filter taps together with lazily calculated tap spectra for FFT convolution. Spectra are calculated once
+ * per FFT size and then shared, so filters created from the same design skip both the design and the tap FFT. Instances
+ * are immutable and thread safe, see {@link FirDesignFactory}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FirDesign {
+
+    private final double[] taps;
+    private final Map<Integer, double[]> spectra = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor
+     * 
+     * @param taps
+     *            filter taps, at least one
+     */
+    public FirDesign(double[] taps) {
+        if (taps.length == 0) {
+            throw new SignalProcessingException("Filter needs at least 1 tap");
+        }
+        this.taps = taps.clone();
+    }
+
+    /**
+     * Retrieve filter taps
+     * 
+     * @return copy of filter taps
+     */
+    public double[] getTaps() {
+        return taps.clone();
+    }
+
+    /**
+     * Retrieve number of filter taps
+     * 
+     * @return number of taps
+     */
+    public int getLength() {
+        return taps.length;
+    }
+
+    /**
+     * Retrieve FFT of the taps zero padded to FFT size.
+     * 
+     * @param fftSize
+     *            FFT size, at least the number of taps
+     * 
+     * @return copy of spectrum as I and Q pairs with zero frequency first
+     */
+    public double[] getTapSpectrum(int fftSize) {
+        return tapSpectrum(fftSize).clone();
+    }
+
+    /**
+     * Shared spectrum, may not be modified.
+     */
+    double[] tapSpectrum(int fftSize) {
+        if (fftSize < taps.length) {
+            throw new SignalProcessingException("FFT size needs to be at least the number of taps");
+        }
+        return spectra.computeIfAbsent(fftSize, size -> {
+            double[] spectrum = new double[2 * size];
+            for (int i = 0; i < taps.length; i++) {
+                spectrum[2 * i] = taps[i];
+            }
+            new DoubleFFT_1D(size).complexForward(spectrum);
+            return spectrum;
+        });
+    }
+
+    /**
+     * Calculate filter frequency response.
+     * 
+     * @param frequency
+     *            frequency in Hz relative to IQ center
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * 
+     * @return complex gain at frequency
+     */
+    public Complex frequencyResponse(double frequency, int sampleRate) {
+        double omega = 2 * Math.PI * frequency / sampleRate;
+        double real = 0;
+        double imag = 0;
+        for (int n = 0; n < taps.length; n++) {
+            real += taps[n] * Math.cos(omega * n);
+            imag -= taps[n] * Math.sin(omega * n);
+        }
+        return new Complex(real, imag);
+    }
+
+}
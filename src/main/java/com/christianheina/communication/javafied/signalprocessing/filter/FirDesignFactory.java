@@ -0,0 +1,555 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.FilterType;
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.window.Window;
+import com.christianheina.communication.javafied.signalprocessing.window.WindowFactory;
+
+/**
+ * Factory designing linear phase FIR filters as {@link FirDesign}.<br>
+ * Designs are cached by their parameters in a bounded cache shared by all threads, requesting the same filter again
+ * returns the same {@link FirDesign} including its already calculated tap spectra. When the cache is full the least
+ * recently used designs are evicted first. Cutoff frequencies are given in Hz relative to IQ center and apply
+ * symmetrically to positive and negative frequencies. High pass and band stop filters need an odd number of taps.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FirDesignFactory {
+
+    private static final int MAX_CACHE_SIZE = 256;
+    private static final int GRID_DENSITY = 16;
+    private static final int MAX_ITERATIONS = 100;
+    private static final double CONVERGENCE = 1E-6;
+
+    // Access ordered, guarded by itself
+    private static final Map<Key, FirDesign> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+    private FirDesignFactory() {
+        /* Hidden Constructor */
+    }
+
+    /**
+     * Design windowed-sinc filter, the ideal response truncated by a window. Cutoff frequencies are where the response
+     * is -6 dB, stopband attenuation and transition width are set by window type and length.
+     * 
+     * @param type
+     *            filter type
+     * @param length
+     *            number of taps
+     * @param window
+     *            window type, see {@link WindowFactory#getSymmetricWindow(WindowType, int)}
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param cutoffs
+     *            cutoff frequencies in Hz, one for low and high pass, lower and upper for band pass and band stop
+     * 
+     * @return cached {@link FirDesign}
+     */
+    public static FirDesign newWindowedSincDesign(FilterType type, int length, WindowType window, int sampleRate,
+            double... cutoffs) {
+        if (length < 1) {
+            throw new SignalProcessingException("Filter needs at least 1 tap");
+        }
+        return newWindowedSincDesign(type, WindowFactory.getSymmetricWindow(window, length), sampleRate, cutoffs);
+    }
+
+    /**
+     * Design windowed-sinc filter truncated by a given window, use this to choose the window parameter such as the
+     * Kaiser beta. The number of taps is the window length.
+     * 
+     * @param type
+     *            filter type
+     * @param window
+     *            symmetric window, see {@link WindowFactory#getSymmetricWindow(WindowType, int, double)}
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param cutoffs
+     *            cutoff frequencies in Hz, one for low and high pass, lower and upper for band pass and band stop
+     * 
+     * @return cached {@link FirDesign}
+     */
+    public static FirDesign newWindowedSincDesign(FilterType type, Window window, int sampleRate, double... cutoffs) {
+        if (!window.isSymmetric()) {
+            throw new SignalProcessingException("Windowed-sinc design needs a symmetric window");
+        }
+        int length = window.getLength();
+        double[] normalized = normalize(type, length, sampleRate, 0, cutoffs);
+        return getDesign(new Key("SINC", type, length, window.getType(), window.getParameter(), 0, normalized),
+                () -> windowedSinc(type, window, normalized));
+    }
+
+    /**
+     * Design equiripple filter with the Parks-McClellan (Remez exchange) algorithm, minimizing the largest deviation
+     * from the ideal response with equal weight in passbands and stopbands. Each cutoff frequency is the center of a
+     * transition band.
+     * 
+     * @param type
+     *            filter type
+     * @param length
+     *            number of taps, odd
+     * @param transitionWidth
+     *            width in Hz of each transition band
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param cutoffs
+     *            cutoff frequencies in Hz, one for low and high pass, lower and upper for band pass and band stop
+     * 
+     * @return cached {@link FirDesign}
+     */
+    public static FirDesign newEquirippleDesign(FilterType type, int length, double transitionWidth, int sampleRate,
+            double... cutoffs) {
+        if (length % 2 == 0) {
+            throw new SignalProcessingException("Equiripple design needs an odd number of taps");
+        }
+        double width = transitionWidth / sampleRate;
+        double[] normalized = normalize(type, length, sampleRate, width, cutoffs);
+        return getDesign(new Key("REMEZ", type, length, null, 0, width, normalized),
+                () -> remez(length, bands(type, width, normalized)));
+    }
+
+    /**
+     * Design equiripple half-band low-pass filter with cutoff at a quarter of the sample rate. Every other tap except
+     * the center tap is exactly zero, halving the cost of filtering, which makes it the standard building block for
+     * decimation and interpolation by two.
+     * 
+     * @param length
+     *            number of taps, 3, 7, 11, ... so that the outermost taps are not zero
+     * @param transitionWidth
+     *            width in Hz of the transition band centered at a quarter of the sample rate
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * 
+     * @return cached {@link FirDesign}
+     */
+    public static FirDesign newHalfBandDesign(int length, double transitionWidth, int sampleRate) {
+        if (length % 4 != 3) {
+            throw new SignalProcessingException("Half-band design needs 3, 7, 11, ... taps");
+        }
+        double width = transitionWidth / sampleRate;
+        if (!(width > 0) || width >= 0.5) {
+            throw new SignalProcessingException("Transition width needs to be between 0 and half sample rate");
+        }
+        return getDesign(new Key("HALF_BAND", FilterType.LOW_PASS, length, null, 0, width, new double[0]), () -> {
+            double[] taps = remez(length, bands(FilterType.LOW_PASS, width, new double[] { 0.25 }));
+            // The optimal design is half-band, make the zeros exact
+            int center = length / 2;
+            for (int n = 0; n < length; n++) {
+                int offset = Math.abs(n - center);
+                if (offset == 0) {
+                    taps[n] = 0.5;
+                } else if (offset % 2 == 0) {
+                    taps[n] = 0;
+                }
+            }
+            return taps;
+        });
+    }
+
+    /**
+     * Remove all cached designs.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Number of cached designs.
+     */
+    static int cacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    private static FirDesign getDesign(Key key, Supplier<double[]> designer) {
+        synchronized (CACHE) {
+            FirDesign design = CACHE.get(key);
+            if (design != null) {
+                return design;
+            }
+        }
+        // Design outside the lock, other threads keep using the cache meanwhile
+        FirDesign created = new FirDesign(designer.get());
+        synchronized (CACHE) {
+            FirDesign existing = CACHE.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            CACHE.put(key, created);
+            Iterator<Key> eldest = CACHE.keySet().iterator();
+            while (CACHE.size() > MAX_CACHE_SIZE) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return created;
+    }
+
+    private static double[] normalize(FilterType type, int length, int sampleRate, double width, double... cutoffs) {
+        if (length < 1) {
+            throw new SignalProcessingException("Filter needs at least 1 tap");
+        }
+        if ((type == FilterType.HIGH_PASS || type == FilterType.BAND_STOP) && length % 2 == 0) {
+            throw new SignalProcessingException(type + " needs an odd number of taps");
+        }
+        int expected = type == FilterType.LOW_PASS || type == FilterType.HIGH_PASS ? 1 : 2;
+        if (cutoffs.length != expected) {
+            throw new SignalProcessingException(type + " needs " + expected + " cutoff frequencies");
+        }
+        if (width < 0 || Double.isNaN(width)) {
+            throw new SignalProcessingException("Transition width needs to be positive");
+        }
+        double[] normalized = new double[cutoffs.length];
+        double previous = 0;
+        for (int i = 0; i < cutoffs.length; i++) {
+            normalized[i] = cutoffs[i] / sampleRate;
+            if (!(normalized[i] - width / 2 > previous) || normalized[i] + width / 2 >= 0.5) {
+                throw new SignalProcessingException(
+                        "Cutoff frequencies and transition bands need to be ascending between 0 and half sample rate");
+            }
+            previous = normalized[i] + width / 2;
+        }
+        return normalized;
+    }
+
+    private static double[] windowedSinc(FilterType type, Window window, double[] cutoffs) {
+        int length = window.getLength();
+        double center = (length - 1) / 2.0;
+        double[] taps = new double[length];
+        for (int n = 0; n < length; n++) {
+            double t = n - center;
+            double ideal;
+            if (type == FilterType.LOW_PASS) {
+                ideal = sinc(cutoffs[0], t);
+            } else if (type == FilterType.HIGH_PASS) {
+                ideal = (t == 0 ? 1 : 0) - sinc(cutoffs[0], t);
+            } else if (type == FilterType.BAND_PASS) {
+                ideal = sinc(cutoffs[1], t) - sinc(cutoffs[0], t);
+            } else {
+                ideal = (t == 0 ? 1 : 0) - sinc(cutoffs[1], t) + sinc(cutoffs[0], t);
+            }
+            taps[n] = ideal * window.getCoefficient(n);
+        }
+        // Unit gain in the middle of the passband
+        double reference;
+        if (type == FilterType.LOW_PASS || type == FilterType.BAND_STOP) {
+            reference = 0;
+        } else if (type == FilterType.HIGH_PASS) {
+            reference = 0.5;
+        } else {
+            reference = (cutoffs[0] + cutoffs[1]) / 2;
+        }
+        double gain = 0;
+        for (int n = 0; n < length; n++) {
+            gain += taps[n] * Math.cos(2 * Math.PI * reference * (n - center));
+        }
+        for (int n = 0; n < length; n++) {
+            taps[n] /= gain;
+        }
+        return taps;
+    }
+
+    /**
+     * Ideal low-pass impulse response with normalized cutoff at time t.
+     */
+    private static double sinc(double cutoff, double t) {
+        if (t == 0) {
+            return 2 * cutoff;
+        }
+        return Math.sin(2 * Math.PI * cutoff * t) / (Math.PI * t);
+    }
+
+    /**
+     * Bands as {@code [low, high, desired]} in normalized frequency from 0 to 0.5.
+     */
+    private static List<double[]> bands(FilterType type, double width, double[] cutoffs) {
+        double half = width / 2;
+        List<double[]> bands = new ArrayList<>();
+        if (type == FilterType.LOW_PASS) {
+            bands.add(new double[] { 0, cutoffs[0] - half, 1 });
+            bands.add(new double[] { cutoffs[0] + half, 0.5, 0 });
+        } else if (type == FilterType.HIGH_PASS) {
+            bands.add(new double[] { 0, cutoffs[0] - half, 0 });
+            bands.add(new double[] { cutoffs[0] + half, 0.5, 1 });
+        } else {
+            double outer = type == FilterType.BAND_PASS ? 0 : 1;
+            bands.add(new double[] { 0, cutoffs[0] - half, outer });
+            bands.add(new double[] { cutoffs[0] + half, cutoffs[1] - half, 1 - outer });
+            bands.add(new double[] { cutoffs[1] + half, 0.5, outer });
+        }
+        return bands;
+    }
+
+    /**
+     * Parks-McClellan design of odd length symmetric filter. The amplitude response is a cosine polynomial of degree
+     * (length - 1) / 2 whose weighted error is made equiripple over a dense frequency grid by the Remez exchange
+     * algorithm, with barycentric Lagrange interpolation between extremal frequencies.
+     */
+    private static double[] remez(int length, List<double[]> bands) {
+        int degree = (length - 1) / 2;
+        int extremals = degree + 2;
+        if (degree == 0) {
+            return new double[] { bands.get(0)[2] };
+        }
+
+        // Dense grid over the bands
+        double spacing = 0.5 / (GRID_DENSITY * (degree + 1));
+        List<Double> frequencyList = new ArrayList<>();
+        List<Double> desiredList = new ArrayList<>();
+        for (double[] band : bands) {
+            int points = Math.max(2, (int) Math.ceil((band[1] - band[0]) / spacing) + 1);
+            for (int i = 0; i < points; i++) {
+                frequencyList.add(band[0] + (band[1] - band[0]) * i / (points - 1));
+                desiredList.add(band[2]);
+            }
+        }
+        int gridSize = frequencyList.size();
+        if (gridSize < extremals) {
+            throw new SignalProcessingException("Bands are too narrow for the number of taps");
+        }
+        double[] grid = new double[gridSize];
+        double[] x = new double[gridSize];
+        double[] desired = new double[gridSize];
+        int[] bandEnd = new int[gridSize];
+        for (int i = 0; i < gridSize; i++) {
+            grid[i] = frequencyList.get(i);
+            x[i] = Math.cos(2 * Math.PI * grid[i]);
+            desired[i] = desiredList.get(i);
+        }
+        int start = 0;
+        for (double[] band : bands) {
+            int points = Math.max(2, (int) Math.ceil((band[1] - band[0]) / spacing) + 1);
+            Arrays.fill(bandEnd, start, start + points, start + points);
+            start += points;
+        }
+
+        int[] extremal = new int[extremals];
+        for (int i = 0; i < extremals; i++) {
+            extremal[i] = (int) ((long) i * (gridSize - 1) / (extremals - 1));
+        }
+        double[] error = new double[gridSize];
+        double[] nodes = new double[degree + 1];
+        double[] values = new double[degree + 1];
+        double[] weights = new double[degree + 1];
+        for (int iteration = 0; iteration < MAX_ITERATIONS; iteration++) {
+            // Deviation from the alternation theorem over all extremals
+            double[] all = new double[extremals];
+            for (int i = 0; i < extremals; i++) {
+                all[i] = x[extremal[i]];
+            }
+            double[] allWeights = barycentricWeights(all);
+            double numerator = 0;
+            double denominator = 0;
+            for (int i = 0; i < extremals; i++) {
+                numerator += allWeights[i] * desired[extremal[i]];
+                denominator += allWeights[i] * (i % 2 == 0 ? 1 : -1);
+            }
+            double delta = numerator / denominator;
+            // Interpolate through all but the last extremal
+            for (int i = 0; i <= degree; i++) {
+                nodes[i] = all[i];
+                values[i] = desired[extremal[i]] - (i % 2 == 0 ? 1 : -1) * delta;
+            }
+            System.arraycopy(barycentricWeights(nodes), 0, weights, 0, degree + 1);
+            double maxError = 0;
+            for (int i = 0; i < gridSize; i++) {
+                error[i] = desired[i] - interpolate(x[i], nodes, values, weights);
+                maxError = Math.max(maxError, Math.abs(error[i]));
+            }
+            int[] next = findExtremals(error, bandEnd, extremals);
+            if (next == null) {
+                break;
+            }
+            boolean converged = (maxError - Math.abs(delta)) <= CONVERGENCE * Math.abs(delta)
+                    || Arrays.equals(next, extremal);
+            extremal = next;
+            if (converged) {
+                break;
+            }
+        }
+
+        // Final amplitude response through the last extremals, sampled at length uniform frequencies
+        double[] all = new double[extremals];
+        for (int i = 0; i < extremals; i++) {
+            all[i] = x[extremal[i]];
+        }
+        double[] allWeights = barycentricWeights(all);
+        double numerator = 0;
+        double denominator = 0;
+        for (int i = 0; i < extremals; i++) {
+            numerator += allWeights[i] * desired[extremal[i]];
+            denominator += allWeights[i] * (i % 2 == 0 ? 1 : -1);
+        }
+        double delta = numerator / denominator;
+        for (int i = 0; i <= degree; i++) {
+            nodes[i] = all[i];
+            values[i] = desired[extremal[i]] - (i % 2 == 0 ? 1 : -1) * delta;
+        }
+        weights = barycentricWeights(nodes);
+        double[] amplitude = new double[degree + 1];
+        for (int k = 0; k <= degree; k++) {
+            amplitude[k] = interpolate(Math.cos(2 * Math.PI * k / length), nodes, values, weights);
+        }
+        // Inverse DFT of a real symmetric amplitude response
+        double[] taps = new double[length];
+        for (int n = 0; n <= degree; n++) {
+            double sum = amplitude[0];
+            for (int k = 1; k <= degree; k++) {
+                sum += 2 * amplitude[k] * Math.cos(2 * Math.PI * k * n / length);
+            }
+            taps[degree + n] = sum / length;
+            taps[degree - n] = sum / length;
+        }
+        return taps;
+    }
+
+    private static double[] barycentricWeights(double[] nodes) {
+        double[] weights = new double[nodes.length];
+        for (int k = 0; k < nodes.length; k++) {
+            double product = 1;
+            for (int j = 0; j < nodes.length; j++) {
+                if (j != k) {
+                    // Factor 2 keeps the product from underflowing for many nodes
+                    product *= 2 * (nodes[k] - nodes[j]);
+                }
+            }
+            weights[k] = 1 / product;
+        }
+        return weights;
+    }
+
+    private static double interpolate(double x, double[] nodes, double[] values, double[] weights) {
+        double numerator = 0;
+        double denominator = 0;
+        for (int k = 0; k < nodes.length; k++) {
+            double difference = x - nodes[k];
+            if (difference == 0) {
+                return values[k];
+            }
+            double term = weights[k] / difference;
+            numerator += term * values[k];
+            denominator += term;
+        }
+        return numerator / denominator;
+    }
+
+    /**
+     * Local extrema of the error within each band with alternating sign, reduced to the requested count by keeping the
+     * largest. Returns null when there are too few.
+     */
+    private static int[] findExtremals(double[] error, int[] bandEnd, int count) {
+        List<Integer> candidates = new ArrayList<>();
+        int bandStart = 0;
+        for (int i = 0; i < error.length; i++) {
+            if (i == bandEnd[bandStart]) {
+                bandStart = i;
+            }
+            boolean first = i == bandStart;
+            boolean last = i == bandEnd[i] - 1;
+            double magnitude = Math.abs(error[i]);
+            boolean aboveLeft = first || magnitude >= Math.abs(error[i - 1]) || sign(error[i - 1]) != sign(error[i]);
+            boolean aboveRight = last || magnitude > Math.abs(error[i + 1]) || sign(error[i + 1]) != sign(error[i]);
+            if (aboveLeft && aboveRight) {
+                candidates.add(i);
+            }
+        }
+        // Alternating signs, keep the largest of neighbours with the same sign
+        List<Integer> alternating = new ArrayList<>();
+        for (int candidate : candidates) {
+            if (alternating.isEmpty()) {
+                alternating.add(candidate);
+                continue;
+            }
+            int previous = alternating.get(alternating.size() - 1);
+            if (sign(error[candidate]) != sign(error[previous])) {
+                alternating.add(candidate);
+            } else if (Math.abs(error[candidate]) > Math.abs(error[previous])) {
+                alternating.set(alternating.size() - 1, candidate);
+            }
+        }
+        if (alternating.size() < count) {
+            return null;
+        }
+        while (alternating.size() > count) {
+            int firstIndex = alternating.get(0);
+            int lastIndex = alternating.get(alternating.size() - 1);
+            if (Math.abs(error[firstIndex]) < Math.abs(error[lastIndex])) {
+                alternating.remove(0);
+            } else {
+                alternating.remove(alternating.size() - 1);
+            }
+        }
+        return alternating.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static int sign(double value) {
+        return value >= 0 ? 1 : -1;
+    }
+
+    private static final class Key {
+        private final String method;
+        private final FilterType type;
+        private final int length;
+        private final WindowType window;
+        private final double parameter;
+        private final double width;
+        private final double[] cutoffs;
+
+        private Key(String method, FilterType type, int length, WindowType window, double parameter, double width,
+                double[] cutoffs) {
+            this.method = method;
+            this.type = type;
+            this.length = length;
+            this.window = window;
+            this.parameter = parameter;
+            this.width = width;
+            this.cutoffs = cutoffs;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return method.equals(other.method) && type == other.type && length == other.length && window == other.window
+                    && Double.compare(parameter, other.parameter) == 0 && Double.compare(width, other.width) == 0
+                    && Arrays.equals(cutoffs, other.cutoffs);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(method, type, length, window, parameter, width, Arrays.hashCode(cutoffs));
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Base class for streaming FIR filters with real taps applied to IQ data.<br>
+ * Output sample n is {@code sum(taps[k] * input[n - k])} with the stream starting from zero state, so output is aligned
+ * with input and delayed by the filter itself only. State is carried between calls so a stream can be filtered block by
+ * block in constant memory. Implementations may buffer input internally and then produce output later, use
+ * {@link #outputSamplesFor(int)} to know how many output samples a call produces and {@link #flush(double[], int)} to
+ * retrieve the remaining output at the end of a stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public abstract class FirFilter {
+
+    /**
+     * Filter taps.
+     */
+    protected final double[] taps;
+
+    /**
+     * Constructor
+     * 
+     * @param taps
+     *            filter taps, at least one
+     */
+    protected FirFilter(double[] taps) {
+        if (taps.length == 0) {
+            throw new SignalProcessingException("Filter needs at least 1 tap");
+        }
+        this.taps = taps.clone();
+    }
+
+    /**
+     * Filter IQ samples stored as I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to filter
+     * @param samples
+     *            number of samples to filter
+     * @param output
+     *            array to write filtered I and Q pairs to, needs room for {@link #outputSamplesFor(int)} samples, may
+     *            be the same array as iqArray if output does not overlap input not yet read
+     * @param outputOffset
+     *            index of the first sample (not array index) to write
+     * 
+     * @return number of samples written to output
+     */
+    public abstract int process(double[] iqArray, int offset, int samples, double[] output, int outputOffset);
+
+    /**
+     * Write output for all buffered input, treating the stream as ended. The filter is reset afterwards.
+     * 
+     * @param output
+     *            array to write filtered I and Q pairs to, needs room for {@link #getBufferedSamples()} samples
+     * @param outputOffset
+     *            index of the first sample (not array index) to write
+     * 
+     * @return number of samples written to output
+     */
+    public abstract int flush(double[] output, int outputOffset);
+
+    /**
+     * Number of output samples the next {@link #process(double[], int, int, double[], int)} call will produce.
+     * 
+     * @param samples
+     *            number of input samples
+     * 
+     * @return number of output samples
+     */
+    public abstract int outputSamplesFor(int samples);
+
+    /**
+     * Number of input samples received whose output has not yet been produced.
+     * 
+     * @return buffered samples
+     */
+    public abstract int getBufferedSamples();
+
+    /**
+     * Reset filter to its initial state.
+     */
+    public abstract void reset();
+
+    /**
+     * Filter a complete {@link TimeDomainSignal}. The filter is reset before and after filtering.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to filter
+     * 
+     * @return filtered {@link TimeDomainSignal} with the same number of samples and sample rate
+     */
+    public TimeDomainSignal filter(TimeDomainSignal signal) {
+        reset();
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        int samples = iqArray.length / 2;
+        double[] output = new double[iqArray.length];
+        int written = process(iqArray, 0, samples, output, 0);
+        flush(output, written);
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(output), signal.getSampleRate());
+    }
+
+    /**
+     * Check that sample ranges fit in their arrays.
+     * 
+     * @param iqArray
+     *            input array
+     * @param offset
+     *            input sample offset
+     * @param samples
+     *            number of input samples
+     */
+    protected static void checkRange(double[] iqArray, int offset, int samples) {
+        if (offset < 0 || samples < 0 || 2 * ((long) offset + samples) > iqArray.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+    }
+
+    /**
+     * Retrieve filter taps
+     * 
+     * @return filter taps
+     */
+    public double[] getTaps() {
+        return taps.clone();
+    }
+
+    /**
+     * Retrieve number of filter taps
+     * 
+     * @return number of taps
+     */
+    public int getLength() {
+        return taps.length;
+    }
+
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.Random;
+
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Factory for {@link FirFilter} choosing between direct form and overlap-save FFT convolution.<br>
+ * The choice is made by a cost model counting floating point operations per output sample. Direct form costs four
+ * operations per tap. Overlap-save costs two FFTs of about {@code 5 N log2(N)} operations plus the spectrum product per
+ * block of {@code N - taps + 1} output samples, where the FFT size N giving the lowest cost is selected. The relative
+ * speed of the two methods depends on the machine, {@link #calibrate()} measures it once and adjusts the model.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FirFilterFactory {
+
+    private static final int MAX_FFT_SIZE = 1 << 24;
+    private static final int CALIBRATION_TAPS = 64;
+    private static final int CALIBRATION_SAMPLES = 1 << 15;
+    private static final double MAX_SCALE = 4;
+
+    private static volatile double fftCostScale = 1;
+
+    private FirFilterFactory() {
+        /* Hidden Constructor */
+    }
+
+    /**
+     * Create filter for a stream of unknown length.
+     * 
+     * @param taps
+     *            filter taps, at least one
+     * 
+     * @return filter with the lowest expected cost per sample
+     */
+    public static FirFilter newFirFilter(double[] taps) {
+        return newFirFilter(taps, Long.MAX_VALUE);
+    }
+
+    /**
+     * Create filter for a known number of samples, for example the length of a signal or of the blocks in a stream.
+     * 
+     * @param taps
+     *            filter taps, at least one
+     * @param samples
+     *            number of samples that will be filtered
+     * 
+     * @return filter with the lowest expected cost for the number of samples
+     */
+    public static FirFilter newFirFilter(double[] taps, long samples) {
+        if (taps.length == 0) {
+            throw new SignalProcessingException("Filter needs at least 1 tap");
+        }
+        return newFirFilter(new FirDesign(taps), samples);
+    }
+
+    /**
+     * Create filter from a {@link FirDesign} for a stream of unknown length. FFT convolution reuses the taps spectrum
+     * cached by the design.
+     * 
+     * @param design
+     *            filter design, see {@link FirDesignFactory}
+     * 
+     * @return filter with the lowest expected cost per sample
+     */
+    public static FirFilter newFirFilter(FirDesign design) {
+        return newFirFilter(design, Long.MAX_VALUE);
+    }
+
+    /**
+     * Create filter from a {@link FirDesign} for a known number of samples. FFT convolution reuses the taps spectrum
+     * cached by the design.
+     * 
+     * @param design
+     *            filter design, see {@link FirDesignFactory}
+     * @param samples
+     *            number of samples that will be filtered
+     * 
+     * @return filter with the lowest expected cost for the number of samples
+     */
+    public static FirFilter newFirFilter(FirDesign design, long samples) {
+        int fftSize = bestFftSize(design.getLength(), samples);
+        if (fftSize == 0 || fftCost(design.getLength(), samples, fftSize) >= directCost(design.getLength())) {
+            return new DirectFirFilter(design.getTaps());
+        }
+        return new OverlapSaveFirFilter(design, fftSize);
+    }
+
+    /**
+     * Filter a complete {@link TimeDomainSignal} with the cheapest method.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to filter
+     * @param taps
+     *            filter taps, at least one
+     * 
+     * @return filtered {@link TimeDomainSignal} with the same number of samples and sample rate
+     */
+    public static TimeDomainSignal filter(TimeDomainSignal signal, double[] taps) {
+        return newFirFilter(taps, Math.max(1, signal.getIqDataList().size())).filter(signal);
+    }
+
+    /**
+     * Measure the relative speed of direct form and FFT convolution on this machine and use it for all following
+     * choices. The measured scale is limited to between 1/4 and 4. Takes in the order of 100 ms.
+     * 
+     * @return measured cost of one FFT operation relative to one direct form operation
+     */
+    public static double calibrate() {
+        Random random = new Random(0);
+        double[] taps = new double[CALIBRATION_TAPS];
+        for (int i = 0; i < taps.length; i++) {
+            taps[i] = random.nextGaussian();
+        }
+        double[] input = new double[2 * CALIBRATION_SAMPLES];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = random.nextGaussian();
+        }
+        double[] output = new double[input.length];
+        int fftSize = Integer.highestOneBit(4 * CALIBRATION_TAPS);
+        FirFilter direct = new DirectFirFilter(taps);
+        FirFilter overlapSave = new OverlapSaveFirFilter(taps, fftSize);
+        long directTime = Long.MAX_VALUE;
+        long fftTime = Long.MAX_VALUE;
+        // Best of several runs, the first ones also warm up the JIT compiler
+        for (int run = 0; run < 8; run++) {
+            directTime = Math.min(directTime, time(direct, input, output));
+            fftTime = Math.min(fftTime, time(overlapSave, input, output));
+        }
+        double directOperations = directCost(CALIBRATION_TAPS);
+        double fftOperations = fftCost(CALIBRATION_TAPS, CALIBRATION_SAMPLES, fftSize) / fftCostScale;
+        double scale = (fftTime / fftOperations) / (Math.max(1, directTime) / directOperations);
+        // Keep a disturbed measurement, for instance a garbage collection, from skewing the model completely
+        scale = Math.max(1 / MAX_SCALE, Math.min(MAX_SCALE, scale));
+        fftCostScale = scale;
+        return scale;
+    }
+
+    private static long time(FirFilter filter, double[] input, double[] output) {
+        long start = System.nanoTime();
+        int written = filter.process(input, 0, input.length / 2, output, 0);
+        filter.flush(output, written);
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Restore the default cost model, undoing {@link #calibrate()}.
+     */
+    public static void resetCalibration() {
+        fftCostScale = 1;
+    }
+
+    /**
+     * Cost per output sample of direct form.
+     */
+    static double directCost(int taps) {
+        // Multiply and add for I and Q per tap
+        return 4.0 * taps;
+    }
+
+    /**
+     * Cost per output sample of overlap-save, {@link Long#MAX_VALUE} samples for a stream of unknown length.
+     */
+    static double fftCost(int taps, long samples, int fftSize) {
+        int blockSize = fftSize - taps + 1;
+        double perBlock = 2 * 5.0 * fftSize * (Math.log(fftSize) / Math.log(2)) + 6.0 * fftSize;
+        double blocks = samples == Long.MAX_VALUE ? 1 : Math.ceil((double) samples / blockSize);
+        double outputs = samples == Long.MAX_VALUE ? blockSize : samples;
+        return blocks * perBlock / outputs * fftCostScale;
+    }
+
+    /**
+     * FFT size with the lowest cost, 0 if no FFT size is possible.
+     */
+    static int bestFftSize(int taps, long samples) {
+        int best = 0;
+        double bestCost = Double.MAX_VALUE;
+        // No gain from FFTs longer than the whole signal
+        long limit = samples >= MAX_FFT_SIZE ? MAX_FFT_SIZE : samples + taps;
+        for (long fftSize = Integer.highestOneBit(taps) << 1; fftSize <= MAX_FFT_SIZE; fftSize <<= 1) {
+            double cost = fftCost(taps, samples, (int) fftSize);
+            if (cost < bestCost) {
+                best = (int) fftSize;
+                bestCost = cost;
+            }
+            if (fftSize >= limit) {
+                break;
+            }
+        }
+        return best;
+    }
+
+}
@@ -0,0 +1,226 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyBand;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.MaskType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Frequency domain filter keeping or rejecting any number of {@link FrequencyBand} in a single spectral pass.<br>
+ * The gain of every FFT bin is calculated from all bands at once and the signal is transformed once, multiplied and
+ * transformed back, so the cost does not depend on the number of bands. Bands may lie anywhere relative to IQ center
+ * and may overlap. Edges are either sharp or tapered with a raised cosine of configurable width placed outside the
+ * bands, so kept bands are kept completely and rejected bands are rejected completely. Tapering reduces ringing in time
+ * domain. As with any block FFT filter the signal is treated as periodic.<br>
+ * Instances are immutable and thread safe.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FrequencyMask {
+
+    private final MaskType type;
+    private final List<FrequencyBand> bands;
+    private final double taper;
+
+    /**
+     * Constructor with sharp edges.
+     * 
+     * @param type
+     *            whether bands are kept or rejected
+     * @param bands
+     *            frequency bands in Hz relative to IQ center
+     */
+    public FrequencyMask(MaskType type, List<FrequencyBand> bands) {
+        this(type, bands, 0);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param type
+     *            whether bands are kept or rejected
+     * @param bands
+     *            frequency bands in Hz relative to IQ center
+     * @param taper
+     *            width in Hz of the raised cosine transition outside each band edge, 0 for sharp edges
+     */
+    public FrequencyMask(MaskType type, List<FrequencyBand> bands, double taper) {
+        if (!(taper >= 0) || Double.isInfinite(taper)) {
+            throw new SignalProcessingException("Taper needs to be zero or a positive number");
+        }
+        this.type = type;
+        this.bands = Collections.unmodifiableList(new ArrayList<>(bands));
+        this.taper = taper;
+    }
+
+    /**
+     * Calculate mask gain at a frequency.
+     * 
+     * @param frequency
+     *            frequency in Hz relative to IQ center
+     * 
+     * @return gain between 0 and 1
+     */
+    public double gain(double frequency) {
+        double inside = 0;
+        for (FrequencyBand band : bands) {
+            inside = Math.max(inside, bandGain(band, frequency));
+        }
+        return type == MaskType.KEEP ? inside : 1 - inside;
+    }
+
+    private double bandGain(FrequencyBand band, double frequency) {
+        double distance = Math.max(band.getLowFrequency() - frequency, frequency - band.getHighFrequency());
+        if (distance <= 0) {
+            return 1;
+        }
+        if (distance >= taper) {
+            return 0;
+        }
+        return 0.5 + 0.5 * Math.cos(Math.PI * distance / taper);
+    }
+
+    /**
+     * Calculate gain of every bin of a spectrum ordered with zero frequency in the center, the same way as
+     * {@link FrequencyDomainSignal}. Only bins near a band are evaluated.
+     * 
+     * @param bins
+     *            number of bins
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * 
+     * @return new array with gain per bin
+     */
+    public double[] gains(int bins, int sampleRate) {
+        double binWidth = (double) sampleRate / bins;
+        int center = bins / 2;
+        double[] inside = new double[bins];
+        for (FrequencyBand band : bands) {
+            // Clamp before casting, band edges far outside the spectrum would overflow an int
+            int first = (int) Math.max(0, Math.ceil((band.getLowFrequency() - taper) / binWidth) + center);
+            int last = (int) Math.min(bins - 1, Math.floor((band.getHighFrequency() + taper) / binWidth) + center);
+            for (int bin = first; bin <= last; bin++) {
+                inside[bin] = Math.max(inside[bin], bandGain(band, (bin - center) * binWidth));
+            }
+        }
+        if (type == MaskType.REJECT) {
+            for (int bin = 0; bin < bins; bin++) {
+                inside[bin] = 1 - inside[bin];
+            }
+        }
+        return inside;
+    }
+
+    /**
+     * Apply mask to IQ samples stored as I and Q pairs in place, using one forward and one inverse FFT of the whole
+     * array.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs, overwritten with filtered values
+     * @param sampleRate
+     *            the sample rate of IQ data
+     */
+    public void filter(double[] iqArray, int sampleRate) {
+        int samples = iqArray.length / 2;
+        if (samples == 0) {
+            return;
+        }
+        double[] gains = gains(samples, sampleRate);
+        DoubleFFT_1D fft = new DoubleFFT_1D(samples);
+        fft.complexForward(iqArray);
+        // FFT output has zero frequency first, gains have it in the center
+        int center = samples / 2;
+        for (int i = 0; i < samples; i++) {
+            double gain = gains[(i + center) % samples];
+            iqArray[2 * i] *= gain;
+            iqArray[2 * i + 1] *= gain;
+        }
+        fft.complexInverse(iqArray, true);
+    }
+
+    /**
+     * Apply mask to {@link TimeDomainSignal}.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to filter
+     * 
+     * @return new filtered {@link TimeDomainSignal}
+     */
+    public TimeDomainSignal filter(TimeDomainSignal signal) {
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        filter(iqArray, signal.getSampleRate());
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(iqArray), signal.getSampleRate());
+    }
+
+    /**
+     * Apply mask to {@link FrequencyDomainSignal}.
+     * 
+     * @param signal
+     *            {@link FrequencyDomainSignal} to filter
+     * 
+     * @return new filtered {@link FrequencyDomainSignal}
+     */
+    public FrequencyDomainSignal filter(FrequencyDomainSignal signal) {
+        List<Complex> iqDataList = signal.getIqDataList();
+        double[] gains = gains(iqDataList.size(), signal.getSampleRate());
+        List<Complex> filtered = new ArrayList<>(iqDataList.size());
+        for (int i = 0; i < iqDataList.size(); i++) {
+            filtered.add(iqDataList.get(i).multiply(gains[i]));
+        }
+        return SignalFactory.newFrequencyDomainSignal(filtered, signal.getSampleRate());
+    }
+
+    /**
+     * Retrieve mask type
+     * 
+     * @return mask type
+     */
+    public MaskType getType() {
+        return type;
+    }
+
+    /**
+     * Retrieve frequency bands
+     * 
+     * @return unmodifiable list of frequency bands
+     */
+    public List<FrequencyBand> getBands() {
+        return bands;
+    }
+
+    /**
+     * Retrieve taper width
+     * 
+     * @return taper width in Hz
+     */
+    public double getTaper() {
+        return taper;
+    }
+
+}
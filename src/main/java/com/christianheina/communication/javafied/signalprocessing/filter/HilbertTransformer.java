@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.Arrays;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Streaming converter from real samples to the analytic signal, where I is the delayed input and Q its Hilbert
+ * transform, keeping only positive frequencies.<br>
+ * The Hilbert filter is derived from an equiripple half-band design shifted up by a quarter of the sample rate, see
+ * {@link FirDesignFactory#newHalfBandDesign(int, double, int)}. Only every other tap is non-zero and the taps are
+ * antisymmetric, so each output costs about a quarter of the filter length in multiplications.<br>
+ * With decimation, the analytic signal is shifted down by a quarter of the sample rate and only every other sample is
+ * calculated. Input from 0 to half the sample rate then ends up from minus to plus a quarter of the input sample rate
+ * at half the rate, the same number of values as the real input.<br>
+ * <strong>Note!</strong> A transformer is not thread safe, use one transformer per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class HilbertTransformer {
+
+    private final int sampleRate;
+    private final boolean decimate;
+    private final int delay;
+    private final double[] coefficients;
+    private final double[] history;
+    private int position;
+    private long sampleIndex;
+
+    /**
+     * Constructor
+     * 
+     * @param length
+     *            number of filter taps, 3, 7, 11, ...
+     * @param transitionWidth
+     *            width in Hz of the transition bands at zero and half the sample rate
+     * @param sampleRate
+     *            the sample rate of the real input
+     * @param decimate
+     *            true to shift down by a quarter of the sample rate and decimate by 2
+     */
+    public HilbertTransformer(int length, double transitionWidth, int sampleRate, boolean decimate) {
+        if (decimate && sampleRate % 2 != 0) {
+            throw new SignalProcessingException("Sample rate needs to be even to decimate by 2");
+        }
+        double[] halfBand = FirDesignFactory.newHalfBandDesign(length, transitionWidth, sampleRate).getTaps();
+        this.sampleRate = sampleRate;
+        this.decimate = decimate;
+        this.delay = length / 2;
+        // Imaginary part of 2 * h[m] * e^(j * pi * m / 2), only odd offsets are non-zero
+        this.coefficients = new double[(delay + 1) / 2];
+        for (int i = 0; i < coefficients.length; i++) {
+            int offset = 2 * i + 1;
+            coefficients[i] = 2 * halfBand[delay + offset] * (i % 2 == 0 ? 1 : -1);
+        }
+        this.history = new double[2 * length];
+    }
+
+    /**
+     * Convert real samples to analytic IQ samples.
+     * 
+     * @param samples
+     *            array containing real samples
+     * @param offset
+     *            index of the first sample to convert
+     * @param count
+     *            number of samples to convert
+     * @param output
+     *            array to fill with I and Q pairs, needs room for {@link #outputSamplesFor(int)} samples
+     * @param outputOffset
+     *            index of the first output sample (not array index)
+     * 
+     * @return number of output samples written
+     */
+    public int process(double[] samples, int offset, int count, double[] output, int outputOffset) {
+        if (offset < 0 || count < 0 || (long) offset + count > samples.length) {
+            throw new SignalProcessingException("Requested samples exceed sample array length");
+        }
+        if (outputOffset < 0 || 2 * ((long) outputOffset + outputSamplesFor(count)) > output.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int length = history.length / 2;
+        int out = 2 * outputOffset;
+        for (int i = offset; i < offset + count; i++) {
+            history[position] = samples[i];
+            history[position + length] = samples[i];
+            // Newest sample at position + length, center at position + length - delay
+            int center = position + length - delay;
+            position = position + 1 == length ? 0 : position + 1;
+            long time = sampleIndex++ - delay;
+            if (decimate && (time & 1) != 0) {
+                continue;
+            }
+            double quadrature = 0;
+            for (int k = 0; k < coefficients.length; k++) {
+                int m = 2 * k + 1;
+                quadrature += coefficients[k] * (history[center - m] - history[center + m]);
+            }
+            double inPhase = history[center];
+            if (decimate && (time & 2) != 0) {
+                // Shift by a quarter of the sample rate, (-j)^time for even time
+                inPhase = -inPhase;
+                quadrature = -quadrature;
+            }
+            output[out++] = inPhase;
+            output[out++] = quadrature;
+        }
+        return out / 2 - outputOffset;
+    }
+
+    /**
+     * Number of output samples the next call to {@link #process(double[], int, int, double[], int)} produces.
+     * 
+     * @param count
+     *            number of input samples
+     * 
+     * @return number of output samples
+     */
+    public int outputSamplesFor(int count) {
+        if (!decimate) {
+            return count;
+        }
+        // Outputs where sample index - delay is even
+        long first = sampleIndex + ((sampleIndex - delay) & 1);
+        long end = sampleIndex + count;
+        return first >= end ? 0 : (int) ((end - first + 1) / 2);
+    }
+
+    /**
+     * Convert real samples, continuing from the current state. Output lags input by {@link #getDelay()} samples.
+     * 
+     * @param samples
+     *            real samples
+     * 
+     * @return analytic {@link TimeDomainSignal} at {@link #getOutputSampleRate()}
+     */
+    public TimeDomainSignal process(double[] samples) {
+        double[] iqArray = new double[2 * outputSamplesFor(samples.length)];
+        process(samples, 0, samples.length, iqArray, 0);
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(iqArray), getOutputSampleRate());
+    }
+
+    /**
+     * Convert complete block of real samples with the filter delay removed, output sample n (or 2n with decimation)
+     * corresponds to input sample n.
+     * 
+     * @param samples
+     *            real samples
+     * 
+     * @return analytic {@link TimeDomainSignal} at {@link #getOutputSampleRate()}
+     */
+    public TimeDomainSignal convert(double[] samples) {
+        reset();
+        double[] padded = new double[samples.length + delay];
+        System.arraycopy(samples, 0, padded, 0, samples.length);
+        double[] iqArray = new double[2 * outputSamplesFor(padded.length)];
+        int written = process(padded, 0, padded.length, iqArray, 0);
+        // Drop outputs before the first input sample
+        int skip = decimate ? delay / 2 : delay;
+        double[] aligned = new double[2 * (written - skip)];
+        System.arraycopy(iqArray, 2 * skip, aligned, 0, aligned.length);
+        reset();
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(aligned), getOutputSampleRate());
+    }
+
+    /**
+     * Clear filter history.
+     */
+    public void reset() {
+        Arrays.fill(history, 0);
+        position = 0;
+        sampleIndex = 0;
+    }
+
+    /**
+     * Retrieve filter delay
+     * 
+     * @return delay in input samples
+     */
+    public int getDelay() {
+        return delay;
+    }
+
+    /**
+     * Retrieve whether output is decimated by 2
+     * 
+     * @return true if decimating
+     */
+    public boolean isDecimating() {
+        return decimate;
+    }
+
+    /**
+     * Retrieve sample rate of the real input
+     * 
+     * @return sample rate
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Retrieve sample rate of the analytic output
+     * 
+     * @return sample rate, half the input sample rate when decimating
+     */
+    public int getOutputSampleRate() {
+        return decimate ? sampleRate / 2 : sampleRate;
+    }
+
+}
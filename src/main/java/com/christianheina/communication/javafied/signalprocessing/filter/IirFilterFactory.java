@@ -0,0 +1,462 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.FilterType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Factory designing {@link BiquadFilter} IIR filters.<br>
+ * Filters are designed from normalized analog prototypes which are frequency transformed to the requested
+ * {@link FilterType} and mapped to digital with the bilinear transform, prewarped so cutoff frequencies are exact.
+ * Poles and zeros are then paired in to second order sections, poles closest to the unit circle last, which keeps the
+ * cascade numerically well behaved also for high orders. Cutoff frequencies are given in Hz relative to IQ center and
+ * apply symmetrically to positive and negative frequencies, a low pass filter with cutoff f passes -f to f. Low pass
+ * and high pass filters take one cutoff frequency, band pass and band stop filters take a lower and an upper cutoff
+ * frequency and have twice the order.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class IirFilterFactory {
+
+    private static final double REAL_TOLERANCE = 1E-10;
+    private static final double LANDEN_TOLERANCE = 1E-15;
+
+    private IirFilterFactory() {
+        /* Hidden Constructor */
+    }
+
+    /**
+     * Design Butterworth filter, maximally flat passband and monotonic response. Gain at cutoff frequencies is -3 dB.
+     * 
+     * @param type
+     *            filter type
+     * @param order
+     *            prototype filter order
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param cutoffs
+     *            cutoff frequencies in Hz, one for low and high pass, lower and upper for band pass and band stop
+     * 
+     * @return new {@link BiquadFilter}
+     */
+    public static BiquadFilter newButterworthFilter(FilterType type, int order, int sampleRate, double... cutoffs) {
+        checkOrder(order);
+        ZeroPoleGain prototype = new ZeroPoleGain();
+        for (int m = -order + 1; m < order; m += 2) {
+            prototype.poles.add(new Complex(0, Math.PI * m / (2 * order)).exp().negate());
+        }
+        prototype.gain = 1;
+        return design(prototype, type, sampleRate, cutoffs);
+    }
+
+    /**
+     * Design Chebyshev type I filter, equiripple passband and monotonic stopband. Gain at cutoff frequencies is minus
+     * the ripple.
+     * 
+     * @param type
+     *            filter type
+     * @param order
+     *            prototype filter order
+     * @param rippleDb
+     *            peak to peak passband ripple in dB
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param cutoffs
+     *            passband edge frequencies in Hz, one for low and high pass, lower and upper for band pass and band
+     *            stop
+     * 
+     * @return new {@link BiquadFilter}
+     */
+    public static BiquadFilter newChebyshevFilter(FilterType type, int order, double rippleDb, int sampleRate,
+            double... cutoffs) {
+        checkOrder(order);
+        if (!(rippleDb > 0)) {
+            throw new SignalProcessingException("Ripple needs to be positive");
+        }
+        double epsilon = Math.sqrt(Math.pow(10, rippleDb / 10) - 1);
+        double mu = asinh(1 / epsilon) / order;
+        ZeroPoleGain prototype = new ZeroPoleGain();
+        for (int m = -order + 1; m < order; m += 2) {
+            prototype.poles.add(new Complex(mu, Math.PI * m / (2 * order)).sinh().negate());
+        }
+        prototype.gain = product(prototype.poles, Complex.ZERO).getReal();
+        if (order % 2 == 0) {
+            prototype.gain /= Math.sqrt(1 + epsilon * epsilon);
+        }
+        return design(prototype, type, sampleRate, cutoffs);
+    }
+
+    /**
+     * Design elliptic (Cauer) filter, equiripple passband and stopband giving the steepest transition for an order.
+     * Gain at cutoff frequencies is minus the ripple.
+     * 
+     * @param type
+     *            filter type
+     * @param order
+     *            prototype filter order
+     * @param rippleDb
+     *            peak to peak passband ripple in dB
+     * @param attenuationDb
+     *            minimum stopband attenuation in dB, larger than ripple
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param cutoffs
+     *            passband edge frequencies in Hz, one for low and high pass, lower and upper for band pass and band
+     *            stop
+     * 
+     * @return new {@link BiquadFilter}
+     */
+    public static BiquadFilter newEllipticFilter(FilterType type, int order, double rippleDb, double attenuationDb,
+            int sampleRate, double... cutoffs) {
+        checkOrder(order);
+        if (!(rippleDb > 0) || !(attenuationDb > rippleDb)) {
+            throw new SignalProcessingException("Ripple needs to be positive and attenuation larger than ripple");
+        }
+        // Design by Landen transformations, S. J. Orfanidis, Lecture Notes on Elliptic Filter Design
+        double epsilon = Math.sqrt(Math.pow(10, rippleDb / 10) - 1);
+        double epsilonStop = Math.sqrt(Math.pow(10, attenuationDb / 10) - 1);
+        double k1 = epsilon / epsilonStop;
+        double k = ellipticDegree(order, k1);
+        double[] landen = landen(k);
+        Complex v0 = asne(new Complex(0, 1 / epsilon), landen(k1), k1).multiply(Complex.I.negate()).divide(order);
+
+        ZeroPoleGain prototype = new ZeroPoleGain();
+        for (int i = 1; i <= order / 2; i++) {
+            double u = (2.0 * i - 1) / order;
+            Complex zeta = cde(new Complex(u), landen);
+            Complex zero = Complex.I.divide(zeta.multiply(k));
+            prototype.zeros.add(zero);
+            prototype.zeros.add(zero.conjugate());
+            Complex pole = Complex.I.multiply(cde(new Complex(u).subtract(Complex.I.multiply(v0)), landen));
+            prototype.poles.add(pole);
+            prototype.poles.add(pole.conjugate());
+        }
+        if (order % 2 == 1) {
+            Complex pole = Complex.I.multiply(sne(Complex.I.multiply(v0), landen));
+            prototype.poles.add(new Complex(pole.getReal()));
+        }
+        prototype.gain = product(prototype.poles, Complex.ZERO).divide(product(prototype.zeros, Complex.ZERO))
+                .getReal();
+        if (order % 2 == 0) {
+            prototype.gain /= Math.sqrt(1 + epsilon * epsilon);
+        }
+        return design(prototype, type, sampleRate, cutoffs);
+    }
+
+    /**
+     * Design DC blocker, a first order Butterworth high pass filter with a zero at DC.
+     * 
+     * @param cutoff
+     *            -3 dB cutoff frequency in Hz
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * 
+     * @return new {@link BiquadFilter}
+     */
+    public static BiquadFilter newDcBlocker(double cutoff, int sampleRate) {
+        return newButterworthFilter(FilterType.HIGH_PASS, 1, sampleRate, cutoff);
+    }
+
+    private static void checkOrder(int order) {
+        if (order < 1) {
+            throw new SignalProcessingException("Order needs to be at least 1");
+        }
+    }
+
+    private static BiquadFilter design(ZeroPoleGain prototype, FilterType type, int sampleRate, double... cutoffs) {
+        int expected = type == FilterType.LOW_PASS || type == FilterType.HIGH_PASS ? 1 : 2;
+        if (cutoffs.length != expected) {
+            throw new SignalProcessingException(type + " needs " + expected + " cutoff frequencies");
+        }
+        for (double cutoff : cutoffs) {
+            if (!(cutoff > 0) || cutoff >= sampleRate / 2.0) {
+                throw new SignalProcessingException("Cutoff frequencies need to be between 0 and half sample rate");
+            }
+        }
+        if (expected == 2 && cutoffs[0] >= cutoffs[1]) {
+            throw new SignalProcessingException("Lower cutoff frequency needs to be below upper cutoff frequency");
+        }
+        // Prewarp for bilinear transform with s = 2 (z - 1) / (z + 1)
+        double[] warped = new double[cutoffs.length];
+        for (int i = 0; i < cutoffs.length; i++) {
+            warped[i] = 2 * Math.tan(Math.PI * cutoffs[i] / sampleRate);
+        }
+        ZeroPoleGain analog;
+        if (type == FilterType.LOW_PASS) {
+            analog = lowPassToLowPass(prototype, warped[0]);
+        } else if (type == FilterType.HIGH_PASS) {
+            analog = lowPassToHighPass(prototype, warped[0]);
+        } else if (type == FilterType.BAND_PASS) {
+            analog = lowPassToBandPass(prototype, Math.sqrt(warped[0] * warped[1]), warped[1] - warped[0]);
+        } else {
+            analog = lowPassToBandStop(prototype, Math.sqrt(warped[0] * warped[1]), warped[1] - warped[0]);
+        }
+        return new BiquadFilter(toSections(bilinear(analog)));
+    }
+
+    private static ZeroPoleGain lowPassToLowPass(ZeroPoleGain prototype, double omega) {
+        ZeroPoleGain result = new ZeroPoleGain();
+        prototype.zeros.forEach(zero -> result.zeros.add(zero.multiply(omega)));
+        prototype.poles.forEach(pole -> result.poles.add(pole.multiply(omega)));
+        result.gain = prototype.gain * Math.pow(omega, prototype.degree());
+        return result;
+    }
+
+    private static ZeroPoleGain lowPassToHighPass(ZeroPoleGain prototype, double omega) {
+        ZeroPoleGain result = new ZeroPoleGain();
+        Complex scale = new Complex(omega);
+        prototype.zeros.forEach(zero -> result.zeros.add(scale.divide(zero)));
+        prototype.poles.forEach(pole -> result.poles.add(scale.divide(pole)));
+        for (int i = 0; i < prototype.degree(); i++) {
+            result.zeros.add(Complex.ZERO);
+        }
+        result.gain = prototype.gain
+                * product(prototype.zeros, Complex.ZERO).divide(product(prototype.poles, Complex.ZERO)).getReal();
+        return result;
+    }
+
+    private static ZeroPoleGain lowPassToBandPass(ZeroPoleGain prototype, double center, double bandwidth) {
+        ZeroPoleGain result = new ZeroPoleGain();
+        prototype.zeros.forEach(zero -> addBandRoots(result.zeros, zero.multiply(bandwidth / 2), center));
+        prototype.poles.forEach(pole -> addBandRoots(result.poles, pole.multiply(bandwidth / 2), center));
+        for (int i = 0; i < prototype.degree(); i++) {
+            result.zeros.add(Complex.ZERO);
+        }
+        result.gain = prototype.gain * Math.pow(bandwidth, prototype.degree());
+        return result;
+    }
+
+    private static ZeroPoleGain lowPassToBandStop(ZeroPoleGain prototype, double center, double bandwidth) {
+        ZeroPoleGain result = new ZeroPoleGain();
+        Complex scale = new Complex(bandwidth / 2);
+        prototype.zeros.forEach(zero -> addBandRoots(result.zeros, scale.divide(zero), center));
+        prototype.poles.forEach(pole -> addBandRoots(result.poles, scale.divide(pole), center));
+        for (int i = 0; i < prototype.degree(); i++) {
+            result.zeros.add(new Complex(0, center));
+            result.zeros.add(new Complex(0, -center));
+        }
+        result.gain = prototype.gain
+                * product(prototype.zeros, Complex.ZERO).divide(product(prototype.poles, Complex.ZERO)).getReal();
+        return result;
+    }
+
+    private static void addBandRoots(List<Complex> roots, Complex root, double center) {
+        Complex offset = root.multiply(root).subtract(center * center).sqrt();
+        roots.add(root.add(offset));
+        roots.add(root.subtract(offset));
+    }
+
+    private static ZeroPoleGain bilinear(ZeroPoleGain analog) {
+        ZeroPoleGain result = new ZeroPoleGain();
+        Complex two = new Complex(2);
+        analog.zeros.forEach(zero -> result.zeros.add(two.add(zero).divide(two.subtract(zero))));
+        analog.poles.forEach(pole -> result.poles.add(two.add(pole).divide(two.subtract(pole))));
+        for (int i = 0; i < analog.degree(); i++) {
+            result.zeros.add(new Complex(-1));
+        }
+        result.gain = analog.gain * product(analog.zeros, two).divide(product(analog.poles, two)).getReal();
+        return result;
+    }
+
+    /**
+     * Product of (offset - root) over all roots.
+     */
+    private static Complex product(List<Complex> roots, Complex offset) {
+        Complex product = Complex.ONE;
+        for (Complex root : roots) {
+            product = product.multiply(offset.subtract(root));
+        }
+        return product;
+    }
+
+    private static double[][] toSections(ZeroPoleGain digital) {
+        List<Complex> complexZeros = new ArrayList<>();
+        List<Double> realZeros = new ArrayList<>();
+        List<Complex> complexPoles = new ArrayList<>();
+        List<Double> realPoles = new ArrayList<>();
+        split(digital.zeros, complexZeros, realZeros);
+        split(digital.poles, complexPoles, realPoles);
+
+        List<double[]> sections = new ArrayList<>();
+        if (realPoles.size() % 2 == 1) {
+            // First order section from the real pole furthest from the unit circle
+            realPoles.sort(Comparator.comparingDouble(Math::abs));
+            double pole = realPoles.remove(0);
+            double zero = removeNearestReal(realZeros, pole);
+            sections.add(new double[] { 1, -zero, 0, 1, -pole, 0 });
+        }
+        // Remaining poles in pairs, nearest zeros picked for the poles closest to the unit circle first
+        List<Complex[]> polePairs = new ArrayList<>();
+        complexPoles.forEach(pole -> polePairs.add(new Complex[] { pole, pole.conjugate() }));
+        realPoles.sort(Double::compare);
+        for (int i = 0; i + 1 < realPoles.size(); i += 2) {
+            polePairs.add(new Complex[] { new Complex(realPoles.get(i)), new Complex(realPoles.get(i + 1)) });
+        }
+        polePairs.sort(Comparator.comparingDouble(pair -> -Math.max(pair[0].abs(), pair[1].abs())));
+        List<double[]> pairSections = new ArrayList<>();
+        for (Complex[] poles : polePairs) {
+            Complex pole = poles[0].abs() >= poles[1].abs() ? poles[0] : poles[1];
+            Complex[] zeros = removeNearestZeros(complexZeros, realZeros, pole);
+            pairSections.add(new double[] { 1, -zeros[0].add(zeros[1]).getReal(), zeros[0].multiply(zeros[1]).getReal(),
+                    1, -poles[0].add(poles[1]).getReal(), poles[0].multiply(poles[1]).getReal() });
+        }
+        for (int i = pairSections.size() - 1; i >= 0; i--) {
+            sections.add(pairSections.get(i));
+        }
+        double[] first = sections.get(0);
+        for (int c = 0; c < 3; c++) {
+            first[c] *= digital.gain;
+        }
+        return sections.toArray(new double[0][]);
+    }
+
+    private static void split(List<Complex> roots, List<Complex> complexRoots, List<Double> realRoots) {
+        for (Complex root : roots) {
+            if (Math.abs(root.getImaginary()) <= REAL_TOLERANCE * (1 + root.abs())) {
+                realRoots.add(root.getReal());
+            } else if (root.getImaginary() > 0) {
+                complexRoots.add(root);
+            }
+        }
+    }
+
+    private static double removeNearestReal(List<Double> realRoots, Complex target) {
+        int nearest = 0;
+        for (int i = 1; i < realRoots.size(); i++) {
+            if (target.subtract(realRoots.get(i)).abs() < target.subtract(realRoots.get(nearest)).abs()) {
+                nearest = i;
+            }
+        }
+        return realRoots.remove(nearest);
+    }
+
+    private static double removeNearestReal(List<Double> realRoots, double target) {
+        return removeNearestReal(realRoots, new Complex(target));
+    }
+
+    private static Complex[] removeNearestZeros(List<Complex> complexZeros, List<Double> realZeros, Complex pole) {
+        Complex target = new Complex(pole.getReal(), Math.abs(pole.getImaginary()));
+        int nearestComplex = -1;
+        for (int i = 0; i < complexZeros.size(); i++) {
+            if (nearestComplex < 0 || target.subtract(complexZeros.get(i)).abs() < target
+                    .subtract(complexZeros.get(nearestComplex)).abs()) {
+                nearestComplex = i;
+            }
+        }
+        double realDistance = Double.MAX_VALUE;
+        for (double zero : realZeros) {
+            realDistance = Math.min(realDistance, target.subtract(zero).abs());
+        }
+        if (nearestComplex >= 0
+                && (realZeros.size() < 2 || target.subtract(complexZeros.get(nearestComplex)).abs() <= realDistance)) {
+            Complex zero = complexZeros.remove(nearestComplex);
+            return new Complex[] { zero, zero.conjugate() };
+        }
+        Complex zero = new Complex(removeNearestReal(realZeros, target));
+        return new Complex[] { zero, new Complex(removeNearestReal(realZeros, target)) };
+    }
+
+    private static double asinh(double x) {
+        return Math.log(x + Math.sqrt(x * x + 1));
+    }
+
+    /**
+     * Descending Landen sequence of elliptic moduli, empty when k is already negligible.
+     */
+    private static double[] landen(double k) {
+        List<Double> moduli = new ArrayList<>();
+        double modulus = k;
+        while (modulus > LANDEN_TOLERANCE) {
+            double complement = Math.sqrt(1 - modulus * modulus);
+            modulus = modulus * modulus / ((1 + complement) * (1 + complement));
+            moduli.add(modulus);
+        }
+        return moduli.stream().mapToDouble(Double::doubleValue).toArray();
+    }
+
+    /**
+     * Jacobi elliptic function cd(u K, k) by ascending Landen transformation.
+     */
+    private static Complex cde(Complex u, double[] landen) {
+        return ascend(u.multiply(Math.PI / 2).cos(), landen);
+    }
+
+    /**
+     * Jacobi elliptic function sn(u K, k) by ascending Landen transformation.
+     */
+    private static Complex sne(Complex u, double[] landen) {
+        return ascend(u.multiply(Math.PI / 2).sin(), landen);
+    }
+
+    private static Complex ascend(Complex w, double[] landen) {
+        Complex value = w;
+        for (int n = landen.length - 1; n >= 0; n--) {
+            value = value.multiply(1 + landen[n]).divide(value.multiply(value).multiply(landen[n]).add(1));
+        }
+        return value;
+    }
+
+    /**
+     * Inverse of sn(u K, k) by descending Landen transformation.
+     */
+    private static Complex asne(Complex w, double[] landen, double k) {
+        Complex value = w;
+        double previous = k;
+        for (double modulus : landen) {
+            Complex root = Complex.ONE.subtract(value.multiply(value).multiply(previous * previous)).sqrt();
+            value = value.divide(root.add(1)).multiply(2 / (1 + modulus));
+            previous = modulus;
+        }
+        // asne = 1 - acde where acde = 2 / pi * acos(w)
+        return Complex.ONE.subtract(value.acos().multiply(2 / Math.PI));
+    }
+
+    /**
+     * Solve the degree equation for the elliptic modulus k given order and k1 = epsilon / epsilon stop.
+     */
+    private static double ellipticDegree(int order, double k1) {
+        double complement1 = Math.sqrt(1 - k1 * k1);
+        double[] landen = landen(complement1);
+        double complement = Math.pow(complement1, order);
+        for (int i = 1; i <= order / 2; i++) {
+            double sn = sne(new Complex((2.0 * i - 1) / order), landen).getReal();
+            complement *= Math.pow(sn, 4);
+        }
+        return Math.sqrt(1 - complement * complement);
+    }
+
+    /**
+     * Zeros, poles and gain of a filter.
+     */
+    private static class ZeroPoleGain {
+        private final List<Complex> zeros = new ArrayList<>();
+        private final List<Complex> poles = new ArrayList<>();
+        private double gain;
+
+        private int degree() {
+            return poles.size() - zeros.size();
+        }
+    }
+
+}
@@ -0,0 +1,175 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.Arrays;
+
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * FIR filter using overlap-save FFT convolution, each sample costs O(log FFT size) independent of the number of taps.
+ * <br>
+ * Input is collected in blocks of {@link #getFftSize()} samples where the last {@code taps - 1} samples of each block
+ * are kept for the next one, so every block produces {@link #getBlockSize()} output samples. Output is therefore
+ * produced one block at a time. The taps spectrum, FFT plan and buffers are allocated once. Best suited for long
+ * filters.<br>
+ * <strong>Note!</strong> A filter is not thread safe, use one filter per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class OverlapSaveFirFilter extends FirFilter {
+
+    private static final int BLOCK_FACTOR = 4;
+
+    private final int fftSize;
+    private final int blockSize;
+    private final DoubleFFT_1D fft;
+    private final double[] tapsSpectrum;
+    private final double[] block;
+    private final double[] work;
+    private int blockFill;
+
+    /**
+     * Constructor using an FFT size of about four times the number of taps.
+     * 
+     * @param taps
+     *            filter taps, at least one
+     */
+    public OverlapSaveFirFilter(double[] taps) {
+        this(taps, Integer.highestOneBit(BLOCK_FACTOR * taps.length - 1) << 1);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param taps
+     *            filter taps, at least one
+     * @param fftSize
+     *            FFT size, needs to be larger than the number of taps
+     */
+    public OverlapSaveFirFilter(double[] taps, int fftSize) {
+        this(new FirDesign(taps), fftSize);
+    }
+
+    /**
+     * Constructor sharing the cached taps spectrum of a {@link FirDesign}, so only the FFT plan and buffers are
+     * allocated.
+     * 
+     * @param design
+     *            filter design
+     * @param fftSize
+     *            FFT size, needs to be larger than the number of taps
+     */
+    public OverlapSaveFirFilter(FirDesign design, int fftSize) {
+        super(design.getTaps());
+        if (fftSize <= taps.length) {
+            throw new SignalProcessingException("FFT size needs to be larger than number of taps");
+        }
+        this.fftSize = fftSize;
+        this.blockSize = fftSize - taps.length + 1;
+        this.fft = new DoubleFFT_1D(fftSize);
+        this.tapsSpectrum = design.tapSpectrum(fftSize);
+        this.block = new double[2 * fftSize];
+        this.work = new double[2 * fftSize];
+        this.blockFill = taps.length - 1;
+    }
+
+    @Override
+    public int process(double[] iqArray, int offset, int samples, double[] output, int outputOffset) {
+        checkRange(iqArray, offset, samples);
+        checkRange(output, outputOffset, outputSamplesFor(samples));
+        int written = 0;
+        int index = offset;
+        int end = offset + samples;
+        while (index < end) {
+            int copy = Math.min(end - index, fftSize - blockFill);
+            System.arraycopy(iqArray, 2 * index, block, 2 * blockFill, 2 * copy);
+            blockFill += copy;
+            index += copy;
+            if (blockFill == fftSize) {
+                processBlock(output, outputOffset + written, blockSize);
+                written += blockSize;
+            }
+        }
+        return written;
+    }
+
+    @Override
+    public int flush(double[] output, int outputOffset) {
+        int buffered = getBufferedSamples();
+        checkRange(output, outputOffset, buffered);
+        if (buffered > 0) {
+            Arrays.fill(block, 2 * blockFill, block.length, 0);
+            processBlock(output, outputOffset, buffered);
+        }
+        reset();
+        return buffered;
+    }
+
+    private void processBlock(double[] output, int outputOffset, int samples) {
+        System.arraycopy(block, 0, work, 0, work.length);
+        fft.complexForward(work);
+        for (int i = 0; i < work.length; i += 2) {
+            double real = work[i] * tapsSpectrum[i] - work[i + 1] * tapsSpectrum[i + 1];
+            double imag = work[i] * tapsSpectrum[i + 1] + work[i + 1] * tapsSpectrum[i];
+            work[i] = real;
+            work[i + 1] = imag;
+        }
+        fft.complexInverse(work, true);
+        // The first taps - 1 values are wrapped around and discarded
+        System.arraycopy(work, 2 * (taps.length - 1), output, 2 * outputOffset, 2 * samples);
+        System.arraycopy(block, 2 * blockSize, block, 0, 2 * (taps.length - 1));
+        blockFill = taps.length - 1;
+    }
+
+    @Override
+    public int outputSamplesFor(int samples) {
+        return (getBufferedSamples() + samples) / blockSize * blockSize;
+    }
+
+    @Override
+    public int getBufferedSamples() {
+        return blockFill - (taps.length - 1);
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(block, 0);
+        blockFill = taps.length - 1;
+    }
+
+    /**
+     * Retrieve number of samples per FFT
+     * 
+     * @return FFT size
+     */
+    public int getFftSize() {
+        return fftSize;
+    }
+
+    /**
+     * Retrieve number of output samples produced per FFT
+     * 
+     * @return block size
+     */
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+}
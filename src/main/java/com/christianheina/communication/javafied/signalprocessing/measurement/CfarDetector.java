@@ -0,0 +1,236 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.measurement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.CfarType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Constant false alarm rate (CFAR) peak detector for power spectra.<br>
+ * For every bin the noise level is estimated from training cells on both sides, skipping guard cells closest to the
+ * bin. Near the spectrum edges only the training cells that exist are used. A bin is reported as a peak when its power
+ * exceeds the noise level by the threshold and it is a local maximum.<br>
+ * Cell averaging uses prefix sums so each bin costs O(1). Ordered statistic keeps the training cells in a sorted
+ * sliding window so each bin costs O(training cells) array shifting instead of a full sort.<br>
+ * <strong>Note!</strong> A detector reuses internal buffers and is not thread safe, use one detector per thread.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class CfarDetector {
+
+    private static final double DEFAULT_RANK = 0.75;
+
+    private final CfarType type;
+    private final int guardCells;
+    private final int trainingCells;
+    private final double thresholdFactor;
+    private final double rank;
+    private double[] powerBuffer = new double[0];
+    private double[] prefixSum = new double[0];
+    private double[] sortedWindow = new double[0];
+    private int windowSize;
+
+    /**
+     * Constructor, ordered statistic uses the 3/4 rank of the training cells.
+     * 
+     * @param type
+     *            noise estimator to use
+     * @param guardCells
+     *            number of cells skipped on each side of the bin under test
+     * @param trainingCells
+     *            number of cells used for noise estimation on each side of the bin under test
+     * @param thresholdDb
+     *            how many dB above the noise level a bin needs to be to be detected
+     */
+    public CfarDetector(CfarType type, int guardCells, int trainingCells, double thresholdDb) {
+        this(type, guardCells, trainingCells, thresholdDb, DEFAULT_RANK);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param type
+     *            noise estimator to use
+     * @param guardCells
+     *            number of cells skipped on each side of the bin under test
+     * @param trainingCells
+     *            number of cells used for noise estimation on each side of the bin under test
+     * @param thresholdDb
+     *            how many dB above the noise level a bin needs to be to be detected
+     * @param rank
+     *            rank between 0 (lowest) and 1 (highest) of the sorted training cells used as noise level by ordered
+     *            statistic, ignored by cell averaging
+     */
+    public CfarDetector(CfarType type, int guardCells, int trainingCells, double thresholdDb, double rank) {
+        if (guardCells < 0) {
+            throw new SignalProcessingException("Guard cells can not be negative");
+        }
+        if (trainingCells < 1) {
+            throw new SignalProcessingException("At least 1 training cell is needed");
+        }
+        if (rank < 0 || rank > 1) {
+            throw new SignalProcessingException("Rank needs to be between 0 and 1");
+        }
+        this.type = type;
+        this.guardCells = guardCells;
+        this.trainingCells = trainingCells;
+        this.thresholdFactor = Math.pow(10, thresholdDb / 10);
+        this.rank = rank;
+    }
+
+    /**
+     * Detect peaks in {@link FrequencyDomainSignal}.
+     * 
+     * @param signal
+     *            {@link FrequencyDomainSignal} to search
+     * @param resistance
+     *            the resistance in ohms.
+     * 
+     * @return list of detected peaks ordered by bin
+     */
+    public List<SpectralPeak> detect(FrequencyDomainSignal signal, double resistance) {
+        int bins = signal.getIqDataList().size();
+        if (powerBuffer.length < bins) {
+            powerBuffer = new double[bins];
+        }
+        int i = 0;
+        for (Complex value : signal.getIqDataList()) {
+            powerBuffer[i++] = (value.getReal() * value.getReal() + value.getImaginary() * value.getImaginary())
+                    / resistance;
+        }
+        return detect(powerBuffer, bins, signal.getSampleRate());
+    }
+
+    /**
+     * Detect peaks in a power spectrum ordered the same way as {@link FrequencyDomainSignal}.
+     * 
+     * @param power
+     *            power in Watts per bin
+     * @param sampleRate
+     *            the sample rate of the spectrum
+     * 
+     * @return list of detected peaks ordered by bin
+     */
+    public List<SpectralPeak> detect(double[] power, int sampleRate) {
+        return detect(power, power.length, sampleRate);
+    }
+
+    private List<SpectralPeak> detect(double[] power, int bins, int sampleRate) {
+        if (type == CfarType.CELL_AVERAGING) {
+            updatePrefixSum(power, bins);
+        } else {
+            initSortedWindow(power, bins);
+        }
+        List<SpectralPeak> peakList = new ArrayList<>();
+        for (int i = 0; i < bins; i++) {
+            double noise = type == CfarType.CELL_AVERAGING ? averageNoise(i, bins) : orderedNoise(power, i, bins);
+            double threshold = noise * thresholdFactor;
+            if (!Double.isNaN(noise) && power[i] > threshold && (i == 0 || power[i] >= power[i - 1])
+                    && (i == bins - 1 || power[i] > power[i + 1])) {
+                peakList.add(new SpectralPeak(i, (i - bins / 2) * (double) sampleRate / bins, power[i], threshold));
+            }
+        }
+        return peakList;
+    }
+
+    private void updatePrefixSum(double[] power, int bins) {
+        if (prefixSum.length < bins + 1) {
+            prefixSum = new double[bins + 1];
+        }
+        for (int i = 0; i < bins; i++) {
+            prefixSum[i + 1] = prefixSum[i] + power[i];
+        }
+    }
+
+    private double averageNoise(int bin, int bins) {
+        int lagStart = Math.max(0, bin - guardCells - trainingCells);
+        int lagEnd = Math.max(0, bin - guardCells);
+        int leadStart = Math.min(bins, bin + guardCells + 1);
+        int leadEnd = Math.min(bins, bin + guardCells + trainingCells + 1);
+        int count = lagEnd - lagStart + leadEnd - leadStart;
+        if (count == 0) {
+            return Double.NaN;
+        }
+        return (prefixSum[lagEnd] - prefixSum[lagStart] + prefixSum[leadEnd] - prefixSum[leadStart]) / count;
+    }
+
+    private void initSortedWindow(double[] power, int bins) {
+        if (sortedWindow.length < 2 * trainingCells) {
+            sortedWindow = new double[2 * trainingCells];
+        }
+        windowSize = 0;
+        // Training cells for bin 0 are the leading cells only
+        for (int i = guardCells + 1; i < Math.min(bins, guardCells + trainingCells + 1); i++) {
+            insert(power[i]);
+        }
+    }
+
+    private double orderedNoise(double[] power, int bin, int bins) {
+        double noise = windowSize == 0 ? Double.NaN : sortedWindow[(int) Math.round(rank * (windowSize - 1))];
+        // Slide training cells to the next bin
+        int lagOut = bin - guardCells - trainingCells;
+        int lagIn = bin - guardCells;
+        int leadOut = bin + guardCells + 1;
+        int leadIn = bin + guardCells + trainingCells + 1;
+        if (lagOut >= 0) {
+            remove(power[lagOut]);
+        }
+        if (lagIn >= 0 && lagIn < bins) {
+            insert(power[lagIn]);
+        }
+        if (leadOut < bins) {
+            remove(power[leadOut]);
+        }
+        if (leadIn < bins) {
+            insert(power[leadIn]);
+        }
+        return noise;
+    }
+
+    private void insert(double value) {
+        int index = Arrays.binarySearch(sortedWindow, 0, windowSize, value);
+        if (index < 0) {
+            index = -index - 1;
+        }
+        System.arraycopy(sortedWindow, index, sortedWindow, index + 1, windowSize - index);
+        sortedWindow[index] = value;
+        windowSize++;
+    }
+
+    private void remove(double value) {
+        int index = Arrays.binarySearch(sortedWindow, 0, windowSize, value);
+        System.arraycopy(sortedWindow, index + 1, sortedWindow, index, windowSize - index - 1);
+        windowSize--;
+    }
+
+    /**
+     * Retrieve noise estimator type
+     * 
+     * @return CFAR type
+     */
+    public CfarType getType() {
+        return type;
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.measurement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.christianheina.common.utilities.PowerUtil;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyBand;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+
+/**
+ * Channel power and adjacent channel leakage ratio (ACLR) measurement over a single spectrum.<br>
+ * Bin power is summed in to a cumulative power index once, after which the integrated power of any frequency band costs
+ * O(1). Bins partially inside a band are weighted by their overlap. Since {@link FrequencyDomainSignal} is normalized,
+ * the power of a band equals the average power of the signal filtered to that band.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class ChannelPowerMeasurement {
+
+    private final CumulativePower cumulativePower;
+
+    /**
+     * Constructor
+     * 
+     * @param signal
+     *            {@link FrequencyDomainSignal} to measure
+     * @param resistance
+     *            the resistance in ohms.
+     */
+    public ChannelPowerMeasurement(FrequencyDomainSignal signal, double resistance) {
+        this.cumulativePower = new CumulativePower(signal, resistance);
+    }
+
+    /**
+     * Constructor transforming the signal once.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to measure
+     * @param resistance
+     *            the resistance in ohms.
+     */
+    public ChannelPowerMeasurement(TimeDomainSignal signal, double resistance) {
+        this(signal.asFrequencyDomainSignal(), resistance);
+    }
+
+    /**
+     * Integrated Watt power of a frequency band
+     * 
+     * @param band
+     *            frequency band to integrate
+     * 
+     * @return power in Watts
+     */
+    public double channelPower(FrequencyBand band) {
+        return cumulativePower.powerBetween(band.getLowFrequency(), band.getHighFrequency());
+    }
+
+    /**
+     * Integrated dBm power of a frequency band
+     * 
+     * @param band
+     *            frequency band to integrate
+     * 
+     * @return power in dBm
+     */
+    public double channelPowerDbm(FrequencyBand band) {
+        return PowerUtil.wattsToDbm(channelPower(band));
+    }
+
+    /**
+     * Integrated dBm power of several frequency bands
+     * 
+     * @param bandList
+     *            frequency bands to integrate
+     * 
+     * @return power in dBm for each band
+     */
+    public List<Double> channelPowerDbm(List<FrequencyBand> bandList) {
+        List<Double> powerList = new ArrayList<>(bandList.size());
+        for (FrequencyBand band : bandList) {
+            powerList.add(channelPowerDbm(band));
+        }
+        return powerList;
+    }
+
+    /**
+     * Adjacent channel leakage ratio, power of the adjacent band relative to the main band.
+     * 
+     * @param mainBand
+     *            main channel band
+     * @param adjacentBand
+     *            adjacent channel band
+     * 
+     * @return leakage ratio in dB, negative when the adjacent band has less power
+     */
+    public double aclrDb(FrequencyBand mainBand, FrequencyBand adjacentBand) {
+        return 10 * Math.log10(channelPower(adjacentBand) / channelPower(mainBand));
+    }
+
+    /**
+     * Adjacent channel leakage ratios for several adjacent bands relative to the same main band.
+     * 
+     * @param mainBand
+     *            main channel band
+     * @param adjacentBandList
+     *            adjacent channel bands
+     * 
+     * @return leakage ratio in dB for each adjacent band
+     */
+    public List<Double> aclrDb(FrequencyBand mainBand, List<FrequencyBand> adjacentBandList) {
+        double mainPower = channelPower(mainBand);
+        List<Double> aclrList = new ArrayList<>(adjacentBandList.size());
+        for (FrequencyBand band : adjacentBandList) {
+            aclrList.add(10 * Math.log10(channelPower(band) / mainPower));
+        }
+        return aclrList;
+    }
+
+    /**
+     * Total Watt power of the spectrum
+     * 
+     * @return power in Watts
+     */
+    public double totalPower() {
+        return cumulativePower.getTotalPower();
+    }
+
+}
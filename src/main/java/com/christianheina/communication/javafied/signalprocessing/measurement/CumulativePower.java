@@ -0,0 +1,149 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.measurement;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Cumulative power index over a spectrum. Each bin is treated as covering one bin width centered on its frequency, so
+ * power between any two frequencies is found in O(1) with partial edge bins weighted by their overlap.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+class CumulativePower {
+
+    private final double[] power;
+    private final double[] prefixSum;
+    private final int sampleRate;
+    private final double binWidth;
+
+    CumulativePower(FrequencyDomainSignal signal, double resistance) {
+        int bins = signal.getIqDataList().size();
+        if (bins == 0) {
+            throw new SignalProcessingException("Spectrum needs at least 1 bin");
+        }
+        this.power = new double[bins];
+        this.prefixSum = new double[bins + 1];
+        this.sampleRate = signal.getSampleRate();
+        this.binWidth = (double) sampleRate / bins;
+        int i = 0;
+        for (Complex value : signal.getIqDataList()) {
+            power[i] = (value.getReal() * value.getReal() + value.getImaginary() * value.getImaginary()) / resistance;
+            prefixSum[i + 1] = prefixSum[i] + power[i];
+            i++;
+        }
+    }
+
+    int getBins() {
+        return power.length;
+    }
+
+    double getBinWidth() {
+        return binWidth;
+    }
+
+    double getPower(int bin) {
+        return power[bin];
+    }
+
+    double getTotalPower() {
+        return prefixSum[power.length];
+    }
+
+    /**
+     * Position in bins from the lower spectrum edge, bin i covers [i, i + 1).
+     */
+    double toPosition(double frequency) {
+        return frequency / binWidth + power.length / 2 + 0.5;
+    }
+
+    double toFrequency(double position) {
+        return (position - power.length / 2 - 0.5) * binWidth;
+    }
+
+    /**
+     * Power below a position, positions outside the spectrum are clamped.
+     */
+    double cumulative(double position) {
+        if (position <= 0) {
+            return 0;
+        }
+        if (position >= power.length) {
+            return prefixSum[power.length];
+        }
+        int bin = (int) position;
+        return prefixSum[bin] + (position - bin) * power[bin];
+    }
+
+    /**
+     * Highest position where cumulative power is at most a value, the inverse of {@link #cumulative(double)} when
+     * searching for a lower band edge.
+     */
+    double lastPositionAtMost(double cumulativePower) {
+        if (cumulativePower >= prefixSum[power.length]) {
+            return power.length;
+        }
+        // Find last prefix sum not above the value, bins after it have power
+        int low = 0;
+        int high = power.length;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (prefixSum[middle] <= cumulativePower) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return low + Math.max(0, cumulativePower - prefixSum[low]) / power[low];
+    }
+
+    /**
+     * Lowest position where cumulative power is at least a value, the inverse of {@link #cumulative(double)} when
+     * searching for an upper band edge.
+     */
+    double firstPositionAtLeast(double cumulativePower) {
+        if (cumulativePower <= 0) {
+            return 0;
+        }
+        // Find first prefix sum not below the value, bins before it have power
+        int low = 0;
+        int high = power.length;
+        while (high - low > 1) {
+            int middle = (low + high) >>> 1;
+            if (prefixSum[middle] >= cumulativePower) {
+                high = middle;
+            } else {
+                low = middle;
+            }
+        }
+        if (prefixSum[high] < cumulativePower) {
+            return power.length;
+        }
+        return high - Math.max(0, prefixSum[high] - cumulativePower) / power[high - 1];
+    }
+
+    double powerBetween(double lowFrequency, double highFrequency) {
+        if (lowFrequency < -sampleRate / 2.0 - binWidth / 2 || highFrequency > sampleRate / 2.0 + binWidth / 2) {
+            throw new SignalProcessingException("Requested frequency band is outside of data sample rate");
+        }
+        return cumulative(toPosition(highFrequency)) - cumulative(toPosition(lowFrequency));
+    }
+
+}
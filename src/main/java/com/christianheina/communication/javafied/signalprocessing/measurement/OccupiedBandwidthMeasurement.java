@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.measurement;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyBand;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Occupied bandwidth and x dB bandwidth measurement over a single spectrum.<br>
+ * Bin power is summed in to a cumulative power index once. Occupied bandwidth edges are then found by binary search,
+ * leaving equal parts of the power outside the band on each side. Bins are treated as covering one bin width so edges
+ * are interpolated within a bin. x dB bandwidth is found by searching outwards from the highest bin until the power
+ * falls below the peak by x dB, interpolating linearly between bin centers.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class OccupiedBandwidthMeasurement {
+
+    private final CumulativePower cumulativePower;
+    private final int peakBin;
+
+    /**
+     * Constructor
+     * 
+     * @param signal
+     *            {@link FrequencyDomainSignal} to measure
+     */
+    public OccupiedBandwidthMeasurement(FrequencyDomainSignal signal) {
+        this.cumulativePower = new CumulativePower(signal, 1);
+        int peak = 0;
+        for (int i = 1; i < cumulativePower.getBins(); i++) {
+            if (cumulativePower.getPower(i) > cumulativePower.getPower(peak)) {
+                peak = i;
+            }
+        }
+        this.peakBin = peak;
+    }
+
+    /**
+     * Constructor transforming the signal once.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to measure
+     */
+    public OccupiedBandwidthMeasurement(TimeDomainSignal signal) {
+        this(signal.asFrequencyDomainSignal());
+    }
+
+    /**
+     * Occupied bandwidth containing a percentage of the total power.
+     * 
+     * @param percent
+     *            percentage of total power inside the band, larger than 0 and at most 100
+     * 
+     * @return occupied {@link FrequencyBand}
+     */
+    public FrequencyBand occupiedBandwidth(double percent) {
+        if (percent <= 0 || percent > 100) {
+            throw new SignalProcessingException("Percent needs to be larger than 0 and at most 100");
+        }
+        double total = cumulativePower.getTotalPower();
+        if (total == 0) {
+            throw new SignalProcessingException("Spectrum contains no power");
+        }
+        double outside = total * (1 - percent / 100) / 2;
+        double low = cumulativePower.toFrequency(cumulativePower.lastPositionAtMost(outside));
+        double high = cumulativePower.toFrequency(cumulativePower.firstPositionAtLeast(total - outside));
+        return toBand(low, high);
+    }
+
+    /**
+     * Bandwidth around the highest bin where power stays within x dB of the peak.
+     * 
+     * @param xDb
+     *            how many dB below the peak the band edges are, larger than 0
+     * 
+     * @return x dB {@link FrequencyBand}
+     */
+    public FrequencyBand xDbBandwidth(double xDb) {
+        if (xDb <= 0) {
+            throw new SignalProcessingException("x dB needs to be larger than 0");
+        }
+        double peakPower = cumulativePower.getPower(peakBin);
+        if (peakPower == 0) {
+            throw new SignalProcessingException("Spectrum contains no power");
+        }
+        double threshold = peakPower * Math.pow(10, -xDb / 10);
+        double low = crossing(threshold, -1);
+        double high = crossing(threshold, 1);
+        return toBand(low, high);
+    }
+
+    /**
+     * Frequency of the peak bin in Hz relative to IQ center
+     * 
+     * @return peak frequency
+     */
+    public double getPeakFrequency() {
+        return binFrequency(peakBin);
+    }
+
+    private double crossing(double threshold, int direction) {
+        int bin = peakBin;
+        while (bin + direction >= 0 && bin + direction < cumulativePower.getBins()) {
+            double next = cumulativePower.getPower(bin + direction);
+            if (next < threshold) {
+                double current = cumulativePower.getPower(bin);
+                double fraction = (current - threshold) / (current - next);
+                return binFrequency(bin) + direction * fraction * cumulativePower.getBinWidth();
+            }
+            bin += direction;
+        }
+        return binFrequency(bin);
+    }
+
+    private double binFrequency(int bin) {
+        return cumulativePower.toFrequency(bin + 0.5);
+    }
+
+    private static FrequencyBand toBand(double low, double high) {
+        return new FrequencyBand((low + high) / 2, high - low);
+    }
+
+}
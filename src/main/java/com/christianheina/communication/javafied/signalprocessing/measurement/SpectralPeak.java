@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.measurement;
+
+import com.christianheina.common.utilities.PowerUtil;
+
+/**
+ * Class for handling a detected spectral peak.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class SpectralPeak {
+
+    private final int bin;
+    private final double frequency;
+    private final double power;
+    private final double threshold;
+
+    SpectralPeak(int bin, double frequency, double power, double threshold) {
+        this.bin = bin;
+        this.frequency = frequency;
+        this.power = power;
+        this.threshold = threshold;
+    }
+
+    /**
+     * Retrieve bin index in the spectrum
+     * 
+     * @return bin index
+     */
+    public int getBin() {
+        return bin;
+    }
+
+    /**
+     * Retrieve bin frequency in Hz relative to IQ center
+     * 
+     * @return frequency
+     */
+    public double getFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Retrieve peak power in Watts
+     * 
+     * @return power
+     */
+    public double getPower() {
+        return power;
+    }
+
+    /**
+     * Retrieve peak power in dBm
+     * 
+     * @return power
+     */
+    public double getPowerDbm() {
+        return PowerUtil.wattsToDbm(power);
+    }
+
+    /**
+     * Retrieve detection threshold in Watts the peak exceeded
+     * 
+     * @return threshold
+     */
+    public double getThreshold() {
+        return threshold;
+    }
+
+    /**
+     * Retrieve detection threshold in dBm the peak exceeded
+     * 
+     * @return threshold
+     */
+    public double getThresholdDbm() {
+        return PowerUtil.wattsToDbm(threshold);
+    }
+
+}
@@ -0,0 +1,377 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.resampling;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.linear.ArrayRealVector;
+import org.apache.commons.math3.linear.LUDecomposition;
+import org.apache.commons.math3.linear.RealVector;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.filter.DirectFirFilter;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Streaming cascaded integrator-comb (CIC) decimator for large decimation factors.<br>
+ * N integrators run at the input rate and N combs at the output rate, so filtering needs no multiplications no matter
+ * how large the decimation factor is. Input is quantized to fixed point and the filter runs on {@code long} values
+ * where two's complement wrap around in the integrators is cancelled exactly by the combs, the output is exact as long
+ * as input stays within the configured full scale. Input beyond full scale is clipped. The filter gain of
+ * {@code (R * D)^N} grows the word length and limits the resolution left for input, see {@link #getResolution()}. Very
+ * large factors with many stages are better split in to cascaded decimators.<br>
+ * The CIC passband droops towards the output Nyquist frequency, optionally a short compensation FIR with inverse
+ * response is applied at the output rate. The compensation only flattens the passband, further band limiting is left to
+ * the following filter stages. Output is causal and state is carried between calls so a stream can be decimated block
+ * by block.<br>
+ * <strong>Note!</strong> A decimator is not thread safe, use one decimator per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class CicDecimator {
+
+    private static final int MAGNITUDE_BITS = 62;
+    private static final int MIN_INPUT_BITS = 8;
+    private static final int COMPENSATION_TAPS = 21;
+    private static final int COMPENSATION_GRID = 512;
+    private static final double STOPBAND_WEIGHT = 0.01;
+
+    private final int decimation;
+    private final int stages;
+    private final int differentialDelay;
+    private final double fullScale;
+    private final double inputScale;
+    private final double outputScale;
+    private final long[] integrators;
+    private final long[] combs;
+    private final double[] compensationTaps;
+    private final DirectFirFilter compensation;
+    private int combPosition;
+    private int phase;
+
+    /**
+     * Constructor with differential delay 1, full scale 1 and no compensation filter.
+     * 
+     * @param decimation
+     *            downsampling factor R
+     * @param stages
+     *            number of integrator and comb stages N
+     */
+    public CicDecimator(int decimation, int stages) {
+        this(decimation, stages, 1, 1);
+    }
+
+    /**
+     * Constructor without compensation filter.
+     * 
+     * @param decimation
+     *            downsampling factor R
+     * @param stages
+     *            number of integrator and comb stages N
+     * @param differentialDelay
+     *            comb differential delay D in output samples, normally 1 or 2
+     * @param fullScale
+     *            largest absolute I or Q input value
+     */
+    public CicDecimator(int decimation, int stages, int differentialDelay, double fullScale) {
+        this(decimation, stages, differentialDelay, fullScale, 0);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param decimation
+     *            downsampling factor R
+     * @param stages
+     *            number of integrator and comb stages N
+     * @param differentialDelay
+     *            comb differential delay D in output samples, normally 1 or 2
+     * @param fullScale
+     *            largest absolute I or Q input value
+     * @param passband
+     *            edge of the compensated passband as fraction of output sample rate, below 0.5, or 0 to not compensate
+     */
+    public CicDecimator(int decimation, int stages, int differentialDelay, double fullScale, double passband) {
+        if (decimation < 1 || stages < 1 || differentialDelay < 1) {
+            throw new SignalProcessingException("Decimation, stages and differential delay need to be at least 1");
+        }
+        if (!(fullScale > 0) || Double.isInfinite(fullScale)) {
+            throw new SignalProcessingException("Full scale needs to be a positive number");
+        }
+        if (passband < 0 || passband >= 0.5) {
+            throw new SignalProcessingException("Passband needs to be between 0 and 0.5");
+        }
+        int growth = (int) Math.ceil(stages * Math.log((double) decimation * differentialDelay) / Math.log(2) - 1E-9);
+        int inputBits = MAGNITUDE_BITS - growth;
+        if (inputBits < MIN_INPUT_BITS) {
+            throw new SignalProcessingException("Bit growth of " + growth + " bits leaves too little input resolution,"
+                    + " use fewer stages or cascade decimators");
+        }
+        this.decimation = decimation;
+        this.stages = stages;
+        this.differentialDelay = differentialDelay;
+        this.fullScale = fullScale;
+        this.inputScale = Math.scalb(1.0, inputBits) / fullScale;
+        this.outputScale = 1 / (inputScale * Math.pow((double) decimation * differentialDelay, stages));
+        this.integrators = new long[2 * stages];
+        this.combs = new long[2 * stages * differentialDelay];
+        if (passband > 0) {
+            this.compensationTaps = designCompensation(decimation, stages, differentialDelay, passband);
+            this.compensation = new DirectFirFilter(compensationTaps);
+        } else {
+            this.compensationTaps = null;
+            this.compensation = null;
+        }
+    }
+
+    /**
+     * Normalized CIC magnitude response with unit DC gain.
+     * 
+     * @param decimation
+     *            downsampling factor R
+     * @param stages
+     *            number of stages N
+     * @param differentialDelay
+     *            differential delay D
+     * @param frequency
+     *            frequency as fraction of output sample rate
+     * 
+     * @return magnitude response
+     */
+    static double response(int decimation, int stages, int differentialDelay, double frequency) {
+        double x = Math.PI * frequency / decimation;
+        if (Math.abs(Math.sin(x)) < 1E-12) {
+            return 1;
+        }
+        double ratio = Math.sin(x * decimation * differentialDelay)
+                / ((double) decimation * differentialDelay * Math.sin(x));
+        return Math.pow(Math.abs(ratio), stages);
+    }
+
+    private static double[] designCompensation(int decimation, int stages, int differentialDelay, double passband) {
+        // Least squares fit of a linear phase amplitude a0 + 2 * sum(ak * cos(2 pi f k)) to the inverse CIC
+        // response, weighted towards the passband. Beyond the passband the inverse response at the edge is held to
+        // keep the filter well behaved without spending taps on it.
+        int half = COMPENSATION_TAPS / 2;
+        double[][] normal = new double[half + 1][half + 1];
+        double[] target = new double[half + 1];
+        double[] basis = new double[half + 1];
+        for (int g = 0; g <= COMPENSATION_GRID; g++) {
+            double frequency = 0.5 * g / COMPENSATION_GRID;
+            double weight = frequency <= passband ? 1 : STOPBAND_WEIGHT;
+            double desired = 1 / response(decimation, stages, differentialDelay, Math.min(frequency, passband));
+            for (int k = 0; k <= half; k++) {
+                basis[k] = k == 0 ? 1 : 2 * Math.cos(2 * Math.PI * frequency * k);
+            }
+            for (int i = 0; i <= half; i++) {
+                target[i] += weight * basis[i] * desired;
+                for (int j = 0; j <= half; j++) {
+                    normal[i][j] += weight * basis[i] * basis[j];
+                }
+            }
+        }
+        RealVector solution = new LUDecomposition(new Array2DRowRealMatrix(normal, false)).getSolver()
+                .solve(new ArrayRealVector(target, false));
+        double[] taps = new double[COMPENSATION_TAPS];
+        double sum = 0;
+        for (int k = 0; k <= half; k++) {
+            taps[half + k] = solution.getEntry(k);
+            taps[half - k] = solution.getEntry(k);
+        }
+        for (double tap : taps) {
+            sum += tap;
+        }
+        for (int n = 0; n < COMPENSATION_TAPS; n++) {
+            taps[n] /= sum;
+        }
+        return taps;
+    }
+
+    /**
+     * Decimate IQ samples stored as I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to decimate
+     * @param samples
+     *            number of samples to decimate
+     * @param output
+     *            array to write decimated I and Q pairs to, needs room for {@link #outputSamplesFor(int)} samples
+     * @param outputOffset
+     *            index of the first sample (not array index) to write
+     * 
+     * @return number of samples written to output
+     */
+    public int process(double[] iqArray, int offset, int samples, double[] output, int outputOffset) {
+        if (2 * ((long) offset + samples) > iqArray.length
+                || 2 * ((long) outputOffset + outputSamplesFor(samples)) > output.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int written = 0;
+        for (int n = offset; n < offset + samples; n++) {
+            long inPhase = quantize(iqArray[2 * n]);
+            long quadrature = quantize(iqArray[2 * n + 1]);
+            for (int s = 0; s < stages; s++) {
+                inPhase = integrators[2 * s] += inPhase;
+                quadrature = integrators[2 * s + 1] += quadrature;
+            }
+            if (++phase < decimation) {
+                continue;
+            }
+            phase = 0;
+            for (int s = 0; s < stages; s++) {
+                int c = 2 * (s * differentialDelay + combPosition);
+                long previousInPhase = combs[c];
+                long previousQuadrature = combs[c + 1];
+                combs[c] = inPhase;
+                combs[c + 1] = quadrature;
+                inPhase -= previousInPhase;
+                quadrature -= previousQuadrature;
+            }
+            combPosition = combPosition + 1 == differentialDelay ? 0 : combPosition + 1;
+            output[2 * (outputOffset + written)] = inPhase * outputScale;
+            output[2 * (outputOffset + written) + 1] = quadrature * outputScale;
+            written++;
+        }
+        if (compensation != null && written > 0) {
+            compensation.process(output, outputOffset, written, output, outputOffset);
+        }
+        return written;
+    }
+
+    private long quantize(double value) {
+        double clipped = Math.max(-fullScale, Math.min(fullScale, value));
+        return Math.round(clipped * inputScale);
+    }
+
+    /**
+     * Decimate all samples in {@link TimeDomainSignal}, continuing from the current state.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to decimate, sample rate needs to be divisible by R
+     * 
+     * @return decimated {@link TimeDomainSignal} with the new sample rate
+     */
+    public TimeDomainSignal process(TimeDomainSignal signal) {
+        if (signal.getSampleRate() % decimation != 0) {
+            throw new SignalProcessingException("Decimated sample rate needs to be a whole number");
+        }
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        double[] output = new double[2 * outputSamplesFor(iqArray.length / 2)];
+        process(iqArray, 0, iqArray.length / 2, output, 0);
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(output),
+                signal.getSampleRate() / decimation);
+    }
+
+    /**
+     * Decimate a complete {@link TimeDomainSignal}. The decimator is reset before decimating.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to decimate, sample rate needs to be divisible by R
+     * 
+     * @return decimated {@link TimeDomainSignal} with the new sample rate
+     */
+    public TimeDomainSignal decimate(TimeDomainSignal signal) {
+        reset();
+        return process(signal);
+    }
+
+    /**
+     * Number of output samples the next {@link #process(double[], int, int, double[], int)} call will produce.
+     * 
+     * @param samples
+     *            number of input samples
+     * 
+     * @return number of output samples
+     */
+    public int outputSamplesFor(int samples) {
+        return (int) (((long) phase + samples) / decimation);
+    }
+
+    /**
+     * Reset decimator to its initial state.
+     */
+    public void reset() {
+        Arrays.fill(integrators, 0);
+        Arrays.fill(combs, 0);
+        if (compensation != null) {
+            compensation.reset();
+        }
+        combPosition = 0;
+        phase = 0;
+    }
+
+    /**
+     * Retrieve downsampling factor R
+     * 
+     * @return decimation
+     */
+    public int getDecimation() {
+        return decimation;
+    }
+
+    /**
+     * Retrieve number of integrator and comb stages N
+     * 
+     * @return stages
+     */
+    public int getStages() {
+        return stages;
+    }
+
+    /**
+     * Retrieve comb differential delay D
+     * 
+     * @return differential delay
+     */
+    public int getDifferentialDelay() {
+        return differentialDelay;
+    }
+
+    /**
+     * Retrieve smallest input step that can be represented after quantization
+     * 
+     * @return input resolution
+     */
+    public double getResolution() {
+        return 1 / inputScale;
+    }
+
+    /**
+     * Retrieve compensation filter taps
+     * 
+     * @return copy of compensation taps or null if not compensated
+     */
+    public double[] getCompensationTaps() {
+        return compensationTaps == null ? null : compensationTaps.clone();
+    }
+
+    /**
+     * Retrieve group delay in output samples, including compensation filter
+     * 
+     * @return delay in output samples
+     */
+    public double getDelay() {
+        double delay = stages * ((double) decimation * differentialDelay - 1) / 2 / decimation;
+        return compensationTaps == null ? delay : delay + (COMPENSATION_TAPS - 1) / 2.0;
+    }
+
+}
@@ -0,0 +1,324 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.resampling;
+
+import java.util.Arrays;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Streaming Farrow structure resampler for arbitrary sample rate ratios and fractional delays.<br>
+ * Each output sample is interpolated with a Lagrange polynomial through the surrounding input samples. The polynomial
+ * coefficients as function of input samples are precomputed in a table, so every output costs {@code (P + 1)^2}
+ * multiply-accumulates for polynomial degree P regardless of the ratio, which does not need to be rational and can be
+ * changed while streaming to follow a drifting clock.<br>
+ * Output sample k is the input interpolated at input sample time {@code k / ratio - delay}, where input samples before
+ * the first are zero. Output is produced as soon as the input samples it depends on have been processed. Sample times
+ * are tracked in fixed point with 2^-32 sample resolution, so rounding does not accumulate in long streams and output
+ * counts are exact.<br>
+ * <strong>Note!</strong> A resampler is not thread safe, use one resampler per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FarrowResampler {
+
+    private static final int FRACTION_BITS = 32;
+    private static final long ONE = 1L << FRACTION_BITS;
+    private static final long FRACTION_MASK = ONE - 1;
+    private static final int DEFAULT_DEGREE = 3;
+
+    private final int degree;
+    private final int points;
+    private final int right;
+    private final double delay;
+    private final double[][] coefficients;
+    private final double[] branches;
+    private final double[] history;
+    private double ratio;
+    private long step;
+    private long time;
+    private int position;
+
+    /**
+     * Constructor using a cubic polynomial and no delay.
+     * 
+     * @param ratio
+     *            output sample rate divided by input sample rate
+     */
+    public FarrowResampler(double ratio) {
+        this(ratio, DEFAULT_DEGREE, 0);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param ratio
+     *            output sample rate divided by input sample rate
+     * @param degree
+     *            polynomial degree, odd between 1 and 7, 1 is linear interpolation and 3 cubic
+     * @param delay
+     *            delay in input samples, may be fractional and negative
+     */
+    public FarrowResampler(double ratio, int degree, double delay) {
+        if (degree < 1 || degree > 7 || degree % 2 == 0) {
+            throw new SignalProcessingException("Degree needs to be 1, 3, 5 or 7");
+        }
+        if (Double.isNaN(delay) || Double.isInfinite(delay) || Math.abs(delay) >= 1L << 20) {
+            throw new SignalProcessingException("Delay needs to be a finite number below 2^20 samples");
+        }
+        this.degree = degree;
+        this.points = degree + 1;
+        this.right = points / 2;
+        this.delay = delay;
+        this.coefficients = lagrangeCoefficients(degree);
+        this.branches = new double[2 * points];
+        this.history = new double[4 * points];
+        setRatio(ratio);
+        reset();
+    }
+
+    /**
+     * Coefficient table where row m holds the weight of each input sample for the mu^m term. Input sample k of the
+     * table is located at {@code k - (degree - 1) / 2} relative to the sample just before the interpolated time.
+     */
+    static double[][] lagrangeCoefficients(int degree) {
+        int points = degree + 1;
+        int left = (degree - 1) / 2;
+        double[][] table = new double[points][points];
+        for (int k = 0; k < points; k++) {
+            // Expand product of (mu - d_j) / (d_k - d_j) over j != k, polynomial[m] is coefficient of mu^m
+            double[] polynomial = new double[points];
+            polynomial[0] = 1;
+            int terms = 1;
+            for (int j = 0; j < points; j++) {
+                if (j == k) {
+                    continue;
+                }
+                double root = j - left;
+                double scale = 1.0 / (k - j);
+                for (int m = terms; m >= 0; m--) {
+                    double shifted = m > 0 ? polynomial[m - 1] : 0;
+                    polynomial[m] = (shifted - root * polynomial[m]) * scale;
+                }
+                terms++;
+            }
+            for (int m = 0; m < points; m++) {
+                table[m][k] = polynomial[m];
+            }
+        }
+        return table;
+    }
+
+    /**
+     * Resample IQ samples stored as I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to resample
+     * @param samples
+     *            number of samples to resample
+     * @param output
+     *            array to write resampled I and Q pairs to, needs room for {@link #outputSamplesFor(int)} samples
+     * @param outputOffset
+     *            index of the first sample (not array index) to write
+     * 
+     * @return number of samples written to output
+     */
+    public int process(double[] iqArray, int offset, int samples, double[] output, int outputOffset) {
+        if (2 * ((long) offset + samples) > iqArray.length
+                || 2 * ((long) outputOffset + outputSamplesFor(samples)) > output.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int written = 0;
+        for (int n = offset; n < offset + samples; n++) {
+            double inPhase = iqArray[2 * n];
+            double quadrature = iqArray[2 * n + 1];
+            history[2 * position] = inPhase;
+            history[2 * position + 1] = quadrature;
+            history[2 * (position + points)] = inPhase;
+            history[2 * (position + points) + 1] = quadrature;
+            position = position + 1 == points ? 0 : position + 1;
+            // Time is relative to the newest sample
+            time -= ONE;
+
+            // Emit while the newest sample needed, right samples after the one before sample time, is available
+            while (time < (1 - right) * ONE) {
+                int base = (int) (time >> FRACTION_BITS);
+                if (base < -right) {
+                    // Only happens for sample times before the stream started where all samples are zero
+                    output[2 * (outputOffset + written)] = 0;
+                    output[2 * (outputOffset + written) + 1] = 0;
+                    written++;
+                    time += step;
+                    continue;
+                }
+                double mu = (time & FRACTION_MASK) / (double) ONE;
+                // Newest sample is at position + points - 1 and first needed sample at base - left relative to it
+                int h = 2 * position;
+                for (int m = 0; m < points; m++) {
+                    double[] row = coefficients[m];
+                    double real = 0;
+                    double imag = 0;
+                    for (int k = 0; k < points; k++) {
+                        real += row[k] * history[h + 2 * k];
+                        imag += row[k] * history[h + 2 * k + 1];
+                    }
+                    branches[2 * m] = real;
+                    branches[2 * m + 1] = imag;
+                }
+                double real = branches[2 * degree];
+                double imag = branches[2 * degree + 1];
+                for (int m = degree - 1; m >= 0; m--) {
+                    real = real * mu + branches[2 * m];
+                    imag = imag * mu + branches[2 * m + 1];
+                }
+                output[2 * (outputOffset + written)] = real;
+                output[2 * (outputOffset + written) + 1] = imag;
+                written++;
+                time += step;
+            }
+        }
+        return written;
+    }
+
+    /**
+     * Resample all samples in {@link TimeDomainSignal}, continuing from the current state.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to resample
+     * 
+     * @return resampled {@link TimeDomainSignal} with sample rate multiplied by ratio and rounded
+     */
+    public TimeDomainSignal process(TimeDomainSignal signal) {
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        double[] output = new double[2 * outputSamplesFor(iqArray.length / 2)];
+        process(iqArray, 0, iqArray.length / 2, output, 0);
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(output), newSampleRate(signal));
+    }
+
+    /**
+     * Resample a complete {@link TimeDomainSignal}. The resampler is reset before resampling and the end of the signal
+     * is padded with zeros so output covers the whole signal, {@code ceil(samples * ratio)} output samples.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to resample
+     * 
+     * @return resampled {@link TimeDomainSignal} with sample rate multiplied by ratio and rounded
+     */
+    public TimeDomainSignal resample(TimeDomainSignal signal) {
+        reset();
+        int samples = signal.getIqDataList().size();
+        int padding = right + 1 + (int) Math.max(0, Math.ceil(-delay));
+        double[] iqArray = Arrays.copyOf(IqArrayUtil.toIqArray(signal.getIqDataList()), 2 * (samples + padding));
+        double[] output = new double[2 * outputSamplesFor(samples + padding)];
+        process(iqArray, 0, samples + padding, output, 0);
+        // Outputs at sample times before the end of the signal
+        int length = (int) ((samples * ONE + step - 1) / step);
+        double[] trimmed = Arrays.copyOf(output, 2 * length);
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(trimmed), newSampleRate(signal));
+    }
+
+    /**
+     * Delay {@link TimeDomainSignal} by a fractional number of samples using cubic interpolation. Samples before the
+     * start of the signal are zero and the delayed signal keeps the same length and sample rate.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to delay
+     * @param delay
+     *            delay in samples, may be fractional and negative
+     * 
+     * @return new delayed {@link TimeDomainSignal}
+     */
+    public static TimeDomainSignal delay(TimeDomainSignal signal, double delay) {
+        return new FarrowResampler(1, DEFAULT_DEGREE, delay).resample(signal);
+    }
+
+    private int newSampleRate(TimeDomainSignal signal) {
+        return (int) Math.round(signal.getSampleRate() * ratio);
+    }
+
+    /**
+     * Number of output samples the next {@link #process(double[], int, int, double[], int)} call will produce.
+     * 
+     * @param samples
+     *            number of input samples
+     * 
+     * @return number of output samples
+     */
+    public int outputSamplesFor(int samples) {
+        long after = time - samples * ONE;
+        long limit = (1 - right) * ONE - 1;
+        return after > limit ? 0 : (int) ((limit - after) / step + 1);
+    }
+
+    /**
+     * Change ratio while streaming, the next output sample is unaffected and following samples use the new ratio.
+     * 
+     * @param ratio
+     *            output sample rate divided by input sample rate
+     */
+    public void setRatio(double ratio) {
+        long newStep = Math.round(ONE / ratio);
+        if (!(ratio > 0) || newStep < 1 || newStep > ONE << 20) {
+            throw new SignalProcessingException("Ratio needs to be between 2^-20 and 2^32");
+        }
+        this.ratio = ratio;
+        this.step = newStep;
+    }
+
+    /**
+     * Retrieve ratio
+     * 
+     * @return output sample rate divided by input sample rate
+     */
+    public double getRatio() {
+        return ratio;
+    }
+
+    /**
+     * Retrieve polynomial degree
+     * 
+     * @return degree
+     */
+    public int getDegree() {
+        return degree;
+    }
+
+    /**
+     * Retrieve number of input samples an output sample waits for after its sample time
+     * 
+     * @return latency in input samples
+     */
+    public int getLatency() {
+        return right;
+    }
+
+    /**
+     * Reset resampler to its initial state, including the configured delay.
+     */
+    public void reset() {
+        Arrays.fill(history, 0);
+        position = 0;
+        // First output at sample time -delay, relative to the not yet received sample 0
+        time = Math.round((1 - delay) * ONE);
+    }
+
+}
@@ -0,0 +1,285 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.resampling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Streaming polyphase filter bank channelizer splitting IQ data in to N equally spaced channels in a single pass.<br>
+ * Channel k is centered at {@code k * sampleRate / N} relative to IQ center, channels above N / 2 wrap around to
+ * negative frequencies, see {@link #getChannelFrequency(int, int)}. Each channel is shifted to baseband, low-pass
+ * filtered with a shared prototype filter and decimated by D. Using D equal to N gives critically sampled channels and
+ * D below N oversampled channels, for instance N / 2 to keep signals crossing channel edges free from aliasing. All
+ * channels of an output step together cost one multiply-accumulate per prototype tap and one inverse FFT of size N.
+ * Output is causal, delayed by {@link #getDelay()} output samples, and state is carried between calls so a stream can
+ * be channelized block by block.<br>
+ * <strong>Note!</strong> A channelizer is not thread safe, use one channelizer per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class PolyphaseChannelizer {
+
+    private final int channels;
+    private final int decimation;
+    private final int tapCount;
+    private final int length;
+    private final double[] taps;
+    private final double[] history;
+    private final double[] branches;
+    private final double[] twiddles;
+    private final DoubleFFT_1D fft;
+    private int position;
+    private int phase;
+    private int rotation;
+
+    /**
+     * Constructor using a Kaiser windowed-sinc prototype filter with cutoff at half the channel spacing.
+     * 
+     * @param channels
+     *            number of channels N, at least 2
+     * @param decimation
+     *            downsampling factor D, between 1 and N
+     */
+    public PolyphaseChannelizer(int channels, int decimation) {
+        this(channels, decimation, PolyphaseResampler.designLowPass(Math.max(channels, 1)));
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param channels
+     *            number of channels N, at least 2
+     * @param decimation
+     *            downsampling factor D, between 1 and N
+     * @param taps
+     *            prototype low-pass filter taps at input sample rate with unit DC gain
+     */
+    public PolyphaseChannelizer(int channels, int decimation, double[] taps) {
+        if (channels < 2 || decimation < 1 || decimation > channels) {
+            throw new SignalProcessingException("Needs at least 2 channels and decimation between 1 and channels");
+        }
+        if (taps.length == 0) {
+            throw new SignalProcessingException("Filter needs at least 1 tap");
+        }
+        this.channels = channels;
+        this.decimation = decimation;
+        this.tapCount = taps.length;
+        // Pad prototype to whole polyphase branches
+        this.length = (taps.length + channels - 1) / channels * channels;
+        this.taps = Arrays.copyOf(taps, length);
+        this.history = new double[4 * length];
+        this.branches = new double[2 * channels];
+        this.twiddles = new double[2 * channels];
+        for (int i = 0; i < channels; i++) {
+            twiddles[2 * i] = Math.cos(2 * Math.PI * i / channels);
+            twiddles[2 * i + 1] = -Math.sin(2 * Math.PI * i / channels);
+        }
+        this.fft = new DoubleFFT_1D(channels);
+    }
+
+    /**
+     * Channelize IQ samples stored as I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to channelize
+     * @param samples
+     *            number of samples to channelize
+     * @param outputs
+     *            one array per channel to write I and Q pairs to, each needs room for {@link #outputSamplesFor(int)}
+     *            samples
+     * @param outputOffset
+     *            index of the first sample (not array index) to write in each channel
+     * 
+     * @return number of samples written to each channel
+     */
+    public int process(double[] iqArray, int offset, int samples, double[][] outputs, int outputOffset) {
+        if (outputs.length != channels) {
+            throw new SignalProcessingException("Needs one output array per channel");
+        }
+        long outputEnd = 2 * ((long) outputOffset + outputSamplesFor(samples));
+        for (double[] output : outputs) {
+            if (outputEnd > output.length) {
+                throw new SignalProcessingException("Requested samples exceed IQ array length");
+            }
+        }
+        if (2 * ((long) offset + samples) > iqArray.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int written = 0;
+        for (int n = offset; n < offset + samples; n++) {
+            double inPhase = iqArray[2 * n];
+            double quadrature = iqArray[2 * n + 1];
+            history[2 * position] = inPhase;
+            history[2 * position + 1] = quadrature;
+            history[2 * (position + length)] = inPhase;
+            history[2 * (position + length) + 1] = quadrature;
+            position = position + 1 == length ? 0 : position + 1;
+            boolean outputStep = phase == 0;
+            phase = phase + 1 == decimation ? 0 : phase + 1;
+            if (outputStep) {
+                outputStep(outputs, outputOffset + written);
+                written++;
+            }
+        }
+        return written;
+    }
+
+    private void outputStep(double[][] outputs, int index) {
+        // Branch r sums taps r, r + N, r + 2N, ... against samples r, r + N, r + 2N, ... back in time
+        int newest = position + length - 1;
+        for (int r = 0; r < channels; r++) {
+            double real = 0;
+            double imag = 0;
+            for (int j = r; j < length; j += channels) {
+                int h = 2 * (newest - j);
+                real += taps[j] * history[h];
+                imag += taps[j] * history[h + 1];
+            }
+            branches[2 * r] = real;
+            branches[2 * r + 1] = imag;
+        }
+        // Channel k is sum of branch r rotated by e^(j2pi k r / N), an unscaled inverse DFT
+        fft.complexInverse(branches, false);
+        // Mixing was relative to input time, rotate back by e^(-j2pi k m D / N) for output step m
+        for (int k = 0; k < channels; k++) {
+            int t = 2 * (int) ((long) k * rotation % channels);
+            double real = branches[2 * k];
+            double imag = branches[2 * k + 1];
+            outputs[k][2 * index] = real * twiddles[t] - imag * twiddles[t + 1];
+            outputs[k][2 * index + 1] = real * twiddles[t + 1] + imag * twiddles[t];
+        }
+        rotation = (rotation + decimation) % channels;
+    }
+
+    /**
+     * Channelize all samples in {@link TimeDomainSignal}, continuing from the current state.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to channelize, sample rate needs to be divisible by D
+     * 
+     * @return one {@link TimeDomainSignal} per channel at the decimated sample rate
+     */
+    public List<TimeDomainSignal> process(TimeDomainSignal signal) {
+        if (signal.getSampleRate() % decimation != 0) {
+            throw new SignalProcessingException("Decimated sample rate needs to be a whole number");
+        }
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        double[][] outputs = new double[channels][2 * outputSamplesFor(iqArray.length / 2)];
+        process(iqArray, 0, iqArray.length / 2, outputs, 0);
+        List<TimeDomainSignal> channelList = new ArrayList<>(channels);
+        for (double[] output : outputs) {
+            channelList.add(SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(output),
+                    signal.getSampleRate() / decimation));
+        }
+        return channelList;
+    }
+
+    /**
+     * Channelize a complete {@link TimeDomainSignal}. The channelizer is reset before channelizing.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to channelize, sample rate needs to be divisible by D
+     * 
+     * @return one {@link TimeDomainSignal} per channel at the decimated sample rate
+     */
+    public List<TimeDomainSignal> channelize(TimeDomainSignal signal) {
+        reset();
+        return process(signal);
+    }
+
+    /**
+     * Number of output samples per channel the next {@link #process(double[], int, int, double[][], int)} call will
+     * produce.
+     * 
+     * @param samples
+     *            number of input samples
+     * 
+     * @return number of output samples per channel
+     */
+    public int outputSamplesFor(int samples) {
+        // Outputs are produced for input samples when phase is zero
+        int untilNext = phase == 0 ? 0 : decimation - phase;
+        return samples <= untilNext ? 0 : (samples - untilNext - 1) / decimation + 1;
+    }
+
+    /**
+     * Retrieve center frequency of a channel relative to IQ center.
+     * 
+     * @param channel
+     *            channel index
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * 
+     * @return channel center frequency in Hz
+     */
+    public double getChannelFrequency(int channel, int sampleRate) {
+        if (channel < 0 || channel >= channels) {
+            throw new SignalProcessingException("Channel index out of range");
+        }
+        int wrapped = channel < (channels + 1) / 2 ? channel : channel - channels;
+        return (double) wrapped * sampleRate / channels;
+    }
+
+    /**
+     * Reset channelizer to its initial state.
+     */
+    public void reset() {
+        Arrays.fill(history, 0);
+        position = 0;
+        phase = 0;
+        rotation = 0;
+    }
+
+    /**
+     * Retrieve number of channels N
+     * 
+     * @return channels
+     */
+    public int getChannels() {
+        return channels;
+    }
+
+    /**
+     * Retrieve downsampling factor D
+     * 
+     * @return decimation
+     */
+    public int getDecimation() {
+        return decimation;
+    }
+
+    /**
+     * Retrieve prototype filter group delay in output samples, assuming a linear phase filter
+     * 
+     * @return delay in output samples
+     */
+    public double getDelay() {
+        return (tapCount - 1) / 2.0 / decimation;
+    }
+
+}
@@ -0,0 +1,271 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.resampling;
+
+import java.util.Arrays;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+import com.christianheina.communication.javafied.signalprocessing.window.Window;
+import com.christianheina.communication.javafied.signalprocessing.window.WindowFactory;
+
+/**
+ * Streaming polyphase FIR resampler changing the sample rate by a rational factor L / M.<br>
+ * Conceptually the input is upsampled by L with zeros, low-pass filtered and downsampled by M. The filter is split in
+ * to L polyphase sub-filters so zeros are never multiplied and only the output samples that are kept are calculated,
+ * each costing {@code taps / L} multiply-accumulates. Use {@code L = 1} for a decimator and {@code M = 1} for an
+ * interpolator. Output is causal, delayed by {@link #getDelay()} output samples compared to input. State is carried
+ * between calls so a stream can be resampled block by block.<br>
+ * <strong>Note!</strong> A resampler is not thread safe, use one resampler per stream.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class PolyphaseResampler {
+
+    private static final int ZERO_CROSSINGS = 10;
+
+    private final int interpolation;
+    private final int decimation;
+    private final int tapCount;
+    private final int phaseLength;
+    private final double[][] phaseTaps;
+    private final double[] history;
+    private int position;
+    private long phase;
+
+    /**
+     * Constructor using a Kaiser windowed-sinc low-pass filter with cutoff at the lower of the two Nyquist frequencies.
+     * 
+     * @param interpolation
+     *            upsampling factor L
+     * @param decimation
+     *            downsampling factor M
+     */
+    public PolyphaseResampler(int interpolation, int decimation) {
+        this(interpolation, decimation, designTaps(interpolation, decimation));
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param interpolation
+     *            upsampling factor L
+     * @param decimation
+     *            downsampling factor M
+     * @param taps
+     *            low-pass filter taps at L times the input sample rate with unit DC gain
+     */
+    public PolyphaseResampler(int interpolation, int decimation, double[] taps) {
+        if (interpolation < 1 || decimation < 1) {
+            throw new SignalProcessingException("Interpolation and decimation need to be at least 1");
+        }
+        if (taps.length == 0) {
+            throw new SignalProcessingException("Filter needs at least 1 tap");
+        }
+        int divisor = gcd(interpolation, decimation);
+        this.interpolation = interpolation / divisor;
+        this.decimation = decimation / divisor;
+        this.tapCount = taps.length;
+        this.phaseLength = (taps.length + this.interpolation - 1) / this.interpolation;
+        // Sub-filter p holds taps p, p + L, p + 2L, ... reversed and scaled by L to keep unit gain
+        this.phaseTaps = new double[this.interpolation][phaseLength];
+        for (int p = 0; p < this.interpolation; p++) {
+            for (int j = 0; j < phaseLength; j++) {
+                int tap = j * this.interpolation + p;
+                phaseTaps[p][phaseLength - 1 - j] = tap < taps.length ? taps[tap] * this.interpolation : 0;
+            }
+        }
+        this.history = new double[4 * phaseLength];
+    }
+
+    private static int gcd(int a, int b) {
+        return b == 0 ? a : gcd(b, a % b);
+    }
+
+    private static double[] designTaps(int interpolation, int decimation) {
+        if (interpolation < 1 || decimation < 1) {
+            throw new SignalProcessingException("Interpolation and decimation need to be at least 1");
+        }
+        int divisor = gcd(interpolation, decimation);
+        return designLowPass(Math.max(interpolation, decimation) / divisor);
+    }
+
+    /**
+     * Design Kaiser windowed-sinc low-pass filter with unit DC gain and cutoff at half the sample rate divided by
+     * factor.
+     * 
+     * @param factor
+     *            rate change factor the filter band limits for
+     * 
+     * @return filter taps
+     */
+    static double[] designLowPass(int factor) {
+        if (factor == 1) {
+            return new double[] { 1 };
+        }
+        int length = 2 * ZERO_CROSSINGS * factor + 1;
+        Window window = WindowFactory.getSymmetricWindow(WindowType.KAISER, length);
+        double[] taps = new double[length];
+        double sum = 0;
+        for (int n = 0; n < length; n++) {
+            double t = (n - (length - 1) / 2.0) / factor;
+            taps[n] = (t == 0 ? 1 : Math.sin(Math.PI * t) / (Math.PI * t)) * window.getCoefficient(n);
+            sum += taps[n];
+        }
+        for (int n = 0; n < length; n++) {
+            taps[n] /= sum;
+        }
+        return taps;
+    }
+
+    /**
+     * Resample IQ samples stored as I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to resample
+     * @param samples
+     *            number of samples to resample
+     * @param output
+     *            array to write resampled I and Q pairs to, needs room for {@link #outputSamplesFor(int)} samples
+     * @param outputOffset
+     *            index of the first sample (not array index) to write
+     * 
+     * @return number of samples written to output
+     */
+    public int process(double[] iqArray, int offset, int samples, double[] output, int outputOffset) {
+        if (2 * ((long) offset + samples) > iqArray.length
+                || 2 * ((long) outputOffset + outputSamplesFor(samples)) > output.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int written = 0;
+        for (int n = offset; n < offset + samples; n++) {
+            double inPhase = iqArray[2 * n];
+            double quadrature = iqArray[2 * n + 1];
+            history[2 * position] = inPhase;
+            history[2 * position + 1] = quadrature;
+            history[2 * (position + phaseLength)] = inPhase;
+            history[2 * (position + phaseLength) + 1] = quadrature;
+            position = position + 1 == phaseLength ? 0 : position + 1;
+
+            // Every output whose position on the upsampled grid falls on this input sample
+            while (phase < interpolation) {
+                double[] subFilter = phaseTaps[(int) phase];
+                double real = 0;
+                double imag = 0;
+                int h = 2 * position;
+                for (int k = 0; k < phaseLength; k++) {
+                    real += subFilter[k] * history[h++];
+                    imag += subFilter[k] * history[h++];
+                }
+                output[2 * (outputOffset + written)] = real;
+                output[2 * (outputOffset + written) + 1] = imag;
+                written++;
+                phase += decimation;
+            }
+            phase -= interpolation;
+        }
+        return written;
+    }
+
+    /**
+     * Resample all samples in {@link TimeDomainSignal}, continuing from the current state.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to resample, sample rate times L needs to be divisible by M
+     * 
+     * @return resampled {@link TimeDomainSignal} with the new sample rate
+     */
+    public TimeDomainSignal process(TimeDomainSignal signal) {
+        long sampleRate = (long) signal.getSampleRate() * interpolation;
+        if (sampleRate % decimation != 0) {
+            throw new SignalProcessingException("Resampled sample rate needs to be a whole number");
+        }
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        double[] output = new double[2 * outputSamplesFor(iqArray.length / 2)];
+        process(iqArray, 0, iqArray.length / 2, output, 0);
+        return SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(output), (int) (sampleRate / decimation));
+    }
+
+    /**
+     * Resample a complete {@link TimeDomainSignal}. The resampler is reset before resampling.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to resample, sample rate times L needs to be divisible by M
+     * 
+     * @return resampled {@link TimeDomainSignal} with the new sample rate
+     */
+    public TimeDomainSignal resample(TimeDomainSignal signal) {
+        reset();
+        return process(signal);
+    }
+
+    /**
+     * Number of output samples the next {@link #process(double[], int, int, double[], int)} call will produce.
+     * 
+     * @param samples
+     *            number of input samples
+     * 
+     * @return number of output samples
+     */
+    public int outputSamplesFor(int samples) {
+        // Outputs are at phase, phase + M, ... below samples * L
+        long span = (long) samples * interpolation - phase;
+        return span <= 0 ? 0 : (int) ((span + decimation - 1) / decimation);
+    }
+
+    /**
+     * Reset resampler to its initial state.
+     */
+    public void reset() {
+        Arrays.fill(history, 0);
+        position = 0;
+        phase = 0;
+    }
+
+    /**
+     * Retrieve reduced upsampling factor L
+     * 
+     * @return interpolation
+     */
+    public int getInterpolation() {
+        return interpolation;
+    }
+
+    /**
+     * Retrieve reduced downsampling factor M
+     * 
+     * @return decimation
+     */
+    public int getDecimation() {
+        return decimation;
+    }
+
+    /**
+     * Retrieve filter group delay in output samples, assuming a linear phase filter
+     * 
+     * @return delay in output samples
+     */
+    public double getDelay() {
+        return (tapCount - 1) / 2.0 / decimation;
+    }
+
+}
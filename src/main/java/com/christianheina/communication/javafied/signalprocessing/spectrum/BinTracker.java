@@ -0,0 +1,233 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.christianheina.common.utilities.PowerUtil;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Base class for trackers calculating a selected set of DFT bins directly from time domain samples.<br>
+ * Bin values are normalized by the DFT length the same way as {@link TimeDomainSignal#asFrequencyDomainSignal()}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public abstract class BinTracker {
+
+    /**
+     * Signal sample rate in Hertz.
+     */
+    protected final int sampleRate;
+    /**
+     * DFT length in samples.
+     */
+    protected final int length;
+    /**
+     * Tracked frequencies in Hz relative to IQ center.
+     */
+    protected final double[] frequencies;
+    /**
+     * Latest bin values as I and Q pairs, one pair per tracked frequency.
+     */
+    protected final double[] binValues;
+    /**
+     * Number of samples processed since creation or last reset.
+     */
+    protected long sampleCount;
+
+    /**
+     * Constructor
+     * 
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param length
+     *            DFT length in samples
+     * @param frequencies
+     *            frequencies to track in Hz relative to IQ center
+     */
+    protected BinTracker(int sampleRate, int length, double... frequencies) {
+        if (length < 2) {
+            throw new SignalProcessingException("DFT length needs to be at least 2 samples");
+        }
+        if (frequencies.length == 0) {
+            throw new SignalProcessingException("At least one frequency needs to be tracked");
+        }
+        for (double frequency : frequencies) {
+            if (Math.abs(frequency) > sampleRate / 2.0) {
+                throw new SignalProcessingException("Requested frequency is outside of data sample rate");
+            }
+        }
+        this.sampleRate = sampleRate;
+        this.length = length;
+        this.frequencies = frequencies.clone();
+        this.binValues = new double[frequencies.length * 2];
+    }
+
+    /**
+     * Process one IQ sample.
+     * 
+     * @param inPhase
+     *            in phase (I) value
+     * @param quadrature
+     *            quadrature (Q) value
+     * 
+     * @return true if new bin values are available
+     */
+    public abstract boolean update(double inPhase, double quadrature);
+
+    /**
+     * Reset tracker to its initial state.
+     */
+    public abstract void reset();
+
+    /**
+     * Process IQ samples stored as I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to process
+     * @param samples
+     *            number of samples to process
+     * @param listener
+     *            listener notified every time new bin values are available
+     */
+    public void process(double[] iqArray, int offset, int samples, BinTrackerListener listener) {
+        if (2 * (offset + samples) > iqArray.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        for (int i = 2 * offset; i < 2 * (offset + samples); i += 2) {
+            if (update(iqArray[i], iqArray[i + 1])) {
+                listener.binsUpdated(sampleCount - 1, this);
+            }
+        }
+    }
+
+    /**
+     * Process all samples in {@link TimeDomainSignal}.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to process
+     * @param listener
+     *            listener notified every time new bin values are available
+     */
+    public void process(TimeDomainSignal signal, BinTrackerListener listener) {
+        if (signal.getSampleRate() != sampleRate) {
+            throw new SignalProcessingException("Signal sample rate does not match tracker sample rate");
+        }
+        for (Complex sample : signal.getIqDataList()) {
+            if (update(sample.getReal(), sample.getImaginary())) {
+                listener.binsUpdated(sampleCount - 1, this);
+            }
+        }
+    }
+
+    /**
+     * Retrieve IQ data sample rate in Hz
+     * 
+     * @return sample rate
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Retrieve DFT length in samples
+     * 
+     * @return DFT length
+     */
+    public int getLength() {
+        return length;
+    }
+
+    /**
+     * Retrieve tracked frequencies in Hz relative to IQ center
+     * 
+     * @return tracked frequencies
+     */
+    public double[] getFrequencies() {
+        return frequencies.clone();
+    }
+
+    /**
+     * Retrieve number of samples processed since creation or last reset
+     * 
+     * @return processed sample count
+     */
+    public long getSampleCount() {
+        return sampleCount;
+    }
+
+    /**
+     * Retrieve latest value for a tracked frequency
+     * 
+     * @param index
+     *            index of tracked frequency
+     * 
+     * @return bin value
+     */
+    public Complex getBin(int index) {
+        return new Complex(binValues[2 * index], binValues[2 * index + 1]);
+    }
+
+    /**
+     * Retrieve latest Watt power for a tracked frequency
+     * 
+     * @param index
+     *            index of tracked frequency
+     * @param resistance
+     *            the resistance in ohms.
+     * 
+     * @return power in Watts
+     */
+    public double getPower(int index, double resistance) {
+        double real = binValues[2 * index];
+        double imag = binValues[2 * index + 1];
+        return (real * real + imag * imag) / resistance;
+    }
+
+    /**
+     * Retrieve latest dBm power for a tracked frequency
+     * 
+     * @param index
+     *            index of tracked frequency
+     * @param resistance
+     *            the resistance in ohms.
+     * 
+     * @return power in dBm
+     */
+    public double getPowerDbm(int index, double resistance) {
+        return PowerUtil.wattsToDbm(getPower(index, resistance));
+    }
+
+    /**
+     * Copy latest dBm power for all tracked frequencies in to an existing array
+     * 
+     * @param resistance
+     *            the resistance in ohms.
+     * @param powerDbm
+     *            array to fill, needs to be at least the number of tracked frequencies long
+     */
+    public void copyPowerDbm(double resistance, double[] powerDbm) {
+        for (int i = 0; i < frequencies.length; i++) {
+            powerDbm[i] = getPowerDbm(i, resistance);
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+/**
+ * Listener notified every time a {@link BinTracker} has new bin values available.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+@FunctionalInterface
+public interface BinTrackerListener {
+
+    /**
+     * Called when new bin values are available. Bin values are read from the tracker and are only valid until the next
+     * sample is processed.
+     * 
+     * @param sampleIndex
+     *            index of the last sample included in the bin values
+     * @param tracker
+     *            the tracker holding the new bin values
+     */
+    void binsUpdated(long sampleIndex, BinTracker tracker);
+
+}
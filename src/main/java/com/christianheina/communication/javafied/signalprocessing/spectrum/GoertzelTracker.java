@@ -0,0 +1,105 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.Arrays;
+
+/**
+ * Goertzel tracker calculating selected DFT bins once per block of samples.<br>
+ * Each sample costs one real multiplication per tracked frequency and I/Q component. Bin values are available every
+ * {@link #getLength()} samples and match the corresponding bin of a full DFT over the same block.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class GoertzelTracker extends BinTracker {
+
+    private final double[] coefficients;
+    private final double[] twiddleReal;
+    private final double[] twiddleImag;
+    private final double[] phaseReal;
+    private final double[] phaseImag;
+    private final double[] state;
+    private int blockIndex;
+
+    /**
+     * Constructor
+     * 
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param blockSize
+     *            number of samples per block
+     * @param frequencies
+     *            frequencies to track in Hz relative to IQ center
+     */
+    public GoertzelTracker(int sampleRate, int blockSize, double... frequencies) {
+        super(sampleRate, blockSize, frequencies);
+        coefficients = new double[frequencies.length];
+        twiddleReal = new double[frequencies.length];
+        twiddleImag = new double[frequencies.length];
+        phaseReal = new double[frequencies.length];
+        phaseImag = new double[frequencies.length];
+        state = new double[frequencies.length * 4];
+        for (int i = 0; i < frequencies.length; i++) {
+            double omega = 2 * Math.PI * frequencies[i] / sampleRate;
+            coefficients[i] = 2 * Math.cos(omega);
+            twiddleReal[i] = Math.cos(omega);
+            twiddleImag[i] = -Math.sin(omega);
+            phaseReal[i] = Math.cos(omega * (blockSize - 1));
+            phaseImag[i] = -Math.sin(omega * (blockSize - 1));
+        }
+    }
+
+    @Override
+    public boolean update(double inPhase, double quadrature) {
+        for (int i = 0; i < coefficients.length; i++) {
+            int s = 4 * i;
+            double real = inPhase + coefficients[i] * state[s] - state[s + 2];
+            double imag = quadrature + coefficients[i] * state[s + 1] - state[s + 3];
+            state[s + 2] = state[s];
+            state[s + 3] = state[s + 1];
+            state[s] = real;
+            state[s + 1] = imag;
+        }
+        sampleCount++;
+        if (++blockIndex < length) {
+            return false;
+        }
+        for (int i = 0; i < coefficients.length; i++) {
+            int s = 4 * i;
+            // y = s[N-1] - e^(-jw) * s[N-2], X = e^(-jw(N-1)) * y
+            double real = state[s] - (twiddleReal[i] * state[s + 2] - twiddleImag[i] * state[s + 3]);
+            double imag = state[s + 1] - (twiddleReal[i] * state[s + 3] + twiddleImag[i] * state[s + 2]);
+            binValues[2 * i] = (phaseReal[i] * real - phaseImag[i] * imag) / length;
+            binValues[2 * i + 1] = (phaseReal[i] * imag + phaseImag[i] * real) / length;
+            state[s] = 0;
+            state[s + 1] = 0;
+            state[s + 2] = 0;
+            state[s + 3] = 0;
+        }
+        blockIndex = 0;
+        return true;
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(state, 0);
+        Arrays.fill(binValues, 0);
+        blockIndex = 0;
+        sampleCount = 0;
+    }
+
+}
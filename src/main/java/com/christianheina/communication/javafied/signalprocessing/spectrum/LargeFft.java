@@ -0,0 +1,347 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.BinaryIqFormat;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.BinaryIqDecoder;
+
+/**
+ * Disk backed FFT for captures too large to transform on the heap.<br>
+ * The transform of N = N1 * N2 samples is calculated with the four-step algorithm: N2 column FFTs of length N1, twiddle
+ * factor multiplication, N1 row FFTs of length N2 and a final transpose. Only blocks of at most {@code blockSamples}
+ * samples are kept in memory at any time while the intermediate result is stored in a scratch file next to the output
+ * file.<br>
+ * The spectrum is normalized and shifted the same way as {@link TimeDomainSignal#asFrequencyDomainSignal()} and stored
+ * as {@link BinaryIqFormat#FLOAT_64} I and Q pairs.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class LargeFft {
+
+    /**
+     * Default maximum number of samples kept in memory.
+     */
+    public static final int DEFAULT_BLOCK_SAMPLES = 1 << 22;
+
+    private static final int MAX_BLOCK_SAMPLES = 1 << 26;
+    private static final int SAMPLE_BYTES = 2 * BinaryIqFormat.FLOAT_64.getByteLength();
+    private static final int TWIDDLE_RESYNC = 64;
+
+    private LargeFft() {
+        /* Hidden Constructor */
+    }
+
+    /**
+     * Calculate FFT of binary IQ file using {@link #DEFAULT_BLOCK_SAMPLES} as memory limit.
+     * 
+     * @param iqFile
+     *            file containing I and Q pairs.
+     * @param format
+     *            the binary format of iqFile
+     * @param byteOrder
+     *            the iqFile and spectrumFile byte order
+     * @param spectrumFile
+     *            file to write spectrum to
+     */
+    public static void fft(Path iqFile, BinaryIqFormat format, ByteOrder byteOrder, Path spectrumFile) {
+        fft(iqFile, format, byteOrder, spectrumFile, DEFAULT_BLOCK_SAMPLES);
+    }
+
+    /**
+     * Calculate FFT of binary IQ file.
+     * 
+     * @param iqFile
+     *            file containing I and Q pairs.
+     * @param format
+     *            the binary format of iqFile
+     * @param byteOrder
+     *            the iqFile and spectrumFile byte order
+     * @param spectrumFile
+     *            file to write spectrum to
+     * @param blockSamples
+     *            maximum number of samples kept in memory
+     */
+    public static void fft(Path iqFile, BinaryIqFormat format, ByteOrder byteOrder, Path spectrumFile,
+            int blockSamples) {
+        if (blockSamples < 1 || blockSamples > MAX_BLOCK_SAMPLES) {
+            throw new SignalProcessingException("Block samples needs to be between 1 and " + MAX_BLOCK_SAMPLES);
+        }
+        Path scratchFile = null;
+        try {
+            long size = Files.size(iqFile);
+            if (size == 0 || size % (2 * format.getByteLength()) != 0) {
+                throw new SignalProcessingException(
+                        "IQ file and format does not match. Please make sure expected format matches file");
+            }
+            long samples = size / (2 * format.getByteLength());
+            long rows = factorize(samples, blockSamples);
+            long columns = samples / rows;
+
+            Path directory = spectrumFile.toAbsolutePath().getParent();
+            scratchFile = Files.createTempFile(directory, "fft", ".tmp");
+            try (FileChannel input = FileChannel.open(iqFile, StandardOpenOption.READ);
+                    FileChannel scratch = FileChannel.open(scratchFile, StandardOpenOption.READ,
+                            StandardOpenOption.WRITE);
+                    FileChannel output = FileChannel.open(spectrumFile, StandardOpenOption.CREATE,
+                            StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+                columnPass(input, format, byteOrder, scratch, (int) rows, columns, blockSamples);
+                rowPass(scratch, (int) rows, (int) columns, blockSamples);
+                transposePass(scratch, output, byteOrder, (int) rows, (int) columns, blockSamples);
+            }
+        } catch (IOException e) {
+            throw new SignalProcessingException("Unable to calculate FFT of IQ file", e);
+        } finally {
+            deleteQuietly(scratchFile);
+        }
+    }
+
+    /**
+     * Read part of a spectrum written by {@link #fft(Path, BinaryIqFormat, ByteOrder, Path)}.
+     * 
+     * @param spectrumFile
+     *            file containing spectrum
+     * @param byteOrder
+     *            the spectrumFile byte order
+     * @param fromBin
+     *            index of first bin to read
+     * @param bins
+     *            number of bins to read, at most 2^27 - 1, larger spectra need to be read in chunks
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * 
+     * @return {@link FrequencyDomainSignal} containing requested bins
+     */
+    public static FrequencyDomainSignal readSpectrum(Path spectrumFile, ByteOrder byteOrder, long fromBin, int bins,
+            int sampleRate) {
+        if (bins > Integer.MAX_VALUE / SAMPLE_BYTES) {
+            throw new SignalProcessingException(
+                    "At most " + Integer.MAX_VALUE / SAMPLE_BYTES + " bins can be read at once, read in chunks");
+        }
+        try (FileChannel channel = FileChannel.open(spectrumFile, StandardOpenOption.READ)) {
+            if (fromBin < 0 || bins < 0 || (fromBin + bins) * (long) SAMPLE_BYTES > channel.size()) {
+                throw new SignalProcessingException("Requested bins are outside of spectrum file");
+            }
+            ByteBuffer buf = ByteBuffer.allocate((int) ((long) bins * SAMPLE_BYTES)).order(byteOrder);
+            readFully(channel, buf, fromBin * SAMPLE_BYTES);
+            List<Complex> iqDataList = new ArrayList<>(bins);
+            for (int i = 0; i < bins; i++) {
+                iqDataList.add(new Complex(buf.getDouble(), buf.getDouble()));
+            }
+            return SignalFactory.newFrequencyDomainSignal(iqDataList, sampleRate);
+        } catch (IOException e) {
+            throw new SignalProcessingException("Unable to read spectrum file", e);
+        }
+    }
+
+    /**
+     * Find the number of rows (N1) closest to the square root of the number of samples so that both rows and columns
+     * fit within the memory limit.
+     */
+    private static long factorize(long samples, int blockSamples) {
+        for (long rows = (long) Math.sqrt(samples); rows >= 1; rows--) {
+            if (samples % rows == 0) {
+                if (samples / rows > blockSamples) {
+                    break;
+                }
+                return rows;
+            }
+        }
+        throw new SignalProcessingException(
+                "Number of samples can not be factored in to FFTs of at most " + blockSamples + " samples");
+    }
+
+    /**
+     * Column FFTs of length N1 and twiddle multiplication. Reads the IQ file and writes the scratch file.
+     */
+    private static void columnPass(FileChannel input, BinaryIqFormat format, ByteOrder byteOrder, FileChannel scratch,
+            int rows, long columns, int blockSamples) throws IOException {
+        int pairBytes = 2 * format.getByteLength();
+        int panelColumns = (int) Math.max(1, Math.min(columns, blockSamples / rows));
+        DoubleFFT_1D fft = rows > 1 ? new DoubleFFT_1D(rows) : null;
+        double[] panel = new double[2 * rows * panelColumns];
+        ByteBuffer inBuf = ByteBuffer.allocate(panelColumns * pairBytes).order(byteOrder);
+        ByteBuffer outBuf = ByteBuffer.allocate(panelColumns * SAMPLE_BYTES).order(ByteOrder.nativeOrder());
+        long samples = rows * columns;
+        for (long firstColumn = 0; firstColumn < columns; firstColumn += panelColumns) {
+            int width = (int) Math.min(panelColumns, columns - firstColumn);
+            for (int row = 0; row < rows; row++) {
+                inBuf.clear().limit(width * pairBytes);
+                readFully(input, inBuf, (row * columns + firstColumn) * pairBytes);
+                for (int column = 0; column < width; column++) {
+                    int index = 2 * (column * rows + row);
+                    panel[index] = BinaryIqDecoder.decode(inBuf, format);
+                    panel[index + 1] = BinaryIqDecoder.decode(inBuf, format);
+                }
+            }
+            for (int column = 0; column < width; column++) {
+                if (fft != null) {
+                    fft.complexForward(panel, 2 * column * rows);
+                }
+                twiddle(panel, 2 * column * rows, rows, firstColumn + column, samples);
+            }
+            for (int row = 0; row < rows; row++) {
+                outBuf.clear().limit(width * SAMPLE_BYTES);
+                for (int column = 0; column < width; column++) {
+                    int index = 2 * (column * rows + row);
+                    outBuf.putDouble(panel[index]).putDouble(panel[index + 1]);
+                }
+                outBuf.flip();
+                writeFully(scratch, outBuf, (row * columns + firstColumn) * SAMPLE_BYTES);
+            }
+        }
+    }
+
+    /**
+     * Multiply column n2 with W_N^(n2 * k1). The twiddle factor is rotated recursively and recalculated regularly to
+     * avoid accumulating rounding errors.
+     */
+    private static void twiddle(double[] panel, int offset, int rows, long column, long samples) {
+        double stepAngle = -2 * Math.PI * column / samples;
+        double stepReal = Math.cos(stepAngle);
+        double stepImag = Math.sin(stepAngle);
+        double real = 1;
+        double imag = 0;
+        for (int row = 0; row < rows; row++) {
+            if (row % TWIDDLE_RESYNC == 0) {
+                double angle = -2 * Math.PI * ((column * row) % samples) / samples;
+                real = Math.cos(angle);
+                imag = Math.sin(angle);
+            }
+            int index = offset + 2 * row;
+            double valueReal = panel[index];
+            double valueImag = panel[index + 1];
+            panel[index] = valueReal * real - valueImag * imag;
+            panel[index + 1] = valueReal * imag + valueImag * real;
+            double nextReal = real * stepReal - imag * stepImag;
+            imag = real * stepImag + imag * stepReal;
+            real = nextReal;
+        }
+    }
+
+    /**
+     * Row FFTs of length N2, in place in the scratch file.
+     */
+    private static void rowPass(FileChannel scratch, int rows, int columns, int blockSamples) throws IOException {
+        if (columns == 1) {
+            return;
+        }
+        int panelRows = Math.max(1, Math.min(rows, blockSamples / columns));
+        DoubleFFT_1D fft = new DoubleFFT_1D(columns);
+        double[] panel = new double[2 * columns * panelRows];
+        ByteBuffer buf = ByteBuffer.allocate(columns * panelRows * SAMPLE_BYTES).order(ByteOrder.nativeOrder());
+        for (long firstRow = 0; firstRow < rows; firstRow += panelRows) {
+            int height = (int) Math.min(panelRows, rows - firstRow);
+            long position = firstRow * columns * SAMPLE_BYTES;
+            buf.clear().limit(height * columns * SAMPLE_BYTES);
+            readFully(scratch, buf, position);
+            buf.asDoubleBuffer().get(panel, 0, 2 * height * columns);
+            for (int row = 0; row < height; row++) {
+                fft.complexForward(panel, 2 * row * columns);
+            }
+            buf.clear().limit(height * columns * SAMPLE_BYTES);
+            buf.asDoubleBuffer().put(panel, 0, 2 * height * columns);
+            writeFully(scratch, buf, position);
+        }
+    }
+
+    /**
+     * Transpose scratch file in to output file while normalizing and shifting the spectrum.
+     */
+    private static void transposePass(FileChannel scratch, FileChannel output, ByteOrder byteOrder, int rows,
+            int columns, int blockSamples) throws IOException {
+        int panelColumns = Math.max(1, Math.min(columns, blockSamples / rows));
+        long samples = (long) rows * columns;
+        long shift = samples >> 1;
+        double scale = 1.0 / samples;
+        double[] panel = new double[2 * rows * panelColumns];
+        ByteBuffer inBuf = ByteBuffer.allocate(panelColumns * SAMPLE_BYTES).order(ByteOrder.nativeOrder());
+        ByteBuffer outBuf = ByteBuffer.allocate(rows * panelColumns * SAMPLE_BYTES).order(byteOrder);
+        for (long firstColumn = 0; firstColumn < columns; firstColumn += panelColumns) {
+            int width = (int) Math.min(panelColumns, columns - firstColumn);
+            for (int row = 0; row < rows; row++) {
+                inBuf.clear().limit(width * SAMPLE_BYTES);
+                readFully(scratch, inBuf, (row * (long) columns + firstColumn) * SAMPLE_BYTES);
+                inBuf.asDoubleBuffer().get(panel, 2 * row * width, 2 * width);
+            }
+            // Output bin k = k1 + N1 * k2 is contiguous for the columns in this panel
+            outBuf.clear();
+            for (int column = 0; column < width; column++) {
+                for (int row = 0; row < rows; row++) {
+                    int index = 2 * (row * width + column);
+                    outBuf.putDouble(panel[index] * scale).putDouble(panel[index + 1] * scale);
+                }
+            }
+            outBuf.flip();
+            long bin = (firstColumn * rows + shift) % samples;
+            long firstPart = Math.min(outBuf.remaining(), (samples - bin) * SAMPLE_BYTES);
+            ByteBuffer head = outBuf.duplicate();
+            head.limit((int) firstPart);
+            writeFully(output, head, bin * SAMPLE_BYTES);
+            outBuf.position((int) firstPart);
+            writeFully(output, outBuf, 0);
+        }
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+        long offset = position;
+        while (buf.hasRemaining()) {
+            int read = channel.read(buf, offset);
+            if (read < 0) {
+                throw new EOFException("Unexpected end of file");
+            }
+            offset += read;
+        }
+        buf.flip();
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buf, long position) throws IOException {
+        long offset = position;
+        while (buf.hasRemaining()) {
+            offset += channel.write(buf, offset);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            /* Scratch file will be left behind */
+        }
+    }
+
+}
@@ -0,0 +1,293 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Persistence spectrum accumulating how often each frequency bin has been seen at each power level.<br>
+ * Every frame adds one hit per frequency bin to a fixed {@code frequency bin x power bin} grid, so memory stays
+ * constant however many frames are accumulated. Powers outside the dBm range are counted in the lowest or highest power
+ * bin. Without decay the grid is an exact {@code int} hit count. With decay older hits fade by the decay factor for
+ * every new frame; instead of scaling the whole grid every frame the weight of new hits grows and the grid is rescaled
+ * only once in a while, keeping each frame O(frequency bins).<br>
+ * Being a {@link SpectrogramListener} the accumulator can be passed directly to {@link ShortTimeFourierTransform}.<br>
+ * <strong>Note!</strong> An accumulator is not thread safe. Use one accumulator per thread and combine them with
+ * {@link #merge(PersistenceSpectrum)}, no locking is needed while accumulating.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class PersistenceSpectrum implements SpectrogramListener {
+
+    private static final double RESCALE_LIMIT = 1E20;
+
+    private final int frequencyBins;
+    private final int powerBins;
+    private final double minDbm;
+    private final double maxDbm;
+    private final double resistance;
+    private final double decay;
+    private final double binsPerDb;
+    private final int[] counts;
+    private final float[] weights;
+    private double hitWeight = 1;
+    private long frameCount;
+
+    /**
+     * Constructor without decay.
+     * 
+     * @param frequencyBins
+     *            number of frequency bins per frame
+     * @param powerBins
+     *            number of power bins between min and max dBm
+     * @param minDbm
+     *            lower edge of the lowest power bin in dBm
+     * @param maxDbm
+     *            upper edge of the highest power bin in dBm
+     * @param resistance
+     *            the resistance in ohms.
+     */
+    public PersistenceSpectrum(int frequencyBins, int powerBins, double minDbm, double maxDbm, double resistance) {
+        this(frequencyBins, powerBins, minDbm, maxDbm, resistance, 1);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param frequencyBins
+     *            number of frequency bins per frame
+     * @param powerBins
+     *            number of power bins between min and max dBm
+     * @param minDbm
+     *            lower edge of the lowest power bin in dBm
+     * @param maxDbm
+     *            upper edge of the highest power bin in dBm
+     * @param resistance
+     *            the resistance in ohms.
+     * @param decay
+     *            factor larger than 0 and at most 1 applied to previous hits for every new frame, 1 for no decay
+     */
+    public PersistenceSpectrum(int frequencyBins, int powerBins, double minDbm, double maxDbm, double resistance,
+            double decay) {
+        if (frequencyBins < 1 || powerBins < 1) {
+            throw new SignalProcessingException("At least 1 frequency bin and 1 power bin is needed");
+        }
+        if (maxDbm <= minDbm) {
+            throw new SignalProcessingException("Max dBm needs to be larger than min dBm");
+        }
+        if (decay <= 0 || decay > 1) {
+            throw new SignalProcessingException("Decay needs to be larger than 0 and at most 1");
+        }
+        this.frequencyBins = frequencyBins;
+        this.powerBins = powerBins;
+        this.minDbm = minDbm;
+        this.maxDbm = maxDbm;
+        this.resistance = resistance;
+        this.decay = decay;
+        this.binsPerDb = powerBins / (maxDbm - minDbm);
+        this.counts = decay == 1 ? new int[frequencyBins * powerBins] : null;
+        this.weights = decay == 1 ? null : new float[frequencyBins * powerBins];
+    }
+
+    /**
+     * Add a spectrum stored as I and Q pairs.
+     * 
+     * @param spectrum
+     *            array containing one I and Q pair per frequency bin
+     */
+    public void update(double[] spectrum) {
+        if (spectrum.length != 2 * frequencyBins) {
+            throw new SignalProcessingException("Spectrum length does not match number of frequency bins");
+        }
+        nextFrame();
+        for (int i = 0; i < frequencyBins; i++) {
+            addHit(i, spectrum[2 * i] * spectrum[2 * i] + spectrum[2 * i + 1] * spectrum[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Add {@link FrequencyDomainSignal}.
+     * 
+     * @param signal
+     *            {@link FrequencyDomainSignal} with one IQ value per frequency bin
+     */
+    public void update(FrequencyDomainSignal signal) {
+        if (signal.getIqDataList().size() != frequencyBins) {
+            throw new SignalProcessingException("Spectrum length does not match number of frequency bins");
+        }
+        nextFrame();
+        int i = 0;
+        for (Complex value : signal.getIqDataList()) {
+            addHit(i++, value.getReal() * value.getReal() + value.getImaginary() * value.getImaginary());
+        }
+    }
+
+    @Override
+    public void rowAvailable(long frameIndex, double[] spectrum) {
+        update(spectrum);
+    }
+
+    private void nextFrame() {
+        frameCount++;
+        if (weights != null && frameCount > 1) {
+            // Rescale instead of dividing once the limit would be passed, keeps the weights finite for any decay
+            if (hitWeight > RESCALE_LIMIT * decay) {
+                rescale(decay / hitWeight);
+            } else {
+                hitWeight /= decay;
+            }
+        }
+    }
+
+    private void rescale(double scale) {
+        for (int i = 0; i < weights.length; i++) {
+            weights[i] = (float) (weights[i] * scale);
+        }
+        hitWeight = 1;
+    }
+
+    private void addHit(int frequencyBin, double squaredMagnitude) {
+        int index = frequencyBin * powerBins + powerBin(squaredMagnitude);
+        if (counts != null) {
+            counts[index]++;
+        } else {
+            weights[index] += hitWeight;
+        }
+    }
+
+    private int powerBin(double squaredMagnitude) {
+        // Same conversion as PowerUtil.wattsToDbm
+        double dbm = 10 * Math.log10(squaredMagnitude / resistance * 1000);
+        double bin = (dbm - minDbm) * binsPerDb;
+        if (!(bin >= 0)) {
+            return 0;
+        }
+        return bin >= powerBins ? powerBins - 1 : (int) bin;
+    }
+
+    /**
+     * Merge hits accumulated by another accumulator in to this accumulator. With decay both grids are treated as
+     * describing the same latest frame.
+     * 
+     * @param other
+     *            accumulator with the same bins, dBm range, resistance and decay
+     */
+    public void merge(PersistenceSpectrum other) {
+        if (other.frequencyBins != frequencyBins || other.powerBins != powerBins || other.minDbm != minDbm
+                || other.maxDbm != maxDbm || other.resistance != resistance || other.decay != decay) {
+            throw new SignalProcessingException("Only accumulators with the same configuration can be merged");
+        }
+        if (counts != null) {
+            for (int i = 0; i < counts.length; i++) {
+                counts[i] += other.counts[i];
+            }
+        } else {
+            rescale(1 / hitWeight);
+            double scale = 1 / other.hitWeight;
+            for (int i = 0; i < weights.length; i++) {
+                weights[i] += (float) (other.weights[i] * scale);
+            }
+        }
+        frameCount += other.frameCount;
+    }
+
+    /**
+     * Retrieve hits for a cell, with decay older hits count less than 1
+     * 
+     * @param frequencyBin
+     *            frequency bin index
+     * @param powerBin
+     *            power bin index, 0 is the lowest power
+     * 
+     * @return hits in cell
+     */
+    public double getHits(int frequencyBin, int powerBin) {
+        int index = frequencyBin * powerBins + powerBin;
+        return counts != null ? counts[index] : weights[index] / hitWeight;
+    }
+
+    /**
+     * Copy hits for all cells in to an existing array, ordered by frequency bin and then power bin so index
+     * {@code frequencyBin * powerBins + powerBin} holds a cell.
+     * 
+     * @param hits
+     *            array to fill, needs to be at least frequency bins times power bins long
+     */
+    public void copyHits(float[] hits) {
+        for (int i = 0; i < frequencyBins * powerBins; i++) {
+            hits[i] = counts != null ? counts[i] : (float) (weights[i] / hitWeight);
+        }
+    }
+
+    /**
+     * Retrieve center power of a power bin in dBm
+     * 
+     * @param powerBin
+     *            power bin index, 0 is the lowest power
+     * 
+     * @return center power in dBm
+     */
+    public double getPowerBinDbm(int powerBin) {
+        return minDbm + (powerBin + 0.5) / binsPerDb;
+    }
+
+    /**
+     * Reset accumulator to its initial state.
+     */
+    public void reset() {
+        if (counts != null) {
+            Arrays.fill(counts, 0);
+        } else {
+            Arrays.fill(weights, 0);
+        }
+        hitWeight = 1;
+        frameCount = 0;
+    }
+
+    /**
+     * Retrieve number of frames accumulated since creation or last reset, including merged frames
+     * 
+     * @return frame count
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Retrieve number of frequency bins
+     * 
+     * @return frequency bins
+     */
+    public int getFrequencyBins() {
+        return frequencyBins;
+    }
+
+    /**
+     * Retrieve number of power bins
+     * 
+     * @return power bins
+     */
+    public int getPowerBins() {
+        return powerBins;
+    }
+
+}
@@ -0,0 +1,302 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.complex.Complex;
+import org.jtransforms.fft.DoubleFFT_1D;
+
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+import com.christianheina.communication.javafied.signalprocessing.window.Window;
+
+/**
+ * Streaming short-time Fourier transform (STFT) calculating spectrogram rows from incremental blocks of samples.<br>
+ * A row is calculated for the latest {@link #getFftSize()} samples every {@link #getHopSize()} samples, starting as
+ * soon as the first {@link #getFftSize()} samples have been received. Each row is windowed, normalized and shifted the
+ * same way as {@link TimeDomainSignal#asFrequencyDomainSignal(Window)}, including the correction by the window coherent
+ * gain, whether the window is given as {@link Window} or as coefficients. The FFT plan and all buffers are allocated
+ * once and reused for every row.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class ShortTimeFourierTransform {
+
+    private final int sampleRate;
+    private final int fftSize;
+    private final int hopSize;
+    private final double[] window;
+    private final DoubleFFT_1D fft;
+    private final double[] history;
+    private final double[] scratch;
+    private final double[] spectrum;
+    private int historyIndex;
+    private int samplesUntilRow;
+    private long frameIndex;
+
+    /**
+     * Constructor using a rectangular window.
+     * 
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param fftSize
+     *            number of samples per row
+     * @param hopSize
+     *            number of samples between the start of two consecutive rows
+     */
+    public ShortTimeFourierTransform(int sampleRate, int fftSize, int hopSize) {
+        this(sampleRate, fftSize, hopSize, null);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param hopSize
+     *            number of samples between the start of two consecutive rows
+     * @param window
+     *            window to apply, the window length is used as FFT size
+     */
+    public ShortTimeFourierTransform(int sampleRate, int hopSize, Window window) {
+        this(sampleRate, window.getLength(), hopSize, window.getCoefficients());
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param fftSize
+     *            number of samples per row
+     * @param hopSize
+     *            number of samples between the start of two consecutive rows
+     * @param window
+     *            window coefficients, one per sample in a row, or null for a rectangular window. Rows are corrected by
+     *            the coherent gain, the mean coefficient.
+     */
+    public ShortTimeFourierTransform(int sampleRate, int fftSize, int hopSize, double[] window) {
+        if (fftSize < 1 || hopSize < 1) {
+            throw new SignalProcessingException("FFT size and hop size needs to be at least 1 sample");
+        }
+        if (window != null && window.length != fftSize) {
+            throw new SignalProcessingException("Window length needs to match FFT size");
+        }
+        this.sampleRate = sampleRate;
+        this.fftSize = fftSize;
+        this.hopSize = hopSize;
+        this.window = window == null ? null : coherentGainCorrected(window);
+        this.fft = new DoubleFFT_1D(fftSize);
+        this.history = new double[2 * fftSize];
+        this.scratch = new double[2 * fftSize];
+        this.spectrum = new double[2 * fftSize];
+        this.samplesUntilRow = fftSize;
+    }
+
+    private static double[] coherentGainCorrected(double[] window) {
+        double sum = 0;
+        for (double coefficient : window) {
+            sum += coefficient;
+        }
+        if (sum == 0) {
+            throw new SignalProcessingException("Window coefficients need to have a non-zero mean");
+        }
+        double scale = window.length / sum;
+        double[] corrected = new double[window.length];
+        for (int i = 0; i < window.length; i++) {
+            corrected[i] = window[i] * scale;
+        }
+        return corrected;
+    }
+
+    /**
+     * Process IQ samples stored as I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to process
+     * @param samples
+     *            number of samples to process
+     * @param listener
+     *            listener notified for every new spectrogram row
+     * 
+     * @return number of rows calculated
+     */
+    public int process(double[] iqArray, int offset, int samples, SpectrogramListener listener) {
+        if (2 * (offset + samples) > iqArray.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int rows = 0;
+        for (int i = 2 * offset; i < 2 * (offset + samples); i += 2) {
+            if (update(iqArray[i], iqArray[i + 1])) {
+                listener.rowAvailable(frameIndex++, spectrum);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Process all samples in {@link TimeDomainSignal}.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to process
+     * @param listener
+     *            listener notified for every new spectrogram row
+     * 
+     * @return number of rows calculated
+     */
+    public int process(TimeDomainSignal signal, SpectrogramListener listener) {
+        if (signal.getSampleRate() != sampleRate) {
+            throw new SignalProcessingException("Signal sample rate does not match STFT sample rate");
+        }
+        int rows = 0;
+        for (Complex sample : signal.getIqDataList()) {
+            if (update(sample.getReal(), sample.getImaginary())) {
+                listener.rowAvailable(frameIndex++, spectrum);
+                rows++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Process IQ samples stored as I and Q pairs and write dBm power rows in to a preallocated spectrogram matrix.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to process
+     * @param samples
+     *            number of samples to process
+     * @param resistance
+     *            the resistance in ohms.
+     * @param spectrogram
+     *            matrix to write power rows in to, each row needs to be at least {@link #getFftSize()} long
+     * @param firstRow
+     *            index of first matrix row to write
+     * 
+     * @return number of rows written
+     */
+    public int process(double[] iqArray, int offset, int samples, double resistance, float[][] spectrogram,
+            int firstRow) {
+        if (2 * (offset + samples) > iqArray.length) {
+            throw new SignalProcessingException("Requested samples exceed IQ array length");
+        }
+        int rows = rowsFor(samples);
+        if (firstRow < 0 || firstRow + rows > spectrogram.length) {
+            throw new SignalProcessingException("Spectrogram matrix does not have room for " + rows + " rows");
+        }
+        // Check all rows before writing any of them
+        for (int row = firstRow; row < firstRow + rows; row++) {
+            if (spectrogram[row].length < fftSize) {
+                throw new SignalProcessingException("Spectrogram row " + row + " is shorter than FFT size");
+            }
+        }
+        int row = firstRow;
+        for (int i = 2 * offset; i < 2 * (offset + samples); i += 2) {
+            if (update(iqArray[i], iqArray[i + 1])) {
+                IqArrayUtil.toPowerDbm(spectrum, resistance, spectrogram[row++]);
+                frameIndex++;
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Calculate number of rows produced by processing additional samples.
+     * 
+     * @param samples
+     *            number of additional samples
+     * 
+     * @return number of rows
+     */
+    public int rowsFor(int samples) {
+        if (samples < samplesUntilRow) {
+            return 0;
+        }
+        return 1 + (samples - samplesUntilRow) / hopSize;
+    }
+
+    /**
+     * Reset STFT to its initial state.
+     */
+    public void reset() {
+        Arrays.fill(history, 0);
+        historyIndex = 0;
+        samplesUntilRow = fftSize;
+        frameIndex = 0;
+    }
+
+    /**
+     * Retrieve IQ data sample rate in Hz
+     * 
+     * @return sample rate
+     */
+    public int getSampleRate() {
+        return sampleRate;
+    }
+
+    /**
+     * Retrieve number of samples per row
+     * 
+     * @return FFT size
+     */
+    public int getFftSize() {
+        return fftSize;
+    }
+
+    /**
+     * Retrieve number of samples between the start of two consecutive rows
+     * 
+     * @return hop size
+     */
+    public int getHopSize() {
+        return hopSize;
+    }
+
+    private boolean update(double inPhase, double quadrature) {
+        history[2 * historyIndex] = inPhase;
+        history[2 * historyIndex + 1] = quadrature;
+        historyIndex = historyIndex + 1 == fftSize ? 0 : historyIndex + 1;
+        if (--samplesUntilRow > 0) {
+            return false;
+        }
+        samplesUntilRow = hopSize;
+        calculateRow();
+        return true;
+    }
+
+    private void calculateRow() {
+        // historyIndex points at the oldest sample
+        int firstPart = fftSize - historyIndex;
+        System.arraycopy(history, 2 * historyIndex, scratch, 0, 2 * firstPart);
+        System.arraycopy(history, 0, scratch, 2 * firstPart, 2 * historyIndex);
+        double scale = 1.0 / fftSize;
+        for (int i = 0; i < fftSize; i++) {
+            double coefficient = window == null ? scale : window[i] * scale;
+            scratch[2 * i] *= coefficient;
+            scratch[2 * i + 1] *= coefficient;
+        }
+        fft.complexForward(scratch);
+        IqArrayUtil.fftShift(scratch, spectrum);
+    }
+
+}
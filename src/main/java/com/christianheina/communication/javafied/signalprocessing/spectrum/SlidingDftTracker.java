@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.Arrays;
+
+/**
+ * Recursive sliding DFT tracker calculating selected DFT bins for every sample.<br>
+ * Bin values describe the last {@link #getLength()} samples and match the corresponding bin of a full DFT over the same
+ * window. Each sample costs one complex multiplication per tracked frequency. To keep rounding errors from accumulating
+ * on very long streams the bins are recalculated from the window periodically.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class SlidingDftTracker extends BinTracker {
+
+    private static final int RESYNC_WINDOWS = 256;
+
+    private final double[] rotationReal;
+    private final double[] rotationImag;
+    private final double[] inputReal;
+    private final double[] inputImag;
+    private final double[] state;
+    private final double[] window;
+    private final long resyncInterval;
+    private int windowIndex;
+
+    /**
+     * Constructor
+     * 
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param windowSize
+     *            number of samples in sliding window
+     * @param frequencies
+     *            frequencies to track in Hz relative to IQ center
+     */
+    public SlidingDftTracker(int sampleRate, int windowSize, double... frequencies) {
+        super(sampleRate, windowSize, frequencies);
+        rotationReal = new double[frequencies.length];
+        rotationImag = new double[frequencies.length];
+        inputReal = new double[frequencies.length];
+        inputImag = new double[frequencies.length];
+        state = new double[frequencies.length * 2];
+        window = new double[windowSize * 2];
+        resyncInterval = (long) windowSize * RESYNC_WINDOWS;
+        for (int i = 0; i < frequencies.length; i++) {
+            double omega = 2 * Math.PI * frequencies[i] / sampleRate;
+            rotationReal[i] = Math.cos(omega);
+            rotationImag[i] = Math.sin(omega);
+            inputReal[i] = Math.cos(omega * (windowSize - 1));
+            inputImag[i] = -Math.sin(omega * (windowSize - 1));
+        }
+    }
+
+    /**
+     * Process one IQ sample.
+     * 
+     * @param inPhase
+     *            in phase (I) value
+     * @param quadrature
+     *            quadrature (Q) value
+     * 
+     * @return true once the sliding window has been filled
+     */
+    @Override
+    public boolean update(double inPhase, double quadrature) {
+        int w = 2 * windowIndex;
+        double oldReal = window[w];
+        double oldImag = window[w + 1];
+        window[w] = inPhase;
+        window[w + 1] = quadrature;
+        windowIndex = windowIndex + 1 == length ? 0 : windowIndex + 1;
+        sampleCount++;
+
+        if (sampleCount % resyncInterval == 0) {
+            resync();
+        } else {
+            for (int i = 0; i < rotationReal.length; i++) {
+                // S[n] = e^(jw) * (S[n-1] - x[n-N]) + e^(-jw(N-1)) * x[n]
+                double real = state[2 * i] - oldReal;
+                double imag = state[2 * i + 1] - oldImag;
+                state[2 * i] = rotationReal[i] * real - rotationImag[i] * imag + inputReal[i] * inPhase
+                        - inputImag[i] * quadrature;
+                state[2 * i + 1] = rotationReal[i] * imag + rotationImag[i] * real + inputReal[i] * quadrature
+                        + inputImag[i] * inPhase;
+            }
+        }
+        for (int i = 0; i < state.length; i++) {
+            binValues[i] = state[i] / length;
+        }
+        return sampleCount >= length;
+    }
+
+    private void resync() {
+        for (int i = 0; i < rotationReal.length; i++) {
+            double phasorReal = 1;
+            double phasorImag = 0;
+            double real = 0;
+            double imag = 0;
+            for (int n = 0; n < length; n++) {
+                int w = 2 * ((windowIndex + n) % length);
+                real += window[w] * phasorReal + window[w + 1] * phasorImag;
+                imag += window[w + 1] * phasorReal - window[w] * phasorImag;
+                double nextReal = phasorReal * rotationReal[i] - phasorImag * rotationImag[i];
+                phasorImag = phasorImag * rotationReal[i] + phasorReal * rotationImag[i];
+                phasorReal = nextReal;
+            }
+            state[2 * i] = real;
+            state[2 * i + 1] = imag;
+        }
+    }
+
+    @Override
+    public void reset() {
+        Arrays.fill(state, 0);
+        Arrays.fill(window, 0);
+        Arrays.fill(binValues, 0);
+        windowIndex = 0;
+        sampleCount = 0;
+    }
+
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+/**
+ * Listener notified every time a {@link ShortTimeFourierTransform} has calculated a new spectrogram row.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+@FunctionalInterface
+public interface SpectrogramListener {
+
+    /**
+     * Called when a new spectrogram row is available. The spectrum array is reused and only valid during the call.
+     * 
+     * @param frameIndex
+     *            index of the row since creation or last reset
+     * @param spectrum
+     *            normalized and shifted spectrum as I and Q pairs
+     */
+    void rowAvailable(long frameIndex, double[] spectrum);
+
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.christianheina.common.utilities.PowerUtil;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.TraceMode;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Trace detector combining a stream of spectra in to a single trace, like the trace modes of a spectrum analyzer.<br>
+ * The trace is kept as linear power in a primitive array and updated in place, each frame costs O(bins) and no objects
+ * are allocated. Averages are calculated on linear power which gives the RMS average of the bin magnitudes. Exponential
+ * average weights each new frame with {@code 1 / min(frameCount, averageCount)} so the trace starts as a plain average
+ * and then follows the latest {@code averageCount} frames.<br>
+ * Being a {@link SpectrogramListener} the detector can be passed directly to {@link ShortTimeFourierTransform}.<br>
+ * <strong>Note!</strong> A detector is not thread safe, use one detector per thread.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class TraceDetector implements SpectrogramListener {
+
+    private final TraceMode mode;
+    private final int averageCount;
+    private final double[] trace;
+    private double[] scratch;
+    private long frameCount;
+
+    /**
+     * Constructor
+     * 
+     * @param mode
+     *            trace mode
+     * @param bins
+     *            number of frequency bins per frame
+     */
+    public TraceDetector(TraceMode mode, int bins) {
+        this(mode, bins, 1);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param mode
+     *            trace mode
+     * @param bins
+     *            number of frequency bins per frame
+     * @param averageCount
+     *            number of frames to average with {@link TraceMode#EXPONENTIAL_AVERAGE}, ignored by other modes
+     */
+    public TraceDetector(TraceMode mode, int bins, int averageCount) {
+        if (bins < 1) {
+            throw new SignalProcessingException("Trace needs at least 1 bin");
+        }
+        if (averageCount < 1) {
+            throw new SignalProcessingException("Average count needs to be at least 1");
+        }
+        this.mode = mode;
+        this.averageCount = averageCount;
+        this.trace = new double[bins];
+    }
+
+    /**
+     * Update trace with a spectrum stored as I and Q pairs.
+     * 
+     * @param spectrum
+     *            array containing one I and Q pair per bin
+     */
+    public void update(double[] spectrum) {
+        if (spectrum.length != 2 * trace.length) {
+            throw new SignalProcessingException("Spectrum length does not match number of trace bins");
+        }
+        frameCount++;
+        switch (mode) {
+        case MAX_HOLD:
+            for (int i = 0; i < trace.length; i++) {
+                double power = spectrum[2 * i] * spectrum[2 * i] + spectrum[2 * i + 1] * spectrum[2 * i + 1];
+                if (frameCount == 1 || power > trace[i]) {
+                    trace[i] = power;
+                }
+            }
+            break;
+        case MIN_HOLD:
+            for (int i = 0; i < trace.length; i++) {
+                double power = spectrum[2 * i] * spectrum[2 * i] + spectrum[2 * i + 1] * spectrum[2 * i + 1];
+                if (frameCount == 1 || power < trace[i]) {
+                    trace[i] = power;
+                }
+            }
+            break;
+        default:
+            double weight = weight();
+            for (int i = 0; i < trace.length; i++) {
+                double power = spectrum[2 * i] * spectrum[2 * i] + spectrum[2 * i + 1] * spectrum[2 * i + 1];
+                trace[i] += (power - trace[i]) * weight;
+            }
+            break;
+        }
+    }
+
+    /**
+     * Update trace with {@link FrequencyDomainSignal}.
+     * 
+     * @param signal
+     *            {@link FrequencyDomainSignal} with one IQ value per bin
+     */
+    public void update(FrequencyDomainSignal signal) {
+        if (signal.getIqDataList().size() != trace.length) {
+            throw new SignalProcessingException("Spectrum length does not match number of trace bins");
+        }
+        // Allocated on first use only, detectors fed with arrays never need it
+        if (scratch == null) {
+            scratch = new double[2 * trace.length];
+        }
+        int i = 0;
+        for (Complex value : signal.getIqDataList()) {
+            scratch[i++] = value.getReal();
+            scratch[i++] = value.getImaginary();
+        }
+        update(scratch);
+    }
+
+    private double weight() {
+        if (mode == TraceMode.EXPONENTIAL_AVERAGE) {
+            return 1.0 / Math.min(frameCount, averageCount);
+        }
+        return 1.0 / frameCount;
+    }
+
+    @Override
+    public void rowAvailable(long frameIndex, double[] spectrum) {
+        update(spectrum);
+    }
+
+    /**
+     * Reset detector to its initial state.
+     */
+    public void reset() {
+        Arrays.fill(trace, 0);
+        frameCount = 0;
+    }
+
+    /**
+     * Retrieve trace mode
+     * 
+     * @return trace mode
+     */
+    public TraceMode getMode() {
+        return mode;
+    }
+
+    /**
+     * Retrieve number of frequency bins
+     * 
+     * @return number of bins
+     */
+    public int getBins() {
+        return trace.length;
+    }
+
+    /**
+     * Retrieve number of frames included since creation or last reset
+     * 
+     * @return frame count
+     */
+    public long getFrameCount() {
+        return frameCount;
+    }
+
+    /**
+     * Retrieve trace Watt power for a bin
+     * 
+     * @param index
+     *            bin index
+     * @param resistance
+     *            the resistance in ohms.
+     * 
+     * @return power in Watts
+     */
+    public double getPower(int index, double resistance) {
+        return trace[index] / resistance;
+    }
+
+    /**
+     * Retrieve trace dBm power for a bin
+     * 
+     * @param index
+     *            bin index
+     * @param resistance
+     *            the resistance in ohms.
+     * 
+     * @return power in dBm
+     */
+    public double getPowerDbm(int index, double resistance) {
+        return PowerUtil.wattsToDbm(getPower(index, resistance));
+    }
+
+    /**
+     * Copy trace Watt power for all bins in to an existing array
+     * 
+     * @param resistance
+     *            the resistance in ohms.
+     * @param power
+     *            array to fill, needs to be at least the number of bins long
+     */
+    public void copyPower(double resistance, double[] power) {
+        for (int i = 0; i < trace.length; i++) {
+            power[i] = trace[i] / resistance;
+        }
+    }
+
+    /**
+     * Copy trace dBm power for all bins in to an existing array
+     * 
+     * @param resistance
+     *            the resistance in ohms.
+     * @param powerDbm
+     *            array to fill, needs to be at least the number of bins long
+     */
+    public void copyPowerDbm(double resistance, double[] powerDbm) {
+        for (int i = 0; i < trace.length; i++) {
+            powerDbm[i] = PowerUtil.wattsToDbm(trace[i] / resistance);
+        }
+    }
+
+}
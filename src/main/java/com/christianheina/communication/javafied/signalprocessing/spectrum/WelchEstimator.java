@@ -0,0 +1,224 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import com.christianheina.common.utilities.PowerUtil;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.window.Window;
+
+/**
+ * Welch power spectral density estimator averaging windowed and overlapping segments in the power domain.<br>
+ * Samples can be fed incrementally while memory stays constant. Estimators with the same configuration can be used on
+ * separate threads and combined with {@link #merge(WelchEstimator)}. The window is normalized to unit noise power gain
+ * so the averaged noise floor matches {@link TimeDomainSignal#asFrequencyDomainSignal()} followed by
+ * {@code toPowerDbm}.<br>
+ * <strong>Note!</strong> An estimator is not thread safe, use one estimator per thread.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class WelchEstimator {
+
+    private final ShortTimeFourierTransform stft;
+    private final int overlap;
+    private final double[] window;
+    private final double[] powerSum;
+    private final double noiseGainCorrection;
+    private final SpectrogramListener accumulator;
+    private long segmentCount;
+
+    /**
+     * Constructor using a rectangular window.
+     * 
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param segmentSize
+     *            number of samples per segment
+     * @param overlap
+     *            number of samples overlapping between consecutive segments
+     */
+    public WelchEstimator(int sampleRate, int segmentSize, int overlap) {
+        this(sampleRate, segmentSize, overlap, null);
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param overlap
+     *            number of samples overlapping between consecutive segments
+     * @param window
+     *            window to apply, the window length is used as segment size
+     */
+    public WelchEstimator(int sampleRate, int overlap, Window window) {
+        this(sampleRate, window.getLength(), overlap, window.getCoefficients());
+    }
+
+    /**
+     * Constructor
+     * 
+     * @param sampleRate
+     *            the sample rate of IQ data
+     * @param segmentSize
+     *            number of samples per segment
+     * @param overlap
+     *            number of samples overlapping between consecutive segments
+     * @param window
+     *            window coefficients, one per sample in a segment, or null for a rectangular window
+     */
+    public WelchEstimator(int sampleRate, int segmentSize, int overlap, double[] window) {
+        if (overlap < 0 || overlap >= segmentSize) {
+            throw new SignalProcessingException("Overlap needs to be at least 0 and smaller than segment size");
+        }
+        this.stft = new ShortTimeFourierTransform(sampleRate, segmentSize, segmentSize - overlap, window);
+        this.overlap = overlap;
+        this.window = window == null ? null : window.clone();
+        this.powerSum = new double[segmentSize];
+        double coherentGain = 1;
+        double noisePowerGain = 1;
+        if (window != null) {
+            double sum = 0;
+            double squareSum = 0;
+            for (double coefficient : window) {
+                sum += coefficient;
+                squareSum += coefficient * coefficient;
+            }
+            coherentGain = sum / segmentSize;
+            noisePowerGain = squareSum / segmentSize;
+        }
+        // Rows are already corrected by the coherent gain, swap it for the noise power gain
+        this.noiseGainCorrection = coherentGain * coherentGain / noisePowerGain;
+        this.accumulator = (frameIndex, spectrum) -> {
+            for (int i = 0; i < powerSum.length; i++) {
+                double real = spectrum[2 * i];
+                double imag = spectrum[2 * i + 1];
+                powerSum[i] += real * real + imag * imag;
+            }
+            segmentCount++;
+        };
+    }
+
+    /**
+     * Add IQ samples stored as I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to add
+     * @param samples
+     *            number of samples to add
+     */
+    public void add(double[] iqArray, int offset, int samples) {
+        stft.process(iqArray, offset, samples, accumulator);
+    }
+
+    /**
+     * Add all samples in {@link TimeDomainSignal}.
+     * 
+     * @param signal
+     *            {@link TimeDomainSignal} to add
+     */
+    public void add(TimeDomainSignal signal) {
+        stft.process(signal, accumulator);
+    }
+
+    /**
+     * Merge segments accumulated by another estimator in to this estimator. Samples of the other estimator that are not
+     * yet part of a complete segment are not merged.
+     * 
+     * @param other
+     *            estimator with the same sample rate, segment size, overlap and window
+     */
+    public void merge(WelchEstimator other) {
+        if (other.stft.getSampleRate() != stft.getSampleRate() || other.stft.getFftSize() != stft.getFftSize()
+                || other.overlap != overlap || !Arrays.equals(other.window, window)) {
+            throw new SignalProcessingException("Only estimators with the same configuration can be merged");
+        }
+        for (int i = 0; i < powerSum.length; i++) {
+            powerSum[i] += other.powerSum[i];
+        }
+        segmentCount += other.segmentCount;
+    }
+
+    /**
+     * Average Watt power per frequency bin, ordered the same way as {@link TimeDomainSignal#asFrequencyDomainSignal()}.
+     * 
+     * @param resistance
+     *            the resistance in ohms.
+     * 
+     * @return power list
+     */
+    public List<Double> toPower(double resistance) {
+        if (segmentCount == 0) {
+            throw new SignalProcessingException("At least one complete segment is needed for an estimate");
+        }
+        List<Double> powerList = new ArrayList<>(powerSum.length);
+        for (double sum : powerSum) {
+            powerList.add(sum * noiseGainCorrection / segmentCount / resistance);
+        }
+        return powerList;
+    }
+
+    /**
+     * Average dBm power per frequency bin, ordered the same way as {@link TimeDomainSignal#asFrequencyDomainSignal()}.
+     * 
+     * @param resistance
+     *            the resistance in ohms.
+     * 
+     * @return power list
+     */
+    public List<Double> toPowerDbm(double resistance) {
+        List<Double> powerList = toPower(resistance);
+        for (int i = 0; i < powerList.size(); i++) {
+            powerList.set(i, PowerUtil.wattsToDbm(powerList.get(i)));
+        }
+        return powerList;
+    }
+
+    /**
+     * Reset estimator to its initial state.
+     */
+    public void reset() {
+        stft.reset();
+        Arrays.fill(powerSum, 0);
+        segmentCount = 0;
+    }
+
+    /**
+     * Retrieve number of segments averaged
+     * 
+     * @return segment count
+     */
+    public long getSegmentCount() {
+        return segmentCount;
+    }
+
+    /**
+     * Retrieve number of samples per segment
+     * 
+     * @return segment size
+     */
+    public int getSegmentSize() {
+        return stft.getFftSize();
+    }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.util;
+
+import java.nio.ByteBuffer;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.BinaryIqFormat;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.langx.half4j.Half;
+
+/**
+ * Utility class decoding {@link BinaryIqFormat} values, shared by everything reading raw IQ bytes.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class BinaryIqDecoder {
+
+    private BinaryIqDecoder() {
+        /* Hidden Constructor */
+    }
+
+    /**
+     * Decode the next I or Q value of a buffer, advancing the buffer position by the format byte length. The buffer
+     * byte order is used.
+     * 
+     * @param buf
+     *            buffer positioned at the value to decode
+     * @param format
+     *            the binary format of the value
+     * 
+     * @return decoded value
+     */
+    public static double decode(ByteBuffer buf, BinaryIqFormat format) {
+        if (format == BinaryIqFormat.FLOAT_16) {
+            return Half.shortBitsToHalf(buf.getShort()).doubleValue();
+        } else if (format == BinaryIqFormat.FLOAT_32) {
+            return buf.getFloat();
+        } else if (format == BinaryIqFormat.FLOAT_64) {
+            return buf.getDouble();
+        }
+        throw new SignalProcessingException(format + " is currently not supported");
+    }
+
+}
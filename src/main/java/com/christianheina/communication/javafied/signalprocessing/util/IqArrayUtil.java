@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+
+import com.christianheina.common.utilities.PowerUtil;
+
+/**
+ * Utility class providing functionality for IQ arrays. IQ arrays store I and Q pairs interleaved in a primitive array,
+ * {@code [I0, Q0, I1, Q1, ...]}, the same layout used by the FFT.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class IqArrayUtil {
+
+    private IqArrayUtil() {
+        /* Hidden Constructor */
+    }
+
+    /**
+     * Converts {@link Complex} list to IQ array.
+     * 
+     * @param complexList
+     *            list of {@link Complex} to convert
+     * 
+     * @return new IQ array
+     */
+    public static double[] toIqArray(List<Complex> complexList) {
+        double[] iqArray = new double[complexList.size() * 2];
+        int index = 0;
+        for (Complex sample : complexList) {
+            iqArray[index++] = sample.getReal();
+            iqArray[index++] = sample.getImaginary();
+        }
+        return iqArray;
+    }
+
+    /**
+     * Converts IQ array to {@link Complex} list.
+     * 
+     * @param iqArray
+     *            IQ array to convert
+     * 
+     * @return new list of {@link Complex}
+     */
+    public static List<Complex> toComplexList(double[] iqArray) {
+        List<Complex> complexList = new ArrayList<>(iqArray.length / 2);
+        for (int i = 0; i + 1 < iqArray.length; i += 2) {
+            complexList.add(new Complex(iqArray[i], iqArray[i + 1]));
+        }
+        return complexList;
+    }
+
+    /**
+     * Converts IQ array to power in Watts.
+     * 
+     * @param iqArray
+     *            IQ array to convert
+     * @param resistance
+     *            the resistance in ohms.
+     * @param power
+     *            array to fill with power in Watts, needs to be at least half the IQ array length
+     */
+    public static void toPower(double[] iqArray, double resistance, double[] power) {
+        for (int i = 0; i < iqArray.length / 2; i++) {
+            double real = iqArray[2 * i];
+            double imag = iqArray[2 * i + 1];
+            power[i] = (real * real + imag * imag) / resistance;
+        }
+    }
+
+    /**
+     * Converts IQ array to power in dBm.
+     * 
+     * @param iqArray
+     *            IQ array to convert
+     * @param resistance
+     *            the resistance in ohms.
+     * @param powerDbm
+     *            array to fill with power in dBm, needs to be at least half the IQ array length
+     */
+    public static void toPowerDbm(double[] iqArray, double resistance, float[] powerDbm) {
+        for (int i = 0; i < iqArray.length / 2; i++) {
+            double real = iqArray[2 * i];
+            double imag = iqArray[2 * i + 1];
+            powerDbm[i] = (float) PowerUtil.wattsToDbm((real * real + imag * imag) / resistance);
+        }
+    }
+
+    /**
+     * Circularly shifts IQ array so that zero frequency ends up in the center, the same way as
+     * {@link com.christianheina.common.math.ComplexAdditions#fftShift(List)}.
+     * 
+     * @param iqArray
+     *            IQ array to shift
+     * @param shifted
+     *            array to fill with shifted IQ values, needs to be the same length as IQ array and not the same array
+     */
+    public static void fftShift(double[] iqArray, double[] shifted) {
+        int samples = iqArray.length / 2;
+        int shift = samples >> 1;
+        int firstPart = samples - shift;
+        System.arraycopy(iqArray, 0, shifted, 2 * shift, 2 * firstPart);
+        System.arraycopy(iqArray, 2 * firstPart, shifted, 0, 2 * shift);
+    }
+
+    /**
+     * Circularly shifts IQ array back so that zero frequency ends up first, the same way as
+     * {@link com.christianheina.common.math.ComplexAdditions#ifftShift(List)}.
+     * 
+     * @param iqArray
+     *            IQ array to shift
+     * @param shifted
+     *            array to fill with shifted IQ values, needs to be the same length as IQ array and not the same array
+     */
+    public static void ifftShift(double[] iqArray, double[] shifted) {
+        int samples = iqArray.length / 2;
+        int shift = (samples + 1) >> 1;
+        int firstPart = samples - shift;
+        System.arraycopy(iqArray, 0, shifted, 2 * shift, 2 * firstPart);
+        System.arraycopy(iqArray, 2 * firstPart, shifted, 0, 2 * shift);
+    }
+
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.window;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Precomputed window coefficients together with their gain correction factors. Instances are immutable and shared, see
+ * {@link WindowFactory}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class Window {
+
+    private final WindowType type;
+    private final double parameter;
+    private final boolean symmetric;
+    private final double[] coefficients;
+    private final double coherentGain;
+    private final double noisePowerGain;
+
+    Window(WindowType type, double parameter, boolean symmetric, double[] coefficients) {
+        this.type = type;
+        this.parameter = parameter;
+        this.symmetric = symmetric;
+        this.coefficients = coefficients;
+        double sum = 0;
+        double squareSum = 0;
+        for (double coefficient : coefficients) {
+            sum += coefficient;
+            squareSum += coefficient * coefficient;
+        }
+        this.coherentGain = sum / coefficients.length;
+        this.noisePowerGain = squareSum / coefficients.length;
+    }
+
+    /**
+     * Retrieve window type
+     * 
+     * @return window type
+     */
+    public WindowType getType() {
+        return type;
+    }
+
+    /**
+     * Retrieve window parameter, only used by {@link WindowType#KAISER} and {@link WindowType#TUKEY}
+     * 
+     * @return window parameter
+     */
+    public double getParameter() {
+        return parameter;
+    }
+
+    /**
+     * Symmetric windows are used for filter design, periodic windows for spectral analysis.
+     * 
+     * @return true if window is symmetric, false if window is periodic
+     */
+    public boolean isSymmetric() {
+        return symmetric;
+    }
+
+    /**
+     * Retrieve number of coefficients
+     * 
+     * @return window length
+     */
+    public int getLength() {
+        return coefficients.length;
+    }
+
+    /**
+     * Retrieve coefficient
+     * 
+     * @param index
+     *            coefficient index
+     * 
+     * @return coefficient
+     */
+    public double getCoefficient(int index) {
+        return coefficients[index];
+    }
+
+    /**
+     * Retrieve copy of all coefficients
+     * 
+     * @return coefficients
+     */
+    public double[] getCoefficients() {
+        return coefficients.clone();
+    }
+
+    /**
+     * Coherent gain, the mean coefficient. Dividing a windowed spectrum by this value restores the amplitude of
+     * sinusoids.
+     * 
+     * @return coherent gain
+     */
+    public double getCoherentGain() {
+        return coherentGain;
+    }
+
+    /**
+     * Noise power gain, the mean squared coefficient. Dividing a windowed power spectrum by this value restores the
+     * noise floor.
+     * 
+     * @return noise power gain
+     */
+    public double getNoisePowerGain() {
+        return noisePowerGain;
+    }
+
+    /**
+     * Equivalent noise bandwidth in bins.
+     * 
+     * @return equivalent noise bandwidth
+     */
+    public double getEquivalentNoiseBandwidth() {
+        return noisePowerGain / (coherentGain * coherentGain);
+    }
+
+    /**
+     * Apply window in place to IQ array containing exactly {@link #getLength()} I and Q pairs.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     */
+    public void apply(double[] iqArray) {
+        if (iqArray.length != 2 * coefficients.length) {
+            throw new SignalProcessingException("IQ array length needs to match window length");
+        }
+        apply(iqArray, 0);
+    }
+
+    /**
+     * Apply window in place to {@link #getLength()} I and Q pairs in IQ array.
+     * 
+     * @param iqArray
+     *            array containing I and Q pairs
+     * @param offset
+     *            index of the first sample (not array index) to apply window to
+     */
+    public void apply(double[] iqArray, int offset) {
+        if (2 * (offset + coefficients.length) > iqArray.length) {
+            throw new SignalProcessingException("Window exceeds IQ array length");
+        }
+        for (int i = 0, j = 2 * offset; i < coefficients.length; i++, j += 2) {
+            iqArray[j] *= coefficients[i];
+            iqArray[j + 1] *= coefficients[i];
+        }
+    }
+
+}
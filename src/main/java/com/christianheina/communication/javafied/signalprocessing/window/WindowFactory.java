@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.window;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Factory for {@link Window}. Coefficients are calculated once per type, length and parameter and then shared. The
+ * least recently used windows are evicted once the cache is full.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class WindowFactory {
+
+    private static final int MAX_CACHE_SIZE = 256;
+
+    // Access ordered, guarded by itself
+    private static final Map<Key, Window> CACHE = new LinkedHashMap<>(16, 0.75f, true);
+
+    private WindowFactory() {
+        /* Hidden Constructor */
+    }
+
+    /**
+     * Retrieve periodic window for spectral analysis using the default window parameter.
+     * 
+     * @param type
+     *            window type
+     * @param length
+     *            number of coefficients
+     * 
+     * @return cached {@link Window}
+     */
+    public static Window getWindow(WindowType type, int length) {
+        return getWindow(type, length, type.getDefaultParameter());
+    }
+
+    /**
+     * Retrieve periodic window for spectral analysis.
+     * 
+     * @param type
+     *            window type
+     * @param length
+     *            number of coefficients
+     * @param parameter
+     *            Kaiser beta or Tukey taper fraction, ignored by other window types
+     * 
+     * @return cached {@link Window}
+     */
+    public static Window getWindow(WindowType type, int length, double parameter) {
+        return getWindow(new Key(type, length, parameter, false));
+    }
+
+    /**
+     * Retrieve symmetric window for filter design using the default window parameter.
+     * 
+     * @param type
+     *            window type
+     * @param length
+     *            number of coefficients
+     * 
+     * @return cached {@link Window}
+     */
+    public static Window getSymmetricWindow(WindowType type, int length) {
+        return getSymmetricWindow(type, length, type.getDefaultParameter());
+    }
+
+    /**
+     * Retrieve symmetric window for filter design.
+     * 
+     * @param type
+     *            window type
+     * @param length
+     *            number of coefficients
+     * @param parameter
+     *            Kaiser beta or Tukey taper fraction, ignored by other window types
+     * 
+     * @return cached {@link Window}
+     */
+    public static Window getSymmetricWindow(WindowType type, int length, double parameter) {
+        return getWindow(new Key(type, length, parameter, true));
+    }
+
+    /**
+     * Remove all cached windows.
+     */
+    public static void clearCache() {
+        synchronized (CACHE) {
+            CACHE.clear();
+        }
+    }
+
+    /**
+     * Number of cached windows.
+     */
+    static int cacheSize() {
+        synchronized (CACHE) {
+            return CACHE.size();
+        }
+    }
+
+    private static Window getWindow(Key key) {
+        if (key.length < 1) {
+            throw new SignalProcessingException("Window length needs to be at least 1");
+        }
+        synchronized (CACHE) {
+            Window window = CACHE.get(key);
+            if (window != null) {
+                return window;
+            }
+        }
+        // Calculate outside the lock, other threads keep using the cache meanwhile
+        Window created = new Window(key.type, key.parameter, key.symmetric, calculate(key));
+        synchronized (CACHE) {
+            Window existing = CACHE.get(key);
+            if (existing != null) {
+                return existing;
+            }
+            CACHE.put(key, created);
+            Iterator<Key> eldest = CACHE.keySet().iterator();
+            while (CACHE.size() > MAX_CACHE_SIZE) {
+                eldest.next();
+                eldest.remove();
+            }
+        }
+        return created;
+    }
+
+    private static double[] calculate(Key key) {
+        double[] coefficients = new double[key.length];
+        // Periodic windows are one sample of a symmetric window of length + 1
+        double period = key.symmetric ? key.length - 1 : key.length;
+        if (period == 0) {
+            coefficients[0] = 1;
+            return coefficients;
+        }
+        for (int n = 0; n < key.length; n++) {
+            double phase = 2 * Math.PI * n / period;
+            switch (key.type) {
+            case RECTANGULAR:
+                coefficients[n] = 1;
+                break;
+            case HANN:
+                coefficients[n] = 0.5 - 0.5 * Math.cos(phase);
+                break;
+            case HAMMING:
+                coefficients[n] = 0.54 - 0.46 * Math.cos(phase);
+                break;
+            case BLACKMAN_HARRIS:
+                coefficients[n] = 0.35875 - 0.48829 * Math.cos(phase) + 0.14128 * Math.cos(2 * phase)
+                        - 0.01168 * Math.cos(3 * phase);
+                break;
+            case FLAT_TOP:
+                coefficients[n] = 0.21557895 - 0.41663158 * Math.cos(phase) + 0.277263158 * Math.cos(2 * phase)
+                        - 0.083578947 * Math.cos(3 * phase) + 0.006947368 * Math.cos(4 * phase);
+                break;
+            case KAISER:
+                double x = 2 * n / period - 1;
+                coefficients[n] = besselI0(key.parameter * Math.sqrt(Math.max(0, 1 - x * x))) / besselI0(key.parameter);
+                break;
+            case TUKEY:
+                coefficients[n] = tukey(n / period, key.parameter);
+                break;
+            default:
+                throw new SignalProcessingException(key.type + " is currently not supported");
+            }
+        }
+        return coefficients;
+    }
+
+    private static double tukey(double position, double alpha) {
+        if (alpha <= 0) {
+            return 1;
+        }
+        double edge = alpha / 2;
+        double distance = Math.min(position, 1 - position);
+        if (distance >= edge) {
+            return 1;
+        }
+        return 0.5 - 0.5 * Math.cos(Math.PI * distance / edge);
+    }
+
+    /**
+     * Modified Bessel function of the first kind, order zero, using its power series.
+     */
+    static double besselI0(double x) {
+        double sum = 1;
+        double term = 1;
+        double halfX = x / 2;
+        for (int k = 1; k < 500; k++) {
+            term *= (halfX / k) * (halfX / k);
+            sum += term;
+            if (term < sum * 1E-17) {
+                break;
+            }
+        }
+        return sum;
+    }
+
+    private static final class Key {
+
+        private final WindowType type;
+        private final int length;
+        private final double parameter;
+        private final boolean symmetric;
+
+        private Key(WindowType type, int length, double parameter, boolean symmetric) {
+            this.type = type;
+            this.length = length;
+            // Parameter only affects Kaiser and Tukey, avoid duplicate entries for other types
+            this.parameter = type == WindowType.KAISER || type == WindowType.TUKEY ? parameter : 0;
+            this.symmetric = symmetric;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return type == other.type && length == other.length && Double.compare(parameter, other.parameter) == 0
+                    && symmetric == other.symmetric;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, length, parameter, symmetric);
+        }
+
+    }
+
+}
@@ -241,6 +241,19 @@ public class SignalProcessingTest {
         SignalProcessing.filterReplaceWithZero(freqSig, 10).asFrequencyDomainSignal();
     }
 
+    @Test
+    public void frequencyShiftTest() {
+        List<Complex> data = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            data.add(Complex.ONE);
+        }
+        TimeDomainSignal shifted = SignalProcessing.frequencyShift(SignalFactory.newTimeDomainSignal(data, 100), 25);
+        for (int i = 0; i < 100; i++) {
+            Complex expected = new Complex(0, Math.PI / 2 * i).exp();
+            Assert.assertTrue(shifted.getIqDataList().get(i).subtract(expected).abs() < 1E-6);
+        }
+    }
+
     private boolean complexEquals(Complex complex1, Complex complex2) {
         return Math.abs(complex1.getReal() - complex2.getReal()) < THRESHOLD
                 && Math.abs(complex1.getImaginary() - complex2.getImaginary()) < THRESHOLD;
@@ -0,0 +1,176 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correction;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.BinaryIqFormat;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link IqImbalanceCorrector}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class IqImbalanceCorrectorTest {
+
+    private static final double THRESHOLD = 1E-9;
+    private static final int SAMPLE_RATE = 1000;
+    private static final int SAMPLES = 20000;
+    private static final double FREQUENCY = 123;
+    private static final Complex DC = new Complex(0.2, -0.1);
+    private static final double GAIN = 1.2;
+    private static final double PHASE = Math.toRadians(10);
+
+    private static double[] impairedTone() {
+        double[] iqArray = new double[2 * SAMPLES];
+        for (int n = 0; n < SAMPLES; n++) {
+            double angle = 2 * Math.PI * FREQUENCY * n / SAMPLE_RATE;
+            iqArray[2 * n] = Math.cos(angle) + DC.getReal();
+            iqArray[2 * n + 1] = GAIN * Math.sin(angle + PHASE) + DC.getImaginary();
+        }
+        return iqArray;
+    }
+
+    private static double toneMagnitude(double[] iqArray, double frequency, int from) {
+        Complex sum = Complex.ZERO;
+        for (int n = from; n < iqArray.length / 2; n++) {
+            Complex rotation = new Complex(0, -2 * Math.PI * frequency * n / SAMPLE_RATE).exp();
+            sum = sum.add(new Complex(iqArray[2 * n], iqArray[2 * n + 1]).multiply(rotation));
+        }
+        return sum.abs() / (iqArray.length / 2 - from);
+    }
+
+    @Test
+    public void estimateTest() {
+        IqImbalanceCorrector corrector = new IqImbalanceCorrector(4096);
+        double[] iqArray = impairedTone();
+        corrector.process(iqArray, 0, SAMPLES);
+        Assert.assertEquals(corrector.getDcOffset().getReal(), DC.getReal(), 1E-3);
+        Assert.assertEquals(corrector.getDcOffset().getImaginary(), DC.getImaginary(), 1E-3);
+        Assert.assertEquals(corrector.getGainImbalance(), GAIN, 1E-3);
+        Assert.assertEquals(corrector.getPhaseImbalance(), PHASE, 1E-3);
+        Assert.assertEquals(corrector.getAveragingSamples(), 4096);
+    }
+
+    @Test
+    public void imageRejectionTest() {
+        double[] impaired = impairedTone();
+        Assert.assertTrue(toneMagnitude(impaired, -FREQUENCY, 10000) > 0.05);
+
+        double[] corrected = impaired.clone();
+        new IqImbalanceCorrector(4096).process(corrected, 0, SAMPLES);
+        Assert.assertEquals(toneMagnitude(corrected, FREQUENCY, 10000), 1, 1E-3);
+        Assert.assertTrue(toneMagnitude(corrected, -FREQUENCY, 10000) < 1E-3);
+        Assert.assertTrue(toneMagnitude(corrected, 0, 10000) < 1E-3);
+    }
+
+    @Test
+    public void streamingTest() {
+        double[] iqArray = impairedTone();
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(iqArray), SAMPLE_RATE);
+        IqImbalanceCorrector corrector = new IqImbalanceCorrector(1000);
+        double[] expected = IqArrayUtil.toIqArray(corrector.correct(signal).getIqDataList());
+
+        corrector.reset();
+        double[] streamed = iqArray.clone();
+        int offset = 0;
+        for (int samples : new int[] { 1, 31, 1000, 7, 8961, 10000 }) {
+            corrector.process(streamed, offset, samples);
+            offset += samples;
+        }
+        Assert.assertEquals(streamed, expected, THRESHOLD);
+
+        // One-shot correction starts over
+        double[] again = IqArrayUtil.toIqArray(corrector.correct(signal).getIqDataList());
+        Assert.assertEquals(again, expected, THRESHOLD);
+    }
+
+    @Test
+    public void byteDecodeTest() {
+        double[] iqArray = impairedTone();
+        ByteBuffer buf = ByteBuffer.allocate(4 * iqArray.length).order(ByteOrder.LITTLE_ENDIAN);
+        for (double value : iqArray) {
+            buf.putFloat((float) value);
+        }
+        byte[] iqBytes = buf.array();
+        TimeDomainSignal decoded = SignalFactory.newTimeDomainSignal(iqBytes, BinaryIqFormat.FLOAT_32,
+                ByteOrder.LITTLE_ENDIAN, SAMPLE_RATE);
+        double[] expected = IqArrayUtil.toIqArray(new IqImbalanceCorrector(1000).correct(decoded).getIqDataList());
+
+        TimeDomainSignal fused = new IqImbalanceCorrector(1000).process(iqBytes, BinaryIqFormat.FLOAT_32,
+                ByteOrder.LITTLE_ENDIAN, SAMPLE_RATE);
+        Assert.assertEquals(fused.getSampleRate(), SAMPLE_RATE);
+        Assert.assertEquals(IqArrayUtil.toIqArray(fused.getIqDataList()), expected, THRESHOLD);
+
+        // Buffer decoding stops at the end of the output array and continues where it stopped
+        IqImbalanceCorrector corrector = new IqImbalanceCorrector(1000);
+        ByteBuffer input = ByteBuffer.wrap(iqBytes).order(ByteOrder.LITTLE_ENDIAN);
+        double[] output = new double[2 * SAMPLES];
+        Assert.assertEquals(corrector.process(input, BinaryIqFormat.FLOAT_32, new double[2 * 100], 0), 100);
+        Assert.assertEquals(input.position(), 100 * 8);
+        input.rewind();
+        corrector.reset();
+        Assert.assertEquals(corrector.process(input, BinaryIqFormat.FLOAT_32, output, 0), SAMPLES);
+        Assert.assertFalse(input.hasRemaining());
+        Assert.assertEquals(output, expected, THRESHOLD);
+    }
+
+    @Test
+    public void balancedTest() {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int n = 0; n < 4000; n++) {
+            iqDataList.add(new Complex(0, 2 * Math.PI * 50 * n / SAMPLE_RATE).exp());
+        }
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+        double[] expected = IqArrayUtil.toIqArray(iqDataList);
+        IqImbalanceCorrector corrector = new IqImbalanceCorrector(1000);
+        double[] corrected = IqArrayUtil.toIqArray(corrector.correct(signal).getIqDataList());
+        Assert.assertEquals(corrector.getGainImbalance(), 1, 5E-3);
+        Assert.assertEquals(corrector.getPhaseImbalance(), 0, 5E-3);
+        // Leaves balanced data unchanged once the estimates have settled
+        for (int i = 4000; i < corrected.length; i++) {
+            Assert.assertEquals(corrected[i], expected[i], 1E-2);
+        }
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void averagingTest() {
+        new IqImbalanceCorrector(0);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void rangeTest() {
+        new IqImbalanceCorrector(100).process(new double[10], 2, 4);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void byteLengthTest() {
+        new IqImbalanceCorrector(100).process(new byte[12], BinaryIqFormat.FLOAT_64, ByteOrder.BIG_ENDIAN, 1000);
+    }
+
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correlation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link CrossCorrelation}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class CrossCorrelationTest {
+
+    private static final int SAMPLE_RATE = 1000;
+    private static final double THRESHOLD = 1E-9;
+
+    private static double[] randomIqArray(Random random, int samples) {
+        double[] iqArray = new double[2 * samples];
+        for (int i = 0; i < iqArray.length; i++) {
+            iqArray[i] = random.nextGaussian();
+        }
+        return iqArray;
+    }
+
+    private static List<Complex> gaussianPulse(int samples, double center, double sigma, Complex rotation) {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < samples; i++) {
+            double t = i - center;
+            iqDataList.add(rotation.multiply(Math.exp(-t * t / (2 * sigma * sigma))));
+        }
+        return iqDataList;
+    }
+
+    @Test
+    public void matchesBruteForceTest() {
+        Random random = new Random(3);
+        double[] reference = randomIqArray(random, 7);
+        double[] signal = randomIqArray(random, 12);
+        double[] correlation = CrossCorrelation.correlate(reference, signal);
+        Assert.assertEquals(correlation.length, 2 * (7 + 12 - 1));
+        for (int lag = -6; lag < 12; lag++) {
+            Complex expected = Complex.ZERO;
+            for (int n = 0; n < 7; n++) {
+                if (n + lag >= 0 && n + lag < 12) {
+                    Complex s = new Complex(signal[2 * (n + lag)], signal[2 * (n + lag) + 1]);
+                    Complex r = new Complex(reference[2 * n], reference[2 * n + 1]);
+                    expected = expected.add(s.multiply(r.conjugate()));
+                }
+            }
+            int index = lag + 6;
+            Assert.assertEquals(correlation[2 * index], expected.getReal(), THRESHOLD);
+            Assert.assertEquals(correlation[2 * index + 1], expected.getImaginary(), THRESHOLD);
+        }
+    }
+
+    @Test
+    public void integerDelayTest() {
+        Random random = new Random(8);
+        double[] reference = randomIqArray(random, 500);
+        double[] signal = new double[2 * 3000];
+        // Signal holds reference delayed by 1234 samples and rotated by 90 degrees
+        for (int i = 0; i < 500; i++) {
+            signal[2 * (i + 1234)] = -reference[2 * i + 1];
+            signal[2 * (i + 1234) + 1] = reference[2 * i];
+        }
+        CorrelationPeak peak = CrossCorrelation.findPeak(reference, signal, SAMPLE_RATE);
+        Assert.assertEquals(peak.getLag(), 1234, 1E-2);
+        Assert.assertEquals(peak.getDelay(), 1.234, 1E-5);
+        Assert.assertEquals(peak.getValue().getReal(), 0, THRESHOLD);
+        Assert.assertEquals(peak.getValue().getImaginary(), 1, THRESHOLD);
+    }
+
+    @Test
+    public void negativeDelayTest() {
+        Random random = new Random(9);
+        double[] signal = randomIqArray(random, 300);
+        double[] reference = new double[2 * 400];
+        System.arraycopy(signal, 0, reference, 2 * 42, signal.length);
+        CorrelationPeak peak = CrossCorrelation.findPeak(reference, signal, SAMPLE_RATE);
+        Assert.assertEquals(peak.getLag(), -42, 1E-2);
+    }
+
+    @Test
+    public void fractionalDelayTest() {
+        TimeDomainSignal reference = SignalFactory.newTimeDomainSignal(gaussianPulse(64, 32, 6, Complex.ONE),
+                SAMPLE_RATE);
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(gaussianPulse(256, 32 + 100.3, 6, Complex.ONE),
+                SAMPLE_RATE);
+        CorrelationPeak peak = CrossCorrelation.findPeak(reference, signal);
+        Assert.assertEquals(peak.getLag(), 100.3, 0.02);
+        Assert.assertEquals(peak.getMagnitude(), 1, 1E-3);
+    }
+
+    @Test
+    public void correlateSignalTest() {
+        Random random = new Random(10);
+        double[] reference = randomIqArray(random, 5);
+        double[] signal = randomIqArray(random, 9);
+        double[] expected = CrossCorrelation.correlate(reference, signal);
+        double[] correlation = CrossCorrelation.correlate(
+                SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(reference), SAMPLE_RATE),
+                SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(signal), SAMPLE_RATE));
+        Assert.assertEquals(correlation, expected, THRESHOLD);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void sampleRateMismatchTest() {
+        CrossCorrelation.findPeak(SignalFactory.newTimeDomainSignal(gaussianPulse(8, 4, 1, Complex.ONE), 1),
+                SignalFactory.newTimeDomainSignal(gaussianPulse(8, 4, 1, Complex.ONE), 2));
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void noEnergyTest() {
+        CrossCorrelation.findPeak(new double[8], new double[8], SAMPLE_RATE);
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correlation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link MatchedFilterBank}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class MatchedFilterBankTest {
+
+    private static final int SAMPLE_RATE = 1000;
+    private static final int TEMPLATES = 12;
+    private static final int INPUT_SAMPLES = 3000;
+
+    private List<TimeDomainSignal> templateList;
+
+    @BeforeMethod
+    public void createTemplates() {
+        Random random = new Random(21);
+        templateList = new ArrayList<>();
+        for (int t = 0; t < TEMPLATES; t++) {
+            List<Complex> iqDataList = new ArrayList<>();
+            for (int i = 0; i < 40 + 10 * t; i++) {
+                iqDataList.add(new Complex(random.nextGaussian(), random.nextGaussian()));
+            }
+            templateList.add(SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE));
+        }
+    }
+
+    private double[] createInput(int template, int position, Complex rotation) {
+        Random random = new Random(22);
+        double[] input = new double[2 * INPUT_SAMPLES];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = random.nextGaussian() * 0.05;
+        }
+        List<Complex> iqDataList = templateList.get(template).getIqDataList();
+        for (int i = 0; i < iqDataList.size(); i++) {
+            Complex value = iqDataList.get(i).multiply(rotation);
+            input[2 * (position + i)] += value.getReal();
+            input[2 * (position + i) + 1] += value.getImaginary();
+        }
+        return input;
+    }
+
+    @Test
+    public void bestTemplateTest() {
+        MatchedFilterBank bank = new MatchedFilterBank(templateList);
+        Complex rotation = new Complex(0, 1.2).exp().multiply(3);
+        List<CorrelationPeak> peakList = bank.correlate(createInput(7, 1717, rotation));
+        Assert.assertEquals(peakList.size(), TEMPLATES);
+        int best = 0;
+        for (int t = 0; t < TEMPLATES; t++) {
+            if (peakList.get(t).getMagnitude() > peakList.get(best).getMagnitude()) {
+                best = t;
+            }
+        }
+        Assert.assertEquals(best, 7);
+        Assert.assertEquals(peakList.get(7).getLag(), 1717, 0.5);
+        Assert.assertEquals(peakList.get(7).getDelay(), 1.717, 0.5 / SAMPLE_RATE);
+        Assert.assertTrue(peakList.get(7).getMagnitude() > 0.99);
+        Assert.assertEquals(peakList.get(7).getValue().getArgument(), 1.2, 1E-2);
+        Assert.assertTrue(peakList.get(3).getMagnitude() < 0.5);
+    }
+
+    @Test
+    public void matchesCrossCorrelationTest() {
+        MatchedFilterBank bank = new MatchedFilterBank(templateList);
+        double[] input = createInput(2, 300, Complex.ONE);
+        CorrelationPeak expected = CrossCorrelation.findPeak(IqArrayUtil.toIqArray(templateList.get(2).getIqDataList()),
+                input, SAMPLE_RATE);
+        CorrelationPeak peak = bank.correlate(input).get(2);
+        Assert.assertEquals(peak.getLag(), expected.getLag(), 0.05);
+    }
+
+    @Test
+    public void repeatedInputTest() {
+        MatchedFilterBank bank = new MatchedFilterBank(templateList);
+        TimeDomainSignal input = SignalFactory
+                .newTimeDomainSignal(IqArrayUtil.toComplexList(createInput(11, 5, Complex.I)), SAMPLE_RATE);
+        List<CorrelationPeak> first = bank.correlate(input);
+        List<CorrelationPeak> second = bank.correlate(input);
+        for (int t = 0; t < TEMPLATES; t++) {
+            Assert.assertEquals(second.get(t).getLag(), first.get(t).getLag());
+            Assert.assertEquals(second.get(t).getMagnitude(), first.get(t).getMagnitude());
+        }
+        Assert.assertEquals(first.get(11).getLag(), 5, 0.5);
+        Assert.assertEquals(bank.getTemplateCount(), TEMPLATES);
+        Assert.assertEquals(bank.getSampleRate(), SAMPLE_RATE);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void inputShorterThanTemplateTest() {
+        new MatchedFilterBank(templateList).correlate(new double[2 * 50]);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void sampleRateMismatchTest() {
+        new MatchedFilterBank(Arrays.asList(templateList.get(0),
+                SignalFactory.newTimeDomainSignal(templateList.get(1).getIqDataList(), SAMPLE_RATE * 2)));
+    }
+
+}
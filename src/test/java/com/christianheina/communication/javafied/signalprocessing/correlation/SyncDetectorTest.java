@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.correlation;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link SyncDetector}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class SyncDetectorTest {
+
+    private static final int SAMPLE_RATE = 100000;
+    private static final int REFERENCE_SAMPLES = 63;
+    private static final int STREAM_SAMPLES = 5000;
+    private static final long[] POSITIONS = { 150, 1200, 1300, 4000 };
+    private static final double THRESHOLD = 0.7;
+
+    private double[] reference;
+    private double[] stream;
+
+    @BeforeMethod
+    public void createStream() {
+        Random random = new Random(12);
+        reference = new double[2 * REFERENCE_SAMPLES];
+        for (int i = 0; i < REFERENCE_SAMPLES; i++) {
+            // Random QPSK symbols
+            reference[2 * i] = random.nextBoolean() ? 1 : -1;
+            reference[2 * i + 1] = random.nextBoolean() ? 1 : -1;
+        }
+        stream = new double[2 * STREAM_SAMPLES];
+        for (int i = 0; i < stream.length; i++) {
+            stream[i] = random.nextGaussian() * 0.1;
+        }
+        for (int p = 0; p < POSITIONS.length; p++) {
+            // Each copy is scaled and rotated differently
+            Complex rotation = new Complex(0, p).exp().multiply(p + 1);
+            for (int i = 0; i < REFERENCE_SAMPLES; i++) {
+                Complex value = new Complex(reference[2 * i], reference[2 * i + 1]).multiply(rotation);
+                int index = (int) (2 * (POSITIONS[p] + i));
+                stream[index] += value.getReal();
+                stream[index + 1] += value.getImaginary();
+            }
+        }
+    }
+
+    private void assertPeaks(List<CorrelationPeak> peakList) {
+        Assert.assertEquals(peakList.size(), POSITIONS.length);
+        for (int p = 0; p < POSITIONS.length; p++) {
+            CorrelationPeak peak = peakList.get(p);
+            Assert.assertEquals(peak.getLag(), POSITIONS[p], 0.5);
+            Assert.assertEquals(peak.getDelay(), (double) POSITIONS[p] / SAMPLE_RATE, 0.5 / SAMPLE_RATE);
+            Assert.assertTrue(peak.getMagnitude() > 0.95);
+            Assert.assertEquals(peak.getValue().getArgument(), new Complex(0, p).exp().getArgument(), 0.05);
+        }
+    }
+
+    @Test
+    public void detectTest() {
+        SyncDetector detector = new SyncDetector(reference, SAMPLE_RATE, THRESHOLD);
+        List<CorrelationPeak> peakList = new ArrayList<>();
+        detector.process(stream, 0, STREAM_SAMPLES, peakList::add);
+        detector.flush(peakList::add);
+        assertPeaks(peakList);
+        Assert.assertEquals(detector.getFftSize(), 256);
+    }
+
+    @Test
+    public void streamingChunksTest() {
+        SyncDetector detector = new SyncDetector(reference, SAMPLE_RATE, THRESHOLD);
+        List<CorrelationPeak> peakList = new ArrayList<>();
+        Random random = new Random(1);
+        int offset = 0;
+        while (offset < STREAM_SAMPLES) {
+            int samples = Math.min(STREAM_SAMPLES - offset, 1 + random.nextInt(400));
+            detector.process(stream, offset, samples, peakList::add);
+            offset += samples;
+        }
+        detector.flush(peakList::add);
+        assertPeaks(peakList);
+    }
+
+    @Test
+    public void matchesCrossCorrelationTest() {
+        SyncDetector detector = new SyncDetector(reference, SAMPLE_RATE, THRESHOLD);
+        List<CorrelationPeak> peakList = new ArrayList<>();
+        double[] firstCopy = new double[2 * 1000];
+        System.arraycopy(stream, 0, firstCopy, 0, firstCopy.length);
+        detector.process(firstCopy, 0, 1000, peakList::add);
+        CorrelationPeak expected = CrossCorrelation.findPeak(reference, firstCopy, SAMPLE_RATE);
+        Assert.assertEquals(peakList.size(), 1);
+        Assert.assertEquals(peakList.get(0).getLag(), expected.getLag(), 0.05);
+    }
+
+    @Test
+    public void signalAndResetTest() {
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(stream), SAMPLE_RATE);
+        SyncDetector detector = new SyncDetector(
+                SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(reference), SAMPLE_RATE), THRESHOLD);
+        List<CorrelationPeak> peakList = new ArrayList<>();
+        detector.process(signal, peakList::add);
+        detector.reset();
+        peakList.clear();
+        detector.process(signal, peakList::add);
+        detector.flush(peakList::add);
+        assertPeaks(peakList);
+        Assert.assertEquals(detector.getSampleRate(), SAMPLE_RATE);
+    }
+
+    @Test
+    public void flushPartialBlockTest() {
+        // Copy ending exactly at the end of the stream, inside the last partial block
+        int samples = (int) POSITIONS[3] + REFERENCE_SAMPLES;
+        SyncDetector detector = new SyncDetector(reference, SAMPLE_RATE, THRESHOLD);
+        List<CorrelationPeak> peakList = new ArrayList<>();
+        detector.process(stream, 0, samples, peakList::add);
+        Assert.assertEquals(peakList.size(), 3);
+        detector.flush(peakList::add);
+        assertPeaks(peakList);
+
+        // Flush resets the detector
+        peakList.clear();
+        detector.process(stream, 0, STREAM_SAMPLES, peakList::add);
+        detector.flush(peakList::add);
+        assertPeaks(peakList);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidThresholdTest() {
+        new SyncDetector(reference, SAMPLE_RATE, 1.5);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void sampleRateMismatchTest() {
+        new SyncDetector(reference, SAMPLE_RATE, THRESHOLD).process(
+                SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(stream), SAMPLE_RATE / 2), peak -> {
+                });
+    }
+
+}
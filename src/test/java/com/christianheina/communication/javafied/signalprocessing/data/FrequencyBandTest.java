@@ -0,0 +1,52 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.data;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link FrequencyBand}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FrequencyBandTest {
+
+    @Test
+    public void edgesTest() {
+        FrequencyBand band = new FrequencyBand(1000, 200);
+        Assert.assertEquals(band.getCenterFrequency(), 1000.0);
+        Assert.assertEquals(band.getBandwidth(), 200.0);
+        Assert.assertEquals(band.getLowFrequency(), 900.0);
+        Assert.assertEquals(band.getHighFrequency(), 1100.0);
+    }
+
+    @Test
+    public void shiftTest() {
+        FrequencyBand band = new FrequencyBand(1000, 200).shift(-1500);
+        Assert.assertEquals(band.getCenterFrequency(), -500.0);
+        Assert.assertEquals(band.getBandwidth(), 200.0);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidBandwidthTest() {
+        new FrequencyBand(0, 0);
+    }
+
+}
@@ -24,6 +24,10 @@ import org.testng.Assert;
 import org.testng.annotations.BeforeMethod;
 import org.testng.annotations.Test;
 
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.window.WindowFactory;
+
 /**
  * Unit test for {@link TimeDomainSignal}.
  * 
@@ -111,4 +115,25 @@ public class TimeDomainSignalTest {
         }
     }
 
+    @Test
+    public void asFrequencyDomainSignalWithWindowTest() {
+        List<Complex> toneList = new ArrayList<>();
+        for (int i = 0; i < 64; i++) {
+            toneList.add(new Complex(0, 2 * Math.PI * 8 * i / 64).exp());
+        }
+        TimeDomainSignal tone = new TimeDomainSignal(toneList, SAMPLE_RATE);
+        List<Double> rectangular = tone.asFrequencyDomainSignal().toPowerDbm(RESISTANCE);
+        for (WindowType windowType : WindowType.values()) {
+            FrequencyDomainSignal windowed = tone.asFrequencyDomainSignal(windowType);
+            Assert.assertEquals(windowed.getSampleRate(), SAMPLE_RATE);
+            Assert.assertEquals(windowed.getIqDataList().size(), 64);
+            Assert.assertTrue(Math.abs(windowed.toPowerDbm(RESISTANCE).get(40) - rectangular.get(40)) < 1E-9);
+        }
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void asFrequencyDomainSignalWithWindowLengthMismatchTest() {
+        iqData.asFrequencyDomainSignal(WindowFactory.getWindow(WindowType.HANN, 2));
+    }
+
 }
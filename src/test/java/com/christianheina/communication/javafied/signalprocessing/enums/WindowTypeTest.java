@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.enums;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+/**
+ * Unit test for {@link WindowType}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class WindowTypeTest {
+
+    @Test
+    public void getKaiserDefaultParameter() {
+        Assert.assertEquals(WindowType.KAISER.getDefaultParameter(), 8.6);
+    }
+
+    @Test
+    public void getTukeyDefaultParameter() {
+        Assert.assertEquals(WindowType.TUKEY.getDefaultParameter(), 0.5);
+    }
+
+    @Test
+    public void getHannDefaultParameter() {
+        Assert.assertEquals(WindowType.HANN.getDefaultParameter(), 0.0);
+    }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link BiquadFilter}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class BiquadFilterTest {
+
+    private static final double THRESHOLD = 1E-9;
+    private static final double[][] SECTIONS = { { 0.2, 0.4, 0.2, 2, -0.6, 0.3 }, { 1, -1, 0, 1, -0.9, 0 } };
+
+    private static double[] randomArray(Random random, int length) {
+        double[] array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextGaussian();
+        }
+        return array;
+    }
+
+    /**
+     * Brute force difference equations, one section after the other.
+     */
+    private static double[] bruteForce(double[][] sections, double[] input) {
+        double[] signal = input.clone();
+        for (double[] section : sections) {
+            double[] output = new double[signal.length];
+            for (int n = 0; n < signal.length; n++) {
+                // Same component of previous samples is two array positions back
+                double value = section[0] * signal[n];
+                if (n >= 2) {
+                    value += section[1] * signal[n - 2] - section[4] * output[n - 2];
+                }
+                if (n >= 4) {
+                    value += section[2] * signal[n - 4] - section[5] * output[n - 4];
+                }
+                output[n] = value / section[3];
+            }
+            signal = output;
+        }
+        return signal;
+    }
+
+    @Test
+    public void matchesBruteForceTest() {
+        double[] input = randomArray(new Random(1), 2 * 500);
+        double[] output = input.clone();
+        BiquadFilter filter = new BiquadFilter(SECTIONS);
+        filter.process(output, 0, 500);
+        // a0 = 2 in the first section is normalized
+        double[][] normalized = { { 0.1, 0.2, 0.1, 1, -0.3, 0.15 }, SECTIONS[1] };
+        Assert.assertEquals(output, bruteForce(normalized, input), THRESHOLD);
+        Assert.assertEquals(filter.getSections()[0], normalized[0], THRESHOLD);
+        Assert.assertEquals(filter.getSectionCount(), 2);
+    }
+
+    @Test
+    public void streamingTest() {
+        double[] input = randomArray(new Random(2), 2 * 1000);
+        double[] expected = input.clone();
+        BiquadFilter filter = new BiquadFilter(SECTIONS);
+        filter.process(expected, 0, 1000);
+        filter.reset();
+
+        double[] output = input.clone();
+        Random random = new Random(3);
+        int read = 0;
+        while (read < 1000) {
+            int chunk = Math.min(1000 - read, random.nextInt(40));
+            filter.process(output, read, chunk);
+            read += chunk;
+        }
+        Assert.assertEquals(output, expected, 0);
+    }
+
+    @Test
+    public void frequencyResponseTest() {
+        BiquadFilter filter = new BiquadFilter(SECTIONS);
+        int sampleRate = 10000;
+        double frequency = -1300;
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            iqDataList.add(new Complex(0, 2 * Math.PI * frequency * i / sampleRate).exp());
+        }
+        TimeDomainSignal filtered = filter.filter(SignalFactory.newTimeDomainSignal(iqDataList, sampleRate));
+        Assert.assertEquals(filtered.getSampleRate(), sampleRate);
+        Complex response = filter.frequencyResponse(frequency, sampleRate);
+        for (int i = 1000; i < 2000; i++) {
+            Complex expected = iqDataList.get(i).multiply(response);
+            Assert.assertTrue(filtered.getIqDataList().get(i).subtract(expected).abs() < 1E-9);
+        }
+        // Filtering again starts from a reset state
+        Assert.assertEquals(filter.filter(SignalFactory.newTimeDomainSignal(iqDataList, sampleRate)).getIqDataList(),
+                filtered.getIqDataList());
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidSectionTest() {
+        new BiquadFilter(new double[][] { { 1, 0, 0, 0, 0, 0 } });
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void noSectionsTest() {
+        new BiquadFilter(new double[0][]);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidRangeTest() {
+        new BiquadFilter(SECTIONS).process(new double[10], 3, 3);
+    }
+
+}
@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.FilterType;
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.window.WindowFactory;
+
+/**
+ * Unit test for {@link FirDesignFactory}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FirDesignFactoryTest {
+
+    private static final double THRESHOLD = 1E-9;
+    private static final int SAMPLE_RATE = 1000;
+
+    private static double gain(FirDesign design, double frequency) {
+        return design.frequencyResponse(frequency, SAMPLE_RATE).abs();
+    }
+
+    private static double maxGain(FirDesign design, double from, double to) {
+        double max = 0;
+        for (double frequency = from; frequency <= to; frequency += 0.5) {
+            max = Math.max(max, gain(design, frequency));
+        }
+        return max;
+    }
+
+    private static double maxDeviation(FirDesign design, double from, double to, double desired) {
+        double max = 0;
+        for (double frequency = from; frequency <= to; frequency += 0.5) {
+            max = Math.max(max, Math.abs(gain(design, frequency) - desired));
+        }
+        return max;
+    }
+
+    private static void assertSymmetric(double[] taps) {
+        for (int n = 0; n < taps.length; n++) {
+            Assert.assertEquals(taps[n], taps[taps.length - 1 - n], THRESHOLD);
+        }
+    }
+
+    @Test
+    public void windowedSincTest() {
+        FirDesign lowPass = FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS, 101, WindowType.BLACKMAN_HARRIS,
+                SAMPLE_RATE, 100);
+        assertSymmetric(lowPass.getTaps());
+        Assert.assertEquals(gain(lowPass, 0), 1, THRESHOLD);
+        Assert.assertEquals(gain(lowPass, 100), 0.5, 0.01);
+        Assert.assertEquals(gain(lowPass, -100), 0.5, 0.01);
+        Assert.assertTrue(maxDeviation(lowPass, -70, 70, 1) < 0.01);
+        Assert.assertTrue(maxGain(lowPass, 130, 500) < 0.01);
+
+        FirDesign highPass = FirDesignFactory.newWindowedSincDesign(FilterType.HIGH_PASS, 101,
+                WindowType.BLACKMAN_HARRIS, SAMPLE_RATE, 100);
+        Assert.assertEquals(gain(highPass, 500), 1, THRESHOLD);
+        Assert.assertTrue(maxDeviation(highPass, 130, 500, 1) < 0.01);
+        Assert.assertTrue(maxGain(highPass, 0, 70) < 0.01);
+
+        FirDesign bandPass = FirDesignFactory.newWindowedSincDesign(FilterType.BAND_PASS, 101,
+                WindowType.BLACKMAN_HARRIS, SAMPLE_RATE, 150, 350);
+        Assert.assertEquals(gain(bandPass, 250), 1, THRESHOLD);
+        Assert.assertEquals(gain(bandPass, -250), 1, THRESHOLD);
+        Assert.assertTrue(maxGain(bandPass, 0, 120) < 0.01);
+        Assert.assertTrue(maxGain(bandPass, 380, 500) < 0.01);
+
+        FirDesign bandStop = FirDesignFactory.newWindowedSincDesign(FilterType.BAND_STOP, 101,
+                WindowType.BLACKMAN_HARRIS, SAMPLE_RATE, 150, 350);
+        Assert.assertEquals(gain(bandStop, 0), 1, THRESHOLD);
+        Assert.assertTrue(maxGain(bandStop, 180, 320) < 0.01);
+        Assert.assertTrue(maxDeviation(bandStop, 380, 500, 1) < 0.01);
+    }
+
+    @Test
+    public void windowParameterTest() {
+        FirDesign defaultBeta = FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS, 101, WindowType.KAISER,
+                SAMPLE_RATE, 100);
+        Assert.assertSame(FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS,
+                WindowFactory.getSymmetricWindow(WindowType.KAISER, 101), SAMPLE_RATE, 100), defaultBeta);
+        FirDesign largeBeta = FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS,
+                WindowFactory.getSymmetricWindow(WindowType.KAISER, 101, 12), SAMPLE_RATE, 100);
+        Assert.assertNotSame(largeBeta, defaultBeta);
+        Assert.assertEquals(largeBeta.getTaps().length, 101);
+        Assert.assertEquals(gain(largeBeta, 0), 1, THRESHOLD);
+        // Larger beta trades a wider transition band for lower sidelobes
+        Assert.assertTrue(maxGain(largeBeta, 160, 500) < maxGain(defaultBeta, 160, 500) / 10);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void periodicWindowTest() {
+        FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS, WindowFactory.getWindow(WindowType.HANN, 101),
+                SAMPLE_RATE, 100);
+    }
+
+    @Test
+    public void equirippleTest() {
+        FirDesign lowPass = FirDesignFactory.newEquirippleDesign(FilterType.LOW_PASS, 61, 50, SAMPLE_RATE, 100);
+        assertSymmetric(lowPass.getTaps());
+        double passband = maxDeviation(lowPass, 0, 75, 1);
+        double stopband = maxGain(lowPass, 125, 500);
+        // Equal weights give equal ripple in passband and stopband
+        Assert.assertEquals(passband, stopband, 0.1 * passband);
+        Assert.assertTrue(stopband < 3E-3);
+
+        // More taps for the same transition width give smaller ripple
+        FirDesign longer = FirDesignFactory.newEquirippleDesign(FilterType.LOW_PASS, 81, 50, SAMPLE_RATE, 100);
+        Assert.assertTrue(maxGain(longer, 125, 500) < stopband / 4);
+
+        FirDesign highPass = FirDesignFactory.newEquirippleDesign(FilterType.HIGH_PASS, 61, 50, SAMPLE_RATE, 100);
+        Assert.assertTrue(maxGain(highPass, 0, 75) < 3E-3);
+        Assert.assertTrue(maxDeviation(highPass, 125, 500, 1) < 3E-3);
+
+        FirDesign bandPass = FirDesignFactory.newEquirippleDesign(FilterType.BAND_PASS, 61, 50, SAMPLE_RATE, 150, 350);
+        Assert.assertTrue(maxGain(bandPass, 0, 125) < 3E-3);
+        Assert.assertTrue(maxDeviation(bandPass, 175, 325, 1) < 3E-3);
+        Assert.assertTrue(maxGain(bandPass, 375, 500) < 3E-3);
+
+        FirDesign bandStop = FirDesignFactory.newEquirippleDesign(FilterType.BAND_STOP, 61, 50, SAMPLE_RATE, 150, 350);
+        Assert.assertTrue(maxDeviation(bandStop, 0, 125, 1) < 3E-3);
+        Assert.assertTrue(maxGain(bandStop, 175, 325) < 3E-3);
+        Assert.assertTrue(maxDeviation(bandStop, 375, 500, 1) < 3E-3);
+    }
+
+    @Test
+    public void halfBandTest() {
+        FirDesign halfBand = FirDesignFactory.newHalfBandDesign(31, 100, SAMPLE_RATE);
+        double[] taps = halfBand.getTaps();
+        assertSymmetric(taps);
+        Assert.assertEquals(taps[15], 0.5, 0);
+        for (int n = 1; n < 15; n += 2) {
+            Assert.assertEquals(taps[n], 0, 0);
+        }
+        Assert.assertNotEquals(taps[0], 0);
+        Assert.assertEquals(gain(halfBand, 250), 0.5, 1E-6);
+        Assert.assertTrue(maxDeviation(halfBand, 0, 200, 1) < 3E-3);
+        Assert.assertTrue(maxGain(halfBand, 300, 500) < 3E-3);
+    }
+
+    @Test
+    public void cacheTest() {
+        FirDesignFactory.clearCache();
+        FirDesign design = FirDesignFactory.newEquirippleDesign(FilterType.LOW_PASS, 41, 50, SAMPLE_RATE, 100);
+        Assert.assertSame(FirDesignFactory.newEquirippleDesign(FilterType.LOW_PASS, 41, 50, SAMPLE_RATE, 100), design);
+        Assert.assertNotSame(FirDesignFactory.newEquirippleDesign(FilterType.LOW_PASS, 41, 50, SAMPLE_RATE, 101),
+                design);
+        Assert.assertNotSame(
+                FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS, 41, WindowType.HANN, SAMPLE_RATE, 100),
+                design);
+        Assert.assertEquals(FirDesignFactory.cacheSize(), 3);
+
+        // Least recently used designs are evicted first
+        FirDesign used = FirDesignFactory.newHalfBandDesign(11, 100, SAMPLE_RATE);
+        for (int i = 0; i < 300; i++) {
+            FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS, 11, WindowType.HANN, SAMPLE_RATE, 1 + i);
+            Assert.assertSame(FirDesignFactory.newHalfBandDesign(11, 100, SAMPLE_RATE), used);
+        }
+        Assert.assertEquals(FirDesignFactory.cacheSize(), 256);
+        Assert.assertNotSame(FirDesignFactory.newEquirippleDesign(FilterType.LOW_PASS, 41, 50, SAMPLE_RATE, 100),
+                design);
+
+        FirDesignFactory.clearCache();
+        Assert.assertEquals(FirDesignFactory.cacheSize(), 0);
+    }
+
+    @Test
+    public void concurrentCacheTest() throws InterruptedException {
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < 4; t++) {
+            int seed = t;
+            threads.add(new Thread(() -> {
+                for (int i = 0; i < 500; i++) {
+                    if (seed == 0 && i % 50 == 0) {
+                        FirDesignFactory.clearCache();
+                    }
+                    int cutoff = 1 + (i * 7 + seed * 13) % 400;
+                    FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS, 11, WindowType.HANN, SAMPLE_RATE,
+                            cutoff);
+                }
+            }));
+        }
+        List<Throwable> errors = Collections.synchronizedList(new ArrayList<>());
+        for (Thread thread : threads) {
+            thread.setUncaughtExceptionHandler((failed, error) -> errors.add(error));
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertTrue(errors.isEmpty());
+        Assert.assertTrue(FirDesignFactory.cacheSize() <= 256);
+        // A design stays cached once created
+        FirDesign design = FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS, 11, WindowType.HANN, SAMPLE_RATE,
+                450);
+        Assert.assertSame(
+                FirDesignFactory.newWindowedSincDesign(FilterType.LOW_PASS, 11, WindowType.HANN, SAMPLE_RATE, 450),
+                design);
+        FirDesignFactory.clearCache();
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void evenHighPassTest() {
+        FirDesignFactory.newWindowedSincDesign(FilterType.HIGH_PASS, 100, WindowType.HANN, SAMPLE_RATE, 100);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void evenEquirippleTest() {
+        FirDesignFactory.newEquirippleDesign(FilterType.LOW_PASS, 60, 50, SAMPLE_RATE, 100);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void cutoffCountTest() {
+        FirDesignFactory.newWindowedSincDesign(FilterType.BAND_PASS, 101, WindowType.HANN, SAMPLE_RATE, 100);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void cutoffOrderTest() {
+        FirDesignFactory.newWindowedSincDesign(FilterType.BAND_PASS, 101, WindowType.HANN, SAMPLE_RATE, 300, 100);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void transitionOverlapTest() {
+        FirDesignFactory.newEquirippleDesign(FilterType.LOW_PASS, 61, 50, SAMPLE_RATE, 480);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void halfBandLengthTest() {
+        FirDesignFactory.newHalfBandDesign(29, 100, SAMPLE_RATE);
+    }
+
+}
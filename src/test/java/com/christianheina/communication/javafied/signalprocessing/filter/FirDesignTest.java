@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+import org.jtransforms.fft.DoubleFFT_1D;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link FirDesign}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FirDesignTest {
+
+    private static final double THRESHOLD = 1E-9;
+    private static final double[] TAPS = { 0.1, -0.2, 0.5, 0.3, 0.05 };
+
+    @Test
+    public void tapsTest() {
+        FirDesign design = new FirDesign(TAPS);
+        Assert.assertEquals(design.getLength(), 5);
+        double[] taps = design.getTaps();
+        Assert.assertEquals(taps, TAPS);
+        taps[0] = 1;
+        Assert.assertEquals(design.getTaps(), TAPS);
+    }
+
+    @Test
+    public void tapSpectrumTest() {
+        FirDesign design = new FirDesign(TAPS);
+        double[] expected = new double[16];
+        for (int i = 0; i < TAPS.length; i++) {
+            expected[2 * i] = TAPS[i];
+        }
+        new DoubleFFT_1D(8).complexForward(expected);
+        double[] spectrum = design.getTapSpectrum(8);
+        Assert.assertEquals(spectrum, expected, THRESHOLD);
+
+        // Calculated once and shared, copies are returned
+        Assert.assertSame(design.tapSpectrum(8), design.tapSpectrum(8));
+        spectrum[0] = 100;
+        Assert.assertEquals(design.getTapSpectrum(8), expected, THRESHOLD);
+        Assert.assertEquals(design.getTapSpectrum(16).length, 32);
+    }
+
+    @Test
+    public void frequencyResponseTest() {
+        FirDesign design = new FirDesign(TAPS);
+        double sum = 0;
+        for (double tap : TAPS) {
+            sum += tap;
+        }
+        Assert.assertEquals(design.frequencyResponse(0, 1000).getReal(), sum, THRESHOLD);
+        // Response at bin frequencies matches the tap spectrum
+        double[] spectrum = design.getTapSpectrum(8);
+        Complex response = design.frequencyResponse(250, 1000);
+        Assert.assertEquals(response.getReal(), spectrum[4], THRESHOLD);
+        Assert.assertEquals(response.getImaginary(), spectrum[5], THRESHOLD);
+    }
+
+    @Test
+    public void overlapSaveTest() {
+        FirDesign design = new FirDesign(TAPS);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            iqDataList.add(new Complex(Math.sin(i * 0.3), Math.cos(i * 0.7)));
+        }
+        double[] iqArray = IqArrayUtil.toIqArray(iqDataList);
+        FirFilter expected = new OverlapSaveFirFilter(TAPS, 16);
+        FirFilter actual = new OverlapSaveFirFilter(design, 16);
+        double[] expectedOutput = new double[2 * expected.outputSamplesFor(100)];
+        double[] actualOutput = new double[expectedOutput.length];
+        expected.process(iqArray, 0, 100, expectedOutput, 0);
+        actual.process(iqArray, 0, 100, actualOutput, 0);
+        Assert.assertEquals(actualOutput, expectedOutput, THRESHOLD);
+
+        FirFilter fromFactory = FirFilterFactory.newFirFilter(design, 100);
+        Assert.assertEquals(fromFactory.getTaps(), TAPS);
+        FirFilter stream = FirFilterFactory.newFirFilter(new FirDesign(new double[8192]));
+        Assert.assertTrue(stream instanceof OverlapSaveFirFilter);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void emptyTapsTest() {
+        new FirDesign(new double[0]);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void smallFftSizeTest() {
+        new FirDesign(TAPS).getTapSpectrum(4);
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link FirFilterFactory}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FirFilterFactoryTest {
+
+    @AfterMethod
+    public void resetCalibration() {
+        FirFilterFactory.resetCalibration();
+    }
+
+    @Test
+    public void shortTapsUseDirectTest() {
+        Assert.assertTrue(FirFilterFactory.newFirFilter(new double[8]) instanceof DirectFirFilter);
+        Assert.assertTrue(FirFilterFactory.newFirFilter(new double[64], 10) instanceof DirectFirFilter);
+    }
+
+    @Test
+    public void longTapsUseFftTest() {
+        FirFilter filter = FirFilterFactory.newFirFilter(new double[512]);
+        Assert.assertTrue(filter instanceof OverlapSaveFirFilter);
+        Assert.assertTrue(((OverlapSaveFirFilter) filter).getFftSize() > 512);
+        Assert.assertTrue(FirFilterFactory.newFirFilter(new double[512], 100000) instanceof OverlapSaveFirFilter);
+    }
+
+    @Test
+    public void costModelTest() {
+        Assert.assertEquals(FirFilterFactory.directCost(10), 40.0);
+        int fftSize = FirFilterFactory.bestFftSize(64, Long.MAX_VALUE);
+        Assert.assertEquals(fftSize, 512);
+        Assert.assertTrue(FirFilterFactory.fftCost(64, Long.MAX_VALUE, fftSize) < FirFilterFactory.fftCost(64,
+                Long.MAX_VALUE, fftSize * 2));
+        // FFT never needs to be longer than the signal and taps
+        Assert.assertEquals(FirFilterFactory.bestFftSize(1000, 100), 2048);
+    }
+
+    @Test
+    public void filterTest() {
+        Random random = new Random(3);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            iqDataList.add(new Complex(random.nextGaussian(), random.nextGaussian()));
+        }
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(iqDataList, 1000);
+        for (int length : new int[] { 5, 700 }) {
+            double[] taps = new double[length];
+            for (int i = 0; i < length; i++) {
+                taps[i] = random.nextGaussian();
+            }
+            double[] expected = IqArrayUtil.toIqArray(new DirectFirFilter(taps).filter(signal).getIqDataList());
+            TimeDomainSignal filtered = FirFilterFactory.filter(signal, taps);
+            Assert.assertEquals(IqArrayUtil.toIqArray(filtered.getIqDataList()), expected, 1E-9);
+        }
+    }
+
+    @Test
+    public void calibrateTest() {
+        double scale = FirFilterFactory.calibrate();
+        Assert.assertTrue(scale >= 0.25 && scale <= 4);
+        Assert.assertTrue(FirFilterFactory.newFirFilter(new double[1]) instanceof DirectFirFilter);
+        Assert.assertTrue(FirFilterFactory.newFirFilter(new double[8192]) instanceof OverlapSaveFirFilter);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void noTapsTest() {
+        FirFilterFactory.newFirFilter(new double[0]);
+    }
+
+}
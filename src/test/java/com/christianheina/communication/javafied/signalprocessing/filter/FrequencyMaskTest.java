@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyBand;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.MaskType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link FrequencyMask}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FrequencyMaskTest {
+
+    private static final double THRESHOLD = 1E-9;
+    private static final int SAMPLE_RATE = 1000;
+
+    private static final List<FrequencyBand> BANDS = Arrays.asList(new FrequencyBand(-300, 40),
+            new FrequencyBand(150, 20), new FrequencyBand(155, 30));
+
+    private static Complex tone(double frequency, int sample) {
+        return new Complex(0, 2 * Math.PI * frequency * sample / SAMPLE_RATE).exp();
+    }
+
+    private static TimeDomainSignal tones(double... frequencies) {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < SAMPLE_RATE; i++) {
+            Complex sample = Complex.ZERO;
+            for (double frequency : frequencies) {
+                sample = sample.add(tone(frequency, i));
+            }
+            iqDataList.add(sample);
+        }
+        return SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+    }
+
+    @Test
+    public void gainTest() {
+        FrequencyMask keep = new FrequencyMask(MaskType.KEEP, BANDS, 10);
+        Assert.assertEquals(keep.gain(-300), 1, THRESHOLD);
+        Assert.assertEquals(keep.gain(-320), 1, THRESHOLD);
+        Assert.assertEquals(keep.gain(-325), 0.5, THRESHOLD);
+        Assert.assertEquals(keep.gain(-330), 0, THRESHOLD);
+        Assert.assertEquals(keep.gain(0), 0, THRESHOLD);
+        // Overlapping bands from 140 to 170
+        Assert.assertEquals(keep.gain(165), 1, THRESHOLD);
+        Assert.assertEquals(keep.gain(175), 0.5, THRESHOLD);
+
+        FrequencyMask reject = new FrequencyMask(MaskType.REJECT, BANDS, 10);
+        Assert.assertEquals(reject.gain(-300), 0, THRESHOLD);
+        Assert.assertEquals(reject.gain(-325), 0.5, THRESHOLD);
+        Assert.assertEquals(reject.gain(0), 1, THRESHOLD);
+        Assert.assertEquals(reject.getType(), MaskType.REJECT);
+        Assert.assertEquals(reject.getBands(), BANDS);
+        Assert.assertEquals(reject.getTaper(), 10.0);
+    }
+
+    @Test
+    public void gainsTest() {
+        for (int bins : new int[] { 1000, 999, 64 }) {
+            FrequencyMask mask = new FrequencyMask(MaskType.REJECT, BANDS, 17.5);
+            double[] gains = mask.gains(bins, SAMPLE_RATE);
+            for (int bin = 0; bin < bins; bin++) {
+                double frequency = (bin - bins / 2) * (double) SAMPLE_RATE / bins;
+                Assert.assertEquals(gains[bin], mask.gain(frequency), THRESHOLD);
+            }
+        }
+    }
+
+    @Test
+    public void wideBandGainsTest() {
+        // Band edges far beyond the sample rate cover the whole spectrum on their side
+        FrequencyMask positive = new FrequencyMask(MaskType.KEEP, Arrays.asList(new FrequencyBand(5E14, 1E15)));
+        FrequencyMask negative = new FrequencyMask(MaskType.KEEP, Arrays.asList(new FrequencyBand(-5E14, 1E15)));
+        double[] positiveGains = positive.gains(100, SAMPLE_RATE);
+        double[] negativeGains = negative.gains(100, SAMPLE_RATE);
+        for (int bin = 0; bin < 100; bin++) {
+            Assert.assertEquals(positiveGains[bin], bin >= 50 ? 1 : 0, THRESHOLD);
+            Assert.assertEquals(negativeGains[bin], bin <= 50 ? 1 : 0, THRESHOLD);
+        }
+    }
+
+    @Test
+    public void rejectTest() {
+        TimeDomainSignal filtered = new FrequencyMask(MaskType.REJECT, BANDS).filter(tones(-300, 0, 160, 400));
+        Assert.assertEquals(filtered.getSampleRate(), SAMPLE_RATE);
+        for (int i = 0; i < SAMPLE_RATE; i++) {
+            Complex expected = tone(0, i).add(tone(400, i));
+            Assert.assertTrue(filtered.getIqDataList().get(i).subtract(expected).abs() < THRESHOLD);
+        }
+    }
+
+    @Test
+    public void keepTest() {
+        TimeDomainSignal filtered = new FrequencyMask(MaskType.KEEP, BANDS, 5).filter(tones(-300, 0, 160, 400));
+        for (int i = 0; i < SAMPLE_RATE; i++) {
+            Complex expected = tone(-300, i).add(tone(160, i));
+            Assert.assertTrue(filtered.getIqDataList().get(i).subtract(expected).abs() < THRESHOLD);
+        }
+    }
+
+    @Test
+    public void frequencyDomainTest() {
+        TimeDomainSignal signal = tones(-300, 0, 160, 400);
+        FrequencyMask mask = new FrequencyMask(MaskType.REJECT, BANDS, 50);
+        FrequencyDomainSignal filtered = mask.filter(signal.asFrequencyDomainSignal());
+        List<Complex> expected = mask.filter(signal).asFrequencyDomainSignal().getIqDataList();
+        Assert.assertEquals(filtered.getIqDataList().size(), expected.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assert.assertTrue(filtered.getIqDataList().get(i).subtract(expected.get(i)).abs() < THRESHOLD);
+        }
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidTaperTest() {
+        new FrequencyMask(MaskType.KEEP, BANDS, -1);
+    }
+
+}
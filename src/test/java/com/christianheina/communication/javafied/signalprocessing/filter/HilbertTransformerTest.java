@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link HilbertTransformer}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class HilbertTransformerTest {
+
+    private static final double THRESHOLD = 1E-9;
+    private static final int SAMPLE_RATE = 1000;
+    private static final int SAMPLES = 2000;
+
+    private static double[] cosine(double frequency, double phase) {
+        double[] samples = new double[SAMPLES];
+        for (int n = 0; n < SAMPLES; n++) {
+            samples[n] = Math.cos(2 * Math.PI * frequency * n / SAMPLE_RATE + phase);
+        }
+        return samples;
+    }
+
+    private static void assertTone(List<Complex> iqDataList, double frequency, int sampleRate, double phase,
+            double delta) {
+        // Skip filter start-up and end
+        for (int n = iqDataList.size() / 10; n < iqDataList.size() * 9 / 10; n++) {
+            Complex expected = new Complex(0, 2 * Math.PI * frequency * n / sampleRate + phase).exp();
+            Assert.assertEquals(iqDataList.get(n).getReal(), expected.getReal(), delta);
+            Assert.assertEquals(iqDataList.get(n).getImaginary(), expected.getImaginary(), delta);
+        }
+    }
+
+    @Test
+    public void analyticTest() {
+        HilbertTransformer transformer = new HilbertTransformer(127, 50, SAMPLE_RATE, false);
+        Assert.assertEquals(transformer.getDelay(), 63);
+        Assert.assertEquals(transformer.getOutputSampleRate(), SAMPLE_RATE);
+        Assert.assertFalse(transformer.isDecimating());
+        for (double frequency : new double[] { 50, 123, 250, 440 }) {
+            TimeDomainSignal signal = transformer.convert(cosine(frequency, 0.3));
+            Assert.assertEquals(signal.getIqDataList().size(), SAMPLES);
+            Assert.assertEquals(signal.getSampleRate(), SAMPLE_RATE);
+            assertTone(signal.getIqDataList(), frequency, SAMPLE_RATE, 0.3, 1E-3);
+        }
+    }
+
+    @Test
+    public void decimateTest() {
+        HilbertTransformer transformer = new HilbertTransformer(127, 50, SAMPLE_RATE, true);
+        Assert.assertEquals(transformer.getOutputSampleRate(), SAMPLE_RATE / 2);
+        Assert.assertTrue(transformer.isDecimating());
+        for (double frequency : new double[] { 50, 123, 250, 440 }) {
+            TimeDomainSignal signal = transformer.convert(cosine(frequency, 0.3));
+            Assert.assertEquals(signal.getIqDataList().size(), SAMPLES / 2);
+            Assert.assertEquals(signal.getSampleRate(), SAMPLE_RATE / 2);
+            // Shifted down by a quarter of the input sample rate
+            assertTone(signal.getIqDataList(), frequency - SAMPLE_RATE / 4.0, SAMPLE_RATE / 2, 0.3, 1E-3);
+        }
+    }
+
+    @Test
+    public void streamingTest() {
+        for (boolean decimate : new boolean[] { false, true }) {
+            double[] samples = cosine(123, 0);
+            HilbertTransformer transformer = new HilbertTransformer(31, 100, SAMPLE_RATE, decimate);
+            double[] expected = IqArrayUtil.toIqArray(transformer.process(samples).getIqDataList());
+            Assert.assertEquals(expected.length, decimate ? SAMPLES : 2 * SAMPLES);
+
+            transformer.reset();
+            double[] output = new double[expected.length];
+            int offset = 0;
+            int written = 0;
+            for (int count : new int[] { 1, 2, 3, 17, 977, 1000 }) {
+                int outputSamples = transformer.outputSamplesFor(count);
+                Assert.assertEquals(transformer.process(samples, offset, count, output, written), outputSamples);
+                offset += count;
+                written += outputSamples;
+            }
+            Assert.assertEquals(2 * written, expected.length);
+            Assert.assertEquals(output, expected, THRESHOLD);
+
+            // Streaming output lags the input by the filter delay
+            double[] aligned = IqArrayUtil.toIqArray(transformer.convert(samples).getIqDataList());
+            int lag = decimate ? transformer.getDelay() / 2 : transformer.getDelay();
+            for (int i = 2 * lag; i < expected.length; i++) {
+                Assert.assertEquals(expected[i], aligned[i - 2 * lag], THRESHOLD);
+            }
+        }
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void lengthTest() {
+        new HilbertTransformer(61, 50, SAMPLE_RATE, false);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void oddSampleRateTest() {
+        new HilbertTransformer(63, 50, 999, true);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void outputRangeTest() {
+        new HilbertTransformer(63, 50, SAMPLE_RATE, false).process(new double[10], 0, 10, new double[18], 0);
+    }
+
+}
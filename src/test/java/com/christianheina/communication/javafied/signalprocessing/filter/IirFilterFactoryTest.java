@@ -0,0 +1,184 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.FilterType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link IirFilterFactory}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class IirFilterFactoryTest {
+
+    private static final int SAMPLE_RATE = 48000;
+
+    private static double gainDb(BiquadFilter filter, double frequency) {
+        return 20 * Math.log10(filter.frequencyResponse(frequency, SAMPLE_RATE).abs());
+    }
+
+    private static void assertStable(BiquadFilter filter) {
+        for (double[] section : filter.getSections()) {
+            Assert.assertTrue(Math.abs(section[5]) < 1);
+            Assert.assertTrue(Math.abs(section[4]) < 1 + section[5]);
+        }
+    }
+
+    @Test
+    public void butterworthLowPassTest() {
+        for (int order = 1; order <= 10; order++) {
+            BiquadFilter filter = IirFilterFactory.newButterworthFilter(FilterType.LOW_PASS, order, SAMPLE_RATE, 5000);
+            assertStable(filter);
+            Assert.assertEquals(filter.getSectionCount(), (order + 1) / 2);
+            Assert.assertEquals(gainDb(filter, 0), 0, 1E-9);
+            Assert.assertEquals(gainDb(filter, 5000), -3.0103, 1E-3);
+            Assert.assertEquals(gainDb(filter, -5000), -3.0103, 1E-3);
+            double previous = 0;
+            for (double frequency = 500; frequency < SAMPLE_RATE / 2; frequency += 500) {
+                double gain = gainDb(filter, frequency);
+                Assert.assertTrue(gain < previous + 1E-9);
+                previous = gain;
+            }
+        }
+    }
+
+    @Test
+    public void chebyshevLowPassTest() {
+        for (int order = 1; order <= 9; order++) {
+            BiquadFilter filter = IirFilterFactory.newChebyshevFilter(FilterType.LOW_PASS, order, 0.5, SAMPLE_RATE,
+                    5000);
+            assertStable(filter);
+            for (double frequency = 0; frequency < 5000; frequency += 100) {
+                double gain = gainDb(filter, frequency);
+                Assert.assertTrue(gain <= 1E-9 && gain >= -0.5 - 1E-9);
+            }
+            Assert.assertEquals(gainDb(filter, 5000), -0.5, 1E-6);
+        }
+    }
+
+    @Test
+    public void ellipticLowPassTest() {
+        for (int order = 1; order <= 8; order++) {
+            BiquadFilter filter = IirFilterFactory.newEllipticFilter(FilterType.LOW_PASS, order, 1, 60, SAMPLE_RATE,
+                    5000);
+            assertStable(filter);
+            for (double frequency = 0; frequency < 5000; frequency += 100) {
+                double gain = gainDb(filter, frequency);
+                Assert.assertTrue(gain <= 1E-9 && gain >= -1 - 1E-9);
+            }
+            Assert.assertEquals(gainDb(filter, 5000), -1, 1E-6);
+        }
+        // Order 5 reaches the stopband before 8 kHz and stays below attenuation
+        BiquadFilter filter = IirFilterFactory.newEllipticFilter(FilterType.LOW_PASS, 5, 1, 60, SAMPLE_RATE, 5000);
+        for (double frequency = 8000; frequency < SAMPLE_RATE / 2; frequency += 100) {
+            Assert.assertTrue(gainDb(filter, frequency) <= -60 + 1E-6);
+        }
+    }
+
+    @Test
+    public void highPassTest() {
+        BiquadFilter butterworth = IirFilterFactory.newButterworthFilter(FilterType.HIGH_PASS, 4, SAMPLE_RATE, 5000);
+        assertStable(butterworth);
+        Assert.assertEquals(gainDb(butterworth, 5000), -3.0103, 1E-3);
+        Assert.assertEquals(gainDb(butterworth, SAMPLE_RATE / 2), 0, 1E-9);
+        Assert.assertTrue(gainDb(butterworth, 1000) < -50);
+
+        BiquadFilter elliptic = IirFilterFactory.newEllipticFilter(FilterType.HIGH_PASS, 4, 1, 60, SAMPLE_RATE, 5000);
+        assertStable(elliptic);
+        Assert.assertEquals(gainDb(elliptic, 5000), -1, 1E-6);
+        for (double frequency = 0; frequency < 1500; frequency += 100) {
+            Assert.assertTrue(gainDb(elliptic, frequency) <= -60 + 1E-6);
+        }
+    }
+
+    @Test
+    public void bandPassTest() {
+        BiquadFilter filter = IirFilterFactory.newEllipticFilter(FilterType.BAND_PASS, 4, 0.5, 50, SAMPLE_RATE, 4000,
+                6000);
+        assertStable(filter);
+        Assert.assertEquals(filter.getSectionCount(), 4);
+        for (double frequency = 4000; frequency <= 6000; frequency += 50) {
+            Assert.assertTrue(gainDb(filter, frequency) >= -0.5 - 1E-6);
+            Assert.assertTrue(gainDb(filter, -frequency) >= -0.5 - 1E-6);
+        }
+        Assert.assertTrue(gainDb(filter, 0) <= -50 + 1E-6);
+        Assert.assertTrue(gainDb(filter, 2000) <= -50 + 1E-6);
+        Assert.assertTrue(gainDb(filter, 10000) <= -50 + 1E-6);
+
+        BiquadFilter chebyshev = IirFilterFactory.newChebyshevFilter(FilterType.BAND_PASS, 5, 0.5, SAMPLE_RATE, 4000,
+                6000);
+        assertStable(chebyshev);
+        Assert.assertEquals(gainDb(chebyshev, 4000), -0.5, 1E-6);
+        Assert.assertEquals(gainDb(chebyshev, 6000), -0.5, 1E-6);
+    }
+
+    @Test
+    public void bandStopTest() {
+        BiquadFilter filter = IirFilterFactory.newButterworthFilter(FilterType.BAND_STOP, 3, SAMPLE_RATE, 4000, 6000);
+        assertStable(filter);
+        Assert.assertEquals(gainDb(filter, 4000), -3.0103, 1E-3);
+        Assert.assertEquals(gainDb(filter, 6000), -3.0103, 1E-3);
+        Assert.assertTrue(gainDb(filter, 5000) < -40);
+        Assert.assertEquals(gainDb(filter, 0), 0, 1E-9);
+
+        BiquadFilter elliptic = IirFilterFactory.newEllipticFilter(FilterType.BAND_STOP, 3, 0.5, 50, SAMPLE_RATE, 4000,
+                6000);
+        assertStable(elliptic);
+        Assert.assertTrue(gainDb(elliptic, 5000) <= -50 + 1E-6);
+        Assert.assertTrue(gainDb(elliptic, 2000) >= -0.5 - 1E-6);
+    }
+
+    @Test
+    public void dcBlockerTest() {
+        BiquadFilter filter = IirFilterFactory.newDcBlocker(10, SAMPLE_RATE);
+        Assert.assertEquals(filter.getSectionCount(), 1);
+        double[] iqArray = new double[2 * SAMPLE_RATE];
+        for (int i = 0; i < SAMPLE_RATE; i++) {
+            iqArray[2 * i] = 0.3 + Math.cos(2 * Math.PI * 1000 * i / SAMPLE_RATE);
+            iqArray[2 * i + 1] = -0.2 + Math.sin(2 * Math.PI * 1000 * i / SAMPLE_RATE);
+        }
+        filter.process(iqArray, 0, SAMPLE_RATE);
+        double meanReal = 0;
+        double meanImag = 0;
+        for (int i = SAMPLE_RATE / 2; i < SAMPLE_RATE; i++) {
+            meanReal += iqArray[2 * i];
+            meanImag += iqArray[2 * i + 1];
+        }
+        Assert.assertEquals(meanReal / (SAMPLE_RATE / 2), 0, 1E-3);
+        Assert.assertEquals(meanImag / (SAMPLE_RATE / 2), 0, 1E-3);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void missingCutoffTest() {
+        IirFilterFactory.newButterworthFilter(FilterType.BAND_PASS, 2, SAMPLE_RATE, 4000);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void cutoffAboveNyquistTest() {
+        IirFilterFactory.newButterworthFilter(FilterType.LOW_PASS, 2, SAMPLE_RATE, 30000);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidAttenuationTest() {
+        IirFilterFactory.newEllipticFilter(FilterType.LOW_PASS, 2, 3, 2, SAMPLE_RATE, 4000);
+    }
+
+}
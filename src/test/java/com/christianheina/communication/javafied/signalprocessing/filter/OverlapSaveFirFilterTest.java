@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.filter;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link OverlapSaveFirFilter}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class OverlapSaveFirFilterTest {
+
+    private static final double THRESHOLD = 1E-9;
+
+    private static double[] randomArray(Random random, int length) {
+        double[] array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextGaussian();
+        }
+        return array;
+    }
+
+    /**
+     * Brute force causal convolution with the same length as input.
+     */
+    private static double[] convolve(double[] taps, double[] input) {
+        double[] output = new double[input.length];
+        for (int n = 0; n < input.length / 2; n++) {
+            for (int k = 0; k < taps.length && k <= n; k++) {
+                output[2 * n] += taps[k] * input[2 * (n - k)];
+                output[2 * n + 1] += taps[k] * input[2 * (n - k) + 1];
+            }
+        }
+        return output;
+    }
+
+    private static double[] streamFilter(FirFilter filter, double[] input, Random random) {
+        double[] output = new double[input.length];
+        int samples = input.length / 2;
+        int read = 0;
+        int written = 0;
+        while (read < samples) {
+            int chunk = Math.min(samples - read, 1 + random.nextInt(50));
+            int expected = filter.outputSamplesFor(chunk);
+            int produced = filter.process(input, read, chunk, output, written);
+            Assert.assertEquals(produced, expected);
+            read += chunk;
+            written += produced;
+        }
+        written += filter.flush(output, written);
+        Assert.assertEquals(written, samples);
+        return output;
+    }
+
+    @Test
+    public void streamingTest() {
+        for (int length : new int[] { 1, 2, 15, 64, 257 }) {
+            double[] taps = randomArray(new Random(length), length);
+            double[] input = randomArray(new Random(length + 1), 2 * 3000);
+            FirFilter filter = new OverlapSaveFirFilter(taps);
+            Assert.assertEquals(streamFilter(filter, input, new Random(3)), convolve(taps, input), THRESHOLD);
+            Assert.assertEquals(filter.getLength(), length);
+            Assert.assertEquals(filter.getTaps(), taps);
+        }
+    }
+
+    @Test
+    public void filterSignalTest() {
+        double[] taps = randomArray(new Random(1), 31);
+        double[] input = randomArray(new Random(2), 2 * 500);
+        FirFilter filter = new OverlapSaveFirFilter(taps);
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(input), 1000);
+        filter.process(input, 0, 100, new double[input.length], 0);
+        TimeDomainSignal filtered = filter.filter(signal);
+        Assert.assertEquals(filtered.getSampleRate(), 1000);
+        Assert.assertEquals(IqArrayUtil.toIqArray(filtered.getIqDataList()), convolve(taps, input), THRESHOLD);
+    }
+
+    @Test
+    public void customFftSizeTest() {
+        double[] taps = randomArray(new Random(4), 100);
+        double[] input = randomArray(new Random(5), 2 * 1000);
+        OverlapSaveFirFilter filter = new OverlapSaveFirFilter(taps, 128);
+        Assert.assertEquals(filter.getFftSize(), 128);
+        Assert.assertEquals(filter.getBlockSize(), 29);
+        Assert.assertEquals(streamFilter(filter, input, new Random(6)), convolve(taps, input), THRESHOLD);
+    }
+
+    @Test
+    public void blockOutputTest() {
+        OverlapSaveFirFilter filter = new OverlapSaveFirFilter(new double[] { 1, 2 });
+        Assert.assertEquals(filter.getFftSize(), 8);
+        Assert.assertEquals(filter.getBlockSize(), 7);
+        double[] output = new double[2 * 16];
+        Assert.assertEquals(filter.outputSamplesFor(5), 0);
+        Assert.assertEquals(filter.process(new double[2 * 5], 0, 5, output, 0), 0);
+        Assert.assertEquals(filter.getBufferedSamples(), 5);
+        Assert.assertEquals(filter.outputSamplesFor(10), 14);
+        Assert.assertEquals(filter.process(new double[2 * 10], 0, 10, output, 0), 14);
+        Assert.assertEquals(filter.getBufferedSamples(), 1);
+        Assert.assertEquals(filter.flush(output, 0), 1);
+        Assert.assertEquals(filter.getBufferedSamples(), 0);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidFftSizeTest() {
+        new OverlapSaveFirFilter(new double[16], 16);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void noTapsTest() {
+        double[] taps = new double[0];
+        new OverlapSaveFirFilter(taps);
+    }
+
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.measurement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.enums.CfarType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link CfarDetector}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class CfarDetectorTest {
+
+    private static final int SAMPLE_RATE = 1024000;
+    private static final int BINS = 1024;
+    private static final int GUARD_CELLS = 2;
+    private static final int TRAINING_CELLS = 16;
+    private static final double RESISTANCE = 50;
+
+    private FrequencyDomainSignal spectrum;
+    private double[] power;
+
+    @BeforeMethod
+    public void createSpectrum() {
+        Random random = new Random(11);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < BINS; i++) {
+            iqDataList.add(new Complex(random.nextGaussian(), random.nextGaussian()).multiply(0.01));
+        }
+        iqDataList.set(100, new Complex(1, 0));
+        iqDataList.set(600, new Complex(0, 0.5));
+        iqDataList.set(1020, new Complex(-0.7, 0.1));
+        spectrum = SignalFactory.newFrequencyDomainSignal(iqDataList, SAMPLE_RATE);
+        power = new double[BINS];
+        for (int i = 0; i < BINS; i++) {
+            power[i] = Math.pow(iqDataList.get(i).abs(), 2) / RESISTANCE;
+        }
+    }
+
+    @Test
+    public void cellAveragingTest() {
+        List<SpectralPeak> peakList = new CfarDetector(CfarType.CELL_AVERAGING, GUARD_CELLS, TRAINING_CELLS, 20)
+                .detect(spectrum, RESISTANCE);
+        assertTones(peakList);
+        for (SpectralPeak peak : peakList) {
+            Assert.assertEquals(peak.getThreshold() / bruteForceNoise(peak.getBin(), -1) / 100, 1, 1E-9);
+        }
+    }
+
+    @Test
+    public void orderedStatisticTest() {
+        CfarDetector detector = new CfarDetector(CfarType.ORDERED_STATISTIC, GUARD_CELLS, TRAINING_CELLS, 20, 0.5);
+        List<SpectralPeak> peakList = detector.detect(spectrum, RESISTANCE);
+        assertTones(peakList);
+        for (SpectralPeak peak : peakList) {
+            Assert.assertEquals(peak.getThreshold() / bruteForceNoise(peak.getBin(), 0.5) / 100, 1, 1E-12);
+        }
+        Assert.assertEquals(detector.getType(), CfarType.ORDERED_STATISTIC);
+    }
+
+    @Test
+    public void allBinsMatchBruteForceTest() {
+        // A 0 dB threshold makes every local maximum above the noise level a detection
+        for (CfarType type : CfarType.values()) {
+            List<SpectralPeak> peakList = new CfarDetector(type, GUARD_CELLS, TRAINING_CELLS, 0).detect(power,
+                    SAMPLE_RATE);
+            List<Integer> expected = new ArrayList<>();
+            for (int i = 0; i < BINS; i++) {
+                double noise = bruteForceNoise(i, type == CfarType.CELL_AVERAGING ? -1 : 0.75);
+                if (power[i] > noise && (i == 0 || power[i] >= power[i - 1])
+                        && (i == BINS - 1 || power[i] > power[i + 1])) {
+                    expected.add(i);
+                }
+            }
+            List<Integer> actual = new ArrayList<>();
+            peakList.forEach(peak -> actual.add(peak.getBin()));
+            Assert.assertEquals(actual, expected);
+        }
+    }
+
+    @Test
+    public void reuseDetectorTest() {
+        CfarDetector detector = new CfarDetector(CfarType.ORDERED_STATISTIC, GUARD_CELLS, TRAINING_CELLS, 20);
+        assertTones(detector.detect(spectrum, RESISTANCE));
+        assertTones(detector.detect(spectrum, RESISTANCE));
+        Assert.assertTrue(detector.detect(new double[8], SAMPLE_RATE).isEmpty());
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidTrainingCellsTest() {
+        new CfarDetector(CfarType.CELL_AVERAGING, GUARD_CELLS, 0, 10);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidRankTest() {
+        new CfarDetector(CfarType.ORDERED_STATISTIC, GUARD_CELLS, TRAINING_CELLS, 10, 1.5);
+    }
+
+    private void assertTones(List<SpectralPeak> peakList) {
+        Assert.assertEquals(peakList.size(), 3);
+        Assert.assertEquals(peakList.get(0).getBin(), 100);
+        Assert.assertEquals(peakList.get(0).getFrequency(), (100 - BINS / 2) * 1000.0);
+        Assert.assertEquals(peakList.get(0).getPowerDbm(), spectrum.toPowerDbm(RESISTANCE).get(100), 1E-9);
+        Assert.assertEquals(peakList.get(1).getBin(), 600);
+        Assert.assertEquals(peakList.get(1).getPower(), 0.25 / RESISTANCE, 1E-15);
+        Assert.assertEquals(peakList.get(2).getBin(), 1020);
+        Assert.assertTrue(peakList.get(2).getThresholdDbm() < peakList.get(2).getPowerDbm());
+    }
+
+    private double bruteForceNoise(int bin, double rank) {
+        List<Double> cells = new ArrayList<>();
+        for (int i = bin - GUARD_CELLS - TRAINING_CELLS; i <= bin + GUARD_CELLS + TRAINING_CELLS; i++) {
+            if (i >= 0 && i < BINS && Math.abs(i - bin) > GUARD_CELLS) {
+                cells.add(power[i]);
+            }
+        }
+        if (rank < 0) {
+            return cells.stream().mapToDouble(Double::doubleValue).average().getAsDouble();
+        }
+        double[] sorted = cells.stream().mapToDouble(Double::doubleValue).toArray();
+        Arrays.sort(sorted);
+        return sorted[(int) Math.round(rank * (sorted.length - 1))];
+    }
+
+}
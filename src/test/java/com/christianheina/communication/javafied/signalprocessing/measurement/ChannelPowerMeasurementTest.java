@@ -0,0 +1,112 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.measurement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.common.utilities.PowerUtil;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyBand;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link ChannelPowerMeasurement}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class ChannelPowerMeasurementTest {
+
+    private static final int SAMPLE_RATE = 1024000;
+    private static final int SAMPLES = 1024;
+    private static final double RESISTANCE = 50;
+    private static final double THRESHOLD = 1E-9;
+
+    private TimeDomainSignal signal;
+
+    @BeforeMethod
+    public void createSignal() {
+        // Tone of amplitude 1 at 100 kHz, tone of amplitude 0.1 at 300 kHz and weak noise
+        Random random = new Random(5);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < SAMPLES; i++) {
+            Complex tone = new Complex(0, 2 * Math.PI * 100 * i / SAMPLES).exp();
+            Complex adjacent = new Complex(0, 2 * Math.PI * 300 * i / SAMPLES).exp().multiply(0.1);
+            Complex noise = new Complex(random.nextGaussian(), random.nextGaussian()).multiply(1E-4);
+            iqDataList.add(tone.add(adjacent).add(noise));
+        }
+        signal = SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+    }
+
+    @Test
+    public void totalPowerTest() {
+        ChannelPowerMeasurement measurement = new ChannelPowerMeasurement(signal, RESISTANCE);
+        Assert.assertEquals(PowerUtil.wattsToDbm(measurement.totalPower()), signal.toAveragePowerDbm(RESISTANCE),
+                THRESHOLD);
+        Assert.assertEquals(measurement.channelPowerDbm(new FrequencyBand(0, SAMPLE_RATE)),
+                signal.toAveragePowerDbm(RESISTANCE), THRESHOLD);
+    }
+
+    @Test
+    public void channelPowerTest() {
+        ChannelPowerMeasurement measurement = new ChannelPowerMeasurement(signal.asFrequencyDomainSignal(), RESISTANCE);
+        FrequencyBand mainBand = new FrequencyBand(100000, 50000);
+        List<Double> powerList = measurement.channelPowerDbm(Arrays.asList(mainBand, mainBand.shift(200000)));
+        Assert.assertEquals(powerList.get(0), PowerUtil.wattsToDbm(1 / RESISTANCE), 1E-3);
+        Assert.assertEquals(powerList.get(1), PowerUtil.wattsToDbm(0.01 / RESISTANCE), 1E-3);
+        Assert.assertEquals(measurement.channelPower(mainBand), 1 / RESISTANCE, 1E-4);
+    }
+
+    @Test
+    public void channelPowerMatchesBinSumTest() {
+        ChannelPowerMeasurement measurement = new ChannelPowerMeasurement(signal, RESISTANCE);
+        List<Double> binPower = signal.asFrequencyDomainSignal().toPower(RESISTANCE);
+        // Band covering bins 600 to 699 exactly
+        double expected = 0;
+        for (int i = 600; i < 700; i++) {
+            expected += binPower.get(i);
+        }
+        double low = (600 - SAMPLES / 2 - 0.5) * 1000;
+        FrequencyBand band = new FrequencyBand(low + 50000, 100000);
+        Assert.assertEquals(measurement.channelPower(band) / expected, 1, THRESHOLD);
+    }
+
+    @Test
+    public void aclrTest() {
+        ChannelPowerMeasurement measurement = new ChannelPowerMeasurement(signal, RESISTANCE);
+        FrequencyBand mainBand = new FrequencyBand(100000, 50000);
+        Assert.assertEquals(measurement.aclrDb(mainBand, mainBand.shift(200000)), -20, 1E-3);
+        List<Double> aclrList = measurement.aclrDb(mainBand,
+                Arrays.asList(mainBand.shift(-100000), mainBand.shift(200000)));
+        Assert.assertTrue(aclrList.get(0) < -80);
+        Assert.assertEquals(aclrList.get(1), -20, 1E-3);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void bandOutsideSampleRateTest() {
+        new ChannelPowerMeasurement(signal, RESISTANCE).channelPower(new FrequencyBand(SAMPLE_RATE, 1000));
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.measurement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link CumulativePower}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class CumulativePowerTest {
+
+    private static final double THRESHOLD = 1E-12;
+
+    private CumulativePower createCumulativePower() {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 1; i <= 8; i++) {
+            iqDataList.add(new Complex(Math.sqrt(i), 0));
+        }
+        return new CumulativePower(SignalFactory.newFrequencyDomainSignal(iqDataList, 800), 1);
+    }
+
+    @Test
+    public void cumulativeTest() {
+        CumulativePower cumulativePower = createCumulativePower();
+        Assert.assertEquals(cumulativePower.getBins(), 8);
+        Assert.assertEquals(cumulativePower.getBinWidth(), 100.0);
+        Assert.assertEquals(cumulativePower.getTotalPower(), 36, THRESHOLD);
+        Assert.assertEquals(cumulativePower.cumulative(-1), 0, THRESHOLD);
+        Assert.assertEquals(cumulativePower.cumulative(2), 3, THRESHOLD);
+        Assert.assertEquals(cumulativePower.cumulative(2.5), 4.5, THRESHOLD);
+        Assert.assertEquals(cumulativePower.cumulative(9), 36, THRESHOLD);
+    }
+
+    @Test
+    public void positionOfTest() {
+        CumulativePower cumulativePower = createCumulativePower();
+        for (double position = 0; position <= 8; position += 0.25) {
+            Assert.assertEquals(cumulativePower.lastPositionAtMost(cumulativePower.cumulative(position)), position,
+                    THRESHOLD);
+            Assert.assertEquals(cumulativePower.firstPositionAtLeast(cumulativePower.cumulative(position)), position,
+                    THRESHOLD);
+        }
+    }
+
+    @Test
+    public void positionOfWithEmptyBinsTest() {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            iqDataList.add(i == 3 || i == 4 ? Complex.ONE : Complex.ZERO);
+        }
+        CumulativePower cumulativePower = new CumulativePower(SignalFactory.newFrequencyDomainSignal(iqDataList, 800),
+                1);
+        Assert.assertEquals(cumulativePower.lastPositionAtMost(0), 3, THRESHOLD);
+        Assert.assertEquals(cumulativePower.firstPositionAtLeast(2), 5, THRESHOLD);
+        Assert.assertEquals(cumulativePower.lastPositionAtMost(1), 4, THRESHOLD);
+        Assert.assertEquals(cumulativePower.firstPositionAtLeast(1), 4, THRESHOLD);
+    }
+
+    @Test
+    public void frequencyPositionTest() {
+        CumulativePower cumulativePower = createCumulativePower();
+        // Bin 4 is zero frequency and covers [4, 5)
+        Assert.assertEquals(cumulativePower.toPosition(0), 4.5, THRESHOLD);
+        Assert.assertEquals(cumulativePower.toFrequency(4.5), 0, THRESHOLD);
+        Assert.assertEquals(cumulativePower.powerBetween(-50, 50), 5, THRESHOLD);
+        Assert.assertEquals(cumulativePower.powerBetween(-100, 100), 10, THRESHOLD);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void outsideSampleRateTest() {
+        createCumulativePower().powerBetween(-500, 0);
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.measurement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyBand;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link OccupiedBandwidthMeasurement}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class OccupiedBandwidthMeasurementTest {
+
+    private static final int SAMPLE_RATE = 1024000;
+    private static final int BINS = 1024;
+    private static final double THRESHOLD = 1E-6;
+
+    private static FrequencyDomainSignal flatSpectrum(int firstBin, int lastBin) {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < BINS; i++) {
+            iqDataList.add(i >= firstBin && i <= lastBin ? Complex.ONE : Complex.ZERO);
+        }
+        return SignalFactory.newFrequencyDomainSignal(iqDataList, SAMPLE_RATE);
+    }
+
+    @Test
+    public void occupiedBandwidthFlatTest() {
+        // 200 bins of 1 kHz from -50.5 kHz to 149.5 kHz, bin 512 is zero frequency
+        OccupiedBandwidthMeasurement measurement = new OccupiedBandwidthMeasurement(flatSpectrum(462, 661));
+        FrequencyBand full = measurement.occupiedBandwidth(100);
+        Assert.assertEquals(full.getBandwidth(), 200000, THRESHOLD);
+        Assert.assertEquals(full.getCenterFrequency(), 49500, THRESHOLD);
+        FrequencyBand band = measurement.occupiedBandwidth(99);
+        Assert.assertEquals(band.getBandwidth(), 198000, THRESHOLD);
+        Assert.assertEquals(band.getCenterFrequency(), full.getCenterFrequency(), THRESHOLD);
+    }
+
+    @Test
+    public void occupiedBandwidthGaussianTest() {
+        // Gaussian power density has 95.45 % of its power within 2 standard deviations
+        double sigma = 20000;
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < BINS; i++) {
+            double frequency = (i - BINS / 2) * 1000.0 - 100000;
+            iqDataList.add(new Complex(Math.sqrt(Math.exp(-frequency * frequency / (2 * sigma * sigma))), 0));
+        }
+        OccupiedBandwidthMeasurement measurement = new OccupiedBandwidthMeasurement(
+                SignalFactory.newFrequencyDomainSignal(iqDataList, SAMPLE_RATE));
+        FrequencyBand band = measurement.occupiedBandwidth(95.449973610364);
+        Assert.assertEquals(band.getBandwidth(), 4 * sigma, 500);
+        Assert.assertEquals(band.getCenterFrequency(), 100000, 1E-3);
+        Assert.assertEquals(measurement.getPeakFrequency(), 100000, THRESHOLD);
+    }
+
+    @Test
+    public void xDbBandwidthTest() {
+        // Triangle of 1 .. 10 .. 1 in power, 3 dB down is close to 5
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < BINS; i++) {
+            int distance = Math.abs(i - 512);
+            iqDataList.add(new Complex(Math.sqrt(distance < 10 ? 10 - distance : 0), 0));
+        }
+        OccupiedBandwidthMeasurement measurement = new OccupiedBandwidthMeasurement(
+                SignalFactory.newFrequencyDomainSignal(iqDataList, SAMPLE_RATE));
+        double halfPower = 10 * Math.pow(10, -0.3);
+        FrequencyBand band = measurement.xDbBandwidth(3);
+        Assert.assertEquals(band.getBandwidth(), 2 * (10 - halfPower) * 1000, THRESHOLD);
+        Assert.assertEquals(band.getCenterFrequency(), 0, THRESHOLD);
+    }
+
+    @Test
+    public void xDbBandwidthSpectrumEdgeTest() {
+        OccupiedBandwidthMeasurement measurement = new OccupiedBandwidthMeasurement(flatSpectrum(0, 9));
+        FrequencyBand band = measurement.xDbBandwidth(6);
+        Assert.assertEquals(band.getLowFrequency(), -512000, THRESHOLD);
+        Assert.assertEquals(band.getHighFrequency(), -503000 + (1 - Math.pow(10, -0.6)) * 1000, THRESHOLD);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidPercentTest() {
+        new OccupiedBandwidthMeasurement(flatSpectrum(0, 9)).occupiedBandwidth(0);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void noPowerTest() {
+        new OccupiedBandwidthMeasurement(flatSpectrum(1, 0)).xDbBandwidth(3);
+    }
+
+}
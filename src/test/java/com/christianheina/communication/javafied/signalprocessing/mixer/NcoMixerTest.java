@@ -0,0 +1,152 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.mixer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link NcoMixer}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class NcoMixerTest {
+
+    private static final double THRESHOLD = 1E-6;
+
+    private static TimeDomainSignal tone(double frequency, int samples, int sampleRate) {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < samples; i++) {
+            iqDataList.add(new Complex(0, 2 * Math.PI * frequency * i / sampleRate).exp());
+        }
+        return SignalFactory.newTimeDomainSignal(iqDataList, sampleRate);
+    }
+
+    @Test
+    public void shiftTest() {
+        TimeDomainSignal signal = tone(1234.5, 5000, 100000);
+        TimeDomainSignal shifted = NcoMixer.shift(signal, -31415.9);
+        Assert.assertEquals(shifted.getSampleRate(), 100000);
+        Assert.assertEquals(shifted.getIqDataList().size(), 5000);
+        TimeDomainSignal expected = tone(1234.5 - 31415.9, 5000, 100000);
+        for (int i = 0; i < 5000; i++) {
+            Assert.assertTrue(
+                    shifted.getIqDataList().get(i).subtract(expected.getIqDataList().get(i)).abs() < THRESHOLD);
+        }
+    }
+
+    @Test
+    public void spectrumTest() {
+        // Tone at 100 Hz moved by 4 bins of 1 kHz / 1000 samples
+        TimeDomainSignal shifted = NcoMixer.shift(tone(100, 1000, 1000), 4);
+        List<Complex> spectrum = shifted.asFrequencyDomainSignal().getIqDataList();
+        int peak = 0;
+        for (int i = 1; i < spectrum.size(); i++) {
+            if (spectrum.get(i).abs() > spectrum.get(peak).abs()) {
+                peak = i;
+            }
+        }
+        Assert.assertEquals(peak, 500 + 104);
+    }
+
+    @Test
+    public void streamingTest() {
+        Random random = new Random(1);
+        double[] input = new double[2 * 3000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = random.nextGaussian();
+        }
+        NcoMixer mixer = new NcoMixer(777.7, 48000);
+        double[] expected = input.clone();
+        mixer.process(expected, 0, 3000);
+        mixer.reset();
+
+        double[] output = input.clone();
+        int read = 0;
+        while (read < 3000) {
+            int chunk = Math.min(3000 - read, random.nextInt(50));
+            mixer.process(output, read, chunk);
+            read += chunk;
+        }
+        Assert.assertEquals(output, expected, 0);
+    }
+
+    @Test
+    public void longStreamTest() {
+        // Exact frequency of an eighth turn per sample, phase stays exact after many samples
+        NcoMixer mixer = new NcoMixer(1000, 8000);
+        double[] iqArray = new double[2 * 10000];
+        for (int round = 0; round < 1000; round++) {
+            for (int i = 0; i < iqArray.length; i += 2) {
+                iqArray[i] = 1;
+                iqArray[i + 1] = 0;
+            }
+            mixer.process(iqArray, 0, 10000);
+        }
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertEquals(iqArray[2 * i], Math.cos(Math.PI / 4 * i), 1E-12);
+            Assert.assertEquals(iqArray[2 * i + 1], Math.sin(Math.PI / 4 * i), 1E-12);
+        }
+    }
+
+    @Test
+    public void phaseContinuityTest() {
+        NcoMixer mixer = new NcoMixer(1000, 10000);
+        double[] iqArray = new double[2 * 20];
+        for (int i = 0; i < iqArray.length; i += 2) {
+            iqArray[i] = 1;
+        }
+        mixer.process(iqArray, 0, 10);
+        Assert.assertEquals(mixer.getPhase(), 0, 1E-12);
+        mixer.setFrequency(-2500);
+        Assert.assertEquals(mixer.getFrequency(), -2500.0);
+        mixer.process(iqArray, 10, 10);
+        // Continues from the phase reached after 10 samples of 0.1 turns
+        for (int i = 10; i < 20; i++) {
+            double angle = 2 * Math.PI * -0.25 * (i - 10);
+            Assert.assertEquals(iqArray[2 * i], Math.cos(angle), THRESHOLD);
+            Assert.assertEquals(iqArray[2 * i + 1], Math.sin(angle), THRESHOLD);
+        }
+        mixer.setPhase(Math.PI / 2);
+        Assert.assertEquals(mixer.getPhase(), Math.PI / 2, 1E-12);
+    }
+
+    @Test
+    public void aliasTest() {
+        // Shifting by the sample rate is no shift at all
+        TimeDomainSignal signal = tone(50, 100, 1000);
+        TimeDomainSignal shifted = NcoMixer.shift(signal, 1000);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(shifted.getIqDataList().get(i).subtract(signal.getIqDataList().get(i)).abs() < THRESHOLD);
+        }
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidFrequencyTest() {
+        new NcoMixer(Double.NaN, 1000);
+    }
+
+}
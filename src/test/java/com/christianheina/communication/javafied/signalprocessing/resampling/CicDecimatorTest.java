@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.resampling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link CicDecimator}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class CicDecimatorTest {
+
+    private static double[] randomArray(Random random, int length) {
+        double[] array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextDouble() * 2 - 1;
+        }
+        return array;
+    }
+
+    /**
+     * Brute force N cascaded moving averages of length R * D followed by downsampling.
+     */
+    private static double[] bruteForce(int decimation, int stages, int differentialDelay, double[] input) {
+        int samples = input.length / 2;
+        int length = decimation * differentialDelay;
+        double[] filtered = input.clone();
+        for (int s = 0; s < stages; s++) {
+            double[] next = new double[filtered.length];
+            for (int n = 0; n < samples; n++) {
+                for (int k = 0; k < length && k <= n; k++) {
+                    next[2 * n] += filtered[2 * (n - k)] / length;
+                    next[2 * n + 1] += filtered[2 * (n - k) + 1] / length;
+                }
+            }
+            filtered = next;
+        }
+        double[] output = new double[2 * (samples / decimation)];
+        for (int m = 0; m < output.length / 2; m++) {
+            output[2 * m] = filtered[2 * ((m + 1) * decimation - 1)];
+            output[2 * m + 1] = filtered[2 * ((m + 1) * decimation - 1) + 1];
+        }
+        return output;
+    }
+
+    @Test
+    public void matchesBruteForceTest() {
+        int[][] configurations = { { 4, 1, 1 }, { 8, 3, 1 }, { 5, 4, 2 }, { 1, 2, 1 } };
+        for (int[] configuration : configurations) {
+            double[] input = randomArray(new Random(configuration[0]), 2 * 400);
+            CicDecimator decimator = new CicDecimator(configuration[0], configuration[1], configuration[2], 1);
+            double[] output = new double[2 * decimator.outputSamplesFor(400)];
+            Assert.assertEquals(decimator.process(input, 0, 400, output, 0), output.length / 2);
+            Assert.assertEquals(output, bruteForce(configuration[0], configuration[1], configuration[2], input), 1E-9);
+        }
+    }
+
+    @Test
+    public void streamingTest() {
+        double[] input = randomArray(new Random(5), 2 * 2000);
+        CicDecimator decimator = new CicDecimator(7, 4);
+        double[] expected = new double[2 * decimator.outputSamplesFor(2000)];
+        decimator.process(input, 0, 2000, expected, 0);
+        decimator.reset();
+
+        double[] output = new double[expected.length];
+        Random random = new Random(6);
+        int read = 0;
+        int written = 0;
+        while (read < 2000) {
+            int chunk = Math.min(2000 - read, random.nextInt(30));
+            int outputs = decimator.outputSamplesFor(chunk);
+            Assert.assertEquals(decimator.process(input, read, chunk, output, written), outputs);
+            read += chunk;
+            written += outputs;
+        }
+        Assert.assertEquals(output, expected, 0);
+    }
+
+    @Test
+    public void fullScaleWrapAroundTest() {
+        // Integrators wrap around many times, combs still recover full scale exactly
+        CicDecimator decimator = new CicDecimator(1000, 5, 1, 100);
+        double[] input = new double[2 * 100000];
+        for (int i = 0; i < input.length; i += 2) {
+            input[i] = 100;
+            input[i + 1] = -250;
+        }
+        double[] output = new double[2 * decimator.outputSamplesFor(100000)];
+        for (int round = 0; round < 20; round++) {
+            decimator.process(input, 0, 100000, output, 0);
+        }
+        for (int i = 0; i < output.length; i += 2) {
+            Assert.assertEquals(output[i], 100, decimator.getResolution());
+            Assert.assertEquals(output[i + 1], -100, decimator.getResolution());
+        }
+    }
+
+    @Test
+    public void compensationTest() {
+        int decimation = 16;
+        int stages = 4;
+        double frequency = 0.2;
+        double droop = CicDecimator.response(decimation, stages, 1, frequency);
+        Assert.assertTrue(droop < 0.8);
+
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < 16000; i++) {
+            iqDataList.add(new Complex(0, 2 * Math.PI * frequency * i / decimation).exp());
+        }
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(iqDataList, 1600000);
+        TimeDomainSignal uncompensated = new CicDecimator(decimation, stages).decimate(signal);
+        CicDecimator compensated = new CicDecimator(decimation, stages, 1, 1, 0.25);
+        TimeDomainSignal flattened = compensated.decimate(signal);
+        Assert.assertEquals(flattened.getSampleRate(), 100000);
+        Assert.assertEquals(compensated.getCompensationTaps().length, 21);
+        for (int i = 100; i < 1000; i++) {
+            Assert.assertEquals(uncompensated.getIqDataList().get(i).abs(), droop, 1E-3);
+            Assert.assertEquals(flattened.getIqDataList().get(i).abs(), 1, 0.02);
+        }
+    }
+
+    @Test
+    public void passbandFlatnessTest() {
+        CicDecimator decimator = new CicDecimator(32, 5, 1, 1, 0.2);
+        double[] taps = decimator.getCompensationTaps();
+        for (double frequency = 0; frequency <= 0.2; frequency += 0.01) {
+            double real = 0;
+            double imag = 0;
+            for (int n = 0; n < taps.length; n++) {
+                real += taps[n] * Math.cos(2 * Math.PI * frequency * n);
+                imag -= taps[n] * Math.sin(2 * Math.PI * frequency * n);
+            }
+            double magnitude = Math.hypot(real, imag) * CicDecimator.response(32, 5, 1, frequency);
+            Assert.assertEquals(magnitude, 1, 0.02);
+        }
+        Assert.assertNull(new CicDecimator(32, 5).getCompensationTaps());
+    }
+
+    @Test
+    public void clippingTest() {
+        CicDecimator decimator = new CicDecimator(2, 2, 1, 1);
+        double[] input = { 5, -5, 5, -5, 5, -5, 5, -5 };
+        double[] output = new double[4];
+        decimator.process(input, 0, 4, output, 0);
+        Assert.assertEquals(output[2], 1, decimator.getResolution());
+        Assert.assertEquals(output[3], -1, decimator.getResolution());
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void bitGrowthTest() {
+        new CicDecimator(100000, 5);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidStagesTest() {
+        new CicDecimator(10, 0);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void fractionalSampleRateTest() {
+        List<Complex> iqDataList = new ArrayList<>();
+        iqDataList.add(Complex.ONE);
+        new CicDecimator(3, 2).decimate(SignalFactory.newTimeDomainSignal(iqDataList, 1000));
+    }
+
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.resampling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link FarrowResampler}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class FarrowResamplerTest {
+
+    private static final double THRESHOLD = 1E-9;
+
+    private static TimeDomainSignal polynomialSignal(int samples, int sampleRate) {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < samples; i++) {
+            iqDataList.add(new Complex(polynomial(i), -2 * polynomial(i)));
+        }
+        return SignalFactory.newTimeDomainSignal(iqDataList, sampleRate);
+    }
+
+    private static double polynomial(double t) {
+        return 0.5 - 0.01 * t + 0.002 * t * t - 0.00001 * t * t * t;
+    }
+
+    @Test
+    public void lagrangeCoefficientsTest() {
+        for (int degree = 1; degree <= 7; degree += 2) {
+            double[][] table = FarrowResampler.lagrangeCoefficients(degree);
+            int left = (degree - 1) / 2;
+            for (int k = 0; k <= degree; k++) {
+                Assert.assertEquals(table[0][k], k == left ? 1 : 0, THRESHOLD);
+            }
+            for (int m = 1; m <= degree; m++) {
+                double sum = 0;
+                for (int k = 0; k <= degree; k++) {
+                    sum += table[m][k];
+                }
+                Assert.assertEquals(sum, 0, THRESHOLD);
+            }
+        }
+        // Linear interpolation between the two samples
+        double[][] linear = FarrowResampler.lagrangeCoefficients(1);
+        Assert.assertEquals(linear[1][0], -1, THRESHOLD);
+        Assert.assertEquals(linear[1][1], 1, THRESHOLD);
+    }
+
+    @Test
+    public void identityTest() {
+        TimeDomainSignal signal = polynomialSignal(100, 1000);
+        TimeDomainSignal resampled = new FarrowResampler(1).resample(signal);
+        Assert.assertEquals(resampled.getSampleRate(), 1000);
+        Assert.assertEquals(resampled.getIqDataList().size(), 100);
+        for (int i = 0; i < 100; i++) {
+            Assert.assertTrue(resampled.getIqDataList().get(i).subtract(signal.getIqDataList().get(i)).abs() < 1E-12);
+        }
+    }
+
+    @Test
+    public void cubicPolynomialTest() {
+        // Cubic interpolation reproduces a cubic polynomial exactly away from the zero samples before the start
+        TimeDomainSignal signal = polynomialSignal(200, 10000);
+        double ratio = 1.37;
+        TimeDomainSignal resampled = new FarrowResampler(ratio).resample(signal);
+        Assert.assertEquals(resampled.getSampleRate(), 13700);
+        Assert.assertEquals(resampled.getIqDataList().size(), (int) Math.ceil(200 * ratio));
+        for (int k = 5; k < 260; k++) {
+            double t = k / ratio;
+            Complex value = resampled.getIqDataList().get(k);
+            Assert.assertEquals(value.getReal(), polynomial(t), 1E-8);
+            Assert.assertEquals(value.getImaginary(), -2 * polynomial(t), 1E-8);
+        }
+    }
+
+    @Test
+    public void fractionalDelayTest() {
+        List<Complex> iqDataList = new ArrayList<>();
+        double frequency = 0.02;
+        for (int i = 0; i < 500; i++) {
+            iqDataList.add(new Complex(0, 2 * Math.PI * frequency * i).exp());
+        }
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(iqDataList, 1000);
+        TimeDomainSignal delayed = FarrowResampler.delay(signal, 2.3);
+        Assert.assertEquals(delayed.getIqDataList().size(), 500);
+        Assert.assertEquals(delayed.getSampleRate(), 1000);
+        for (int i = 0; i < 2; i++) {
+            Assert.assertTrue(delayed.getIqDataList().get(i).abs() < 0.5);
+        }
+        for (int i = 5; i < 500; i++) {
+            Complex expected = new Complex(0, 2 * Math.PI * frequency * (i - 2.3)).exp();
+            Assert.assertTrue(delayed.getIqDataList().get(i).subtract(expected).abs() < 1E-3);
+        }
+
+        TimeDomainSignal advanced = FarrowResampler.delay(signal, -3);
+        Assert.assertEquals(advanced.getIqDataList().size(), 500);
+        for (int i = 0; i < 496; i++) {
+            Assert.assertTrue(advanced.getIqDataList().get(i).subtract(iqDataList.get(i + 3)).abs() < 1E-12);
+        }
+        Assert.assertEquals(advanced.getIqDataList().get(499).abs(), 0, THRESHOLD);
+    }
+
+    @Test
+    public void streamingTest() {
+        Random random = new Random(7);
+        double[] input = new double[2 * 3000];
+        for (int i = 0; i < input.length; i++) {
+            input[i] = random.nextGaussian();
+        }
+        FarrowResampler resampler = new FarrowResampler(0.7316, 5, 1.25);
+        double[] expected = new double[2 * resampler.outputSamplesFor(3000)];
+        Assert.assertEquals(resampler.process(input, 0, 3000, expected, 0), expected.length / 2);
+        resampler.reset();
+
+        double[] output = new double[expected.length];
+        int read = 0;
+        int written = 0;
+        while (read < 3000) {
+            int chunk = Math.min(3000 - read, random.nextInt(25));
+            int outputs = resampler.outputSamplesFor(chunk);
+            Assert.assertEquals(resampler.process(input, read, chunk, output, written), outputs);
+            read += chunk;
+            written += outputs;
+        }
+        Assert.assertEquals(output, expected, 0);
+    }
+
+    @Test
+    public void setRatioTest() {
+        // Linear ramp is reproduced by linear interpolation whatever the ratio
+        double[] input = new double[2 * 100];
+        for (int i = 0; i < 100; i++) {
+            input[2 * i] = i;
+        }
+        FarrowResampler resampler = new FarrowResampler(2, 1, 0);
+        double[] output = new double[2 * 1000];
+        int written = resampler.process(input, 0, 50, output, 0);
+        Assert.assertEquals(written, 98);
+        resampler.setRatio(0.5);
+        Assert.assertEquals(resampler.getRatio(), 0.5);
+        written += resampler.process(input, 50, 50, output, written);
+        double t = 0;
+        for (int k = 0; k < written; k++) {
+            Assert.assertEquals(output[2 * k], t, THRESHOLD);
+            t += k < 98 ? 0.5 : 2;
+        }
+        Assert.assertEquals(output[2 * (written - 1)], 97, THRESHOLD);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidDegreeTest() {
+        new FarrowResampler(1, 2, 0);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidRatioTest() {
+        new FarrowResampler(0);
+    }
+
+}
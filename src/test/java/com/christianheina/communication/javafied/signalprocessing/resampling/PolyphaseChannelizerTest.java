@@ -0,0 +1,148 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.resampling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link PolyphaseChannelizer}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class PolyphaseChannelizerTest {
+
+    private static final double THRESHOLD = 1E-9;
+
+    private static double[] randomArray(Random random, int length) {
+        double[] array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextGaussian();
+        }
+        return array;
+    }
+
+    /**
+     * Brute force shift of channel to baseband, filtering and downsampling.
+     */
+    private static double[] bruteForce(int channels, int decimation, double[] taps, int channel, double[] input) {
+        int samples = input.length / 2;
+        double[] output = new double[2 * ((samples + decimation - 1) / decimation)];
+        for (int m = 0; m < output.length / 2; m++) {
+            int n = m * decimation;
+            for (int l = 0; l < taps.length && l <= n; l++) {
+                double angle = -2 * Math.PI * channel * (double) (n - l) / channels;
+                double real = input[2 * (n - l)] * Math.cos(angle) - input[2 * (n - l) + 1] * Math.sin(angle);
+                double imag = input[2 * (n - l)] * Math.sin(angle) + input[2 * (n - l) + 1] * Math.cos(angle);
+                output[2 * m] += taps[l] * real;
+                output[2 * m + 1] += taps[l] * imag;
+            }
+        }
+        return output;
+    }
+
+    @Test
+    public void matchesBruteForceTest() {
+        int[][] configurations = { { 8, 8 }, { 8, 4 }, { 8, 6 }, { 5, 5 } };
+        for (int[] configuration : configurations) {
+            int channels = configuration[0];
+            int decimation = configuration[1];
+            double[] taps = randomArray(new Random(channels * 10 + decimation), 37);
+            double[] input = randomArray(new Random(1), 2 * 300);
+            PolyphaseChannelizer channelizer = new PolyphaseChannelizer(channels, decimation, taps);
+            double[][] outputs = new double[channels][2 * channelizer.outputSamplesFor(300)];
+            Assert.assertEquals(channelizer.process(input, 0, 300, outputs, 0), outputs[0].length / 2);
+            for (int k = 0; k < channels; k++) {
+                Assert.assertEquals(outputs[k], bruteForce(channels, decimation, taps, k, input), THRESHOLD);
+            }
+        }
+    }
+
+    @Test
+    public void streamingTest() {
+        double[] input = randomArray(new Random(2), 2 * 2000);
+        PolyphaseChannelizer channelizer = new PolyphaseChannelizer(16, 12);
+        double[][] expected = new double[16][2 * channelizer.outputSamplesFor(2000)];
+        channelizer.process(input, 0, 2000, expected, 0);
+        channelizer.reset();
+
+        double[][] outputs = new double[16][expected[0].length];
+        Random random = new Random(3);
+        int read = 0;
+        int written = 0;
+        while (read < 2000) {
+            int chunk = Math.min(2000 - read, random.nextInt(40));
+            int count = channelizer.outputSamplesFor(chunk);
+            Assert.assertEquals(channelizer.process(input, read, chunk, outputs, written), count);
+            read += chunk;
+            written += count;
+        }
+        for (int k = 0; k < 16; k++) {
+            Assert.assertEquals(outputs[k], expected[k], 0);
+        }
+    }
+
+    @Test
+    public void channelizeToneTest() {
+        // Tone in the center of channel 13 of 16 (-3 * 64 kHz) ends up at baseband of that channel only
+        int sampleRate = 1024000;
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < 16000; i++) {
+            iqDataList.add(new Complex(0, 2 * Math.PI * -192000 * i / sampleRate).exp().multiply(0.5));
+        }
+        PolyphaseChannelizer channelizer = new PolyphaseChannelizer(16, 8);
+        Assert.assertEquals(channelizer.getChannelFrequency(13, sampleRate), -192000.0);
+        Assert.assertEquals(channelizer.getChannelFrequency(8, sampleRate), -512000.0);
+        Assert.assertEquals(channelizer.getChannelFrequency(3, sampleRate), 192000.0);
+
+        List<TimeDomainSignal> channelList = channelizer
+                .channelize(SignalFactory.newTimeDomainSignal(iqDataList, sampleRate));
+        Assert.assertEquals(channelList.size(), 16);
+        for (int k = 0; k < 16; k++) {
+            TimeDomainSignal channel = channelList.get(k);
+            Assert.assertEquals(channel.getSampleRate(), 128000);
+            Assert.assertEquals(channel.getIqDataList().size(), 2000);
+            for (int m = 100; m < 2000; m++) {
+                Assert.assertEquals(channel.getIqDataList().get(m).abs(), k == 13 ? 0.5 : 0, 1E-4);
+            }
+        }
+        // Signal at baseband is constant
+        Complex first = channelList.get(13).getIqDataList().get(100);
+        Complex last = channelList.get(13).getIqDataList().get(1999);
+        Assert.assertTrue(first.subtract(last).abs() < 1E-4);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidDecimationTest() {
+        new PolyphaseChannelizer(8, 9);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void wrongOutputCountTest() {
+        new PolyphaseChannelizer(4, 4).process(new double[16], 0, 8, new double[3][4], 0);
+    }
+
+}
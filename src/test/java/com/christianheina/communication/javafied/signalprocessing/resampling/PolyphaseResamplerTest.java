@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.resampling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link PolyphaseResampler}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class PolyphaseResamplerTest {
+
+    private static final double THRESHOLD = 1E-9;
+
+    private static double[] randomArray(Random random, int length) {
+        double[] array = new double[length];
+        for (int i = 0; i < length; i++) {
+            array[i] = random.nextGaussian();
+        }
+        return array;
+    }
+
+    /**
+     * Brute force zero stuffing, filtering and downsampling.
+     */
+    private static double[] bruteForce(int interpolation, int decimation, double[] taps, double[] input) {
+        int samples = input.length / 2;
+        double[] upsampled = new double[2 * samples * interpolation];
+        for (int n = 0; n < samples; n++) {
+            upsampled[2 * n * interpolation] = input[2 * n] * interpolation;
+            upsampled[2 * n * interpolation + 1] = input[2 * n + 1] * interpolation;
+        }
+        int outputs = (samples * interpolation + decimation - 1) / decimation;
+        double[] output = new double[2 * outputs];
+        for (int m = 0; m < outputs; m++) {
+            int t = m * decimation;
+            for (int k = 0; k < taps.length && k <= t; k++) {
+                output[2 * m] += taps[k] * upsampled[2 * (t - k)];
+                output[2 * m + 1] += taps[k] * upsampled[2 * (t - k) + 1];
+            }
+        }
+        return output;
+    }
+
+    @Test
+    public void matchesBruteForceTest() {
+        int[][] factors = { { 1, 4 }, { 3, 1 }, { 3, 2 }, { 2, 5 }, { 1, 1 } };
+        for (int[] factor : factors) {
+            double[] taps = randomArray(new Random(factor[0] * 10 + factor[1]), 23);
+            double[] input = randomArray(new Random(1), 2 * 400);
+            PolyphaseResampler resampler = new PolyphaseResampler(factor[0], factor[1], taps);
+            double[] output = new double[2 * resampler.outputSamplesFor(400)];
+            Assert.assertEquals(resampler.process(input, 0, 400, output, 0), output.length / 2);
+            Assert.assertEquals(output, bruteForce(factor[0], factor[1], taps, input), THRESHOLD);
+        }
+    }
+
+    @Test
+    public void streamingTest() {
+        double[] taps = randomArray(new Random(2), 31);
+        double[] input = randomArray(new Random(3), 2 * 1000);
+        double[] expected = bruteForce(5, 3, taps, input);
+        PolyphaseResampler resampler = new PolyphaseResampler(5, 3, taps);
+        double[] output = new double[expected.length];
+        Random random = new Random(4);
+        int read = 0;
+        int written = 0;
+        while (read < 1000) {
+            int chunk = Math.min(1000 - read, random.nextInt(20));
+            int outputs = resampler.outputSamplesFor(chunk);
+            Assert.assertEquals(resampler.process(input, read, chunk, output, written), outputs);
+            read += chunk;
+            written += outputs;
+        }
+        Assert.assertEquals(written, expected.length / 2);
+        Assert.assertEquals(output, expected, THRESHOLD);
+    }
+
+    @Test
+    public void reducedFactorsTest() {
+        PolyphaseResampler resampler = new PolyphaseResampler(6, 4);
+        Assert.assertEquals(resampler.getInterpolation(), 3);
+        Assert.assertEquals(resampler.getDecimation(), 2);
+        Assert.assertEquals(resampler.getDelay(), 30 / 2.0);
+    }
+
+    @Test
+    public void decimateToneTest() {
+        // 10 kHz tone at 1 MHz decimated by 8 keeps its amplitude, 300 kHz tone is removed
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < 8000; i++) {
+            Complex tone = new Complex(0, 2 * Math.PI * 10000 * i / 1000000.0).exp();
+            Complex alias = new Complex(0, 2 * Math.PI * 300000 * i / 1000000.0).exp();
+            iqDataList.add(tone.add(alias));
+        }
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(iqDataList, 1000000);
+        TimeDomainSignal decimated = new PolyphaseResampler(1, 8).resample(signal);
+        Assert.assertEquals(decimated.getSampleRate(), 125000);
+        Assert.assertEquals(decimated.getIqDataList().size(), 1000);
+        for (int i = 100; i < 1000; i++) {
+            Assert.assertEquals(decimated.getIqDataList().get(i).abs(), 1, 1E-3);
+        }
+    }
+
+    @Test
+    public void interpolateToneTest() {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            iqDataList.add(new Complex(0, 2 * Math.PI * 1000 * i / 48000.0).exp());
+        }
+        PolyphaseResampler resampler = new PolyphaseResampler(2, 1);
+        TimeDomainSignal interpolated = resampler.resample(SignalFactory.newTimeDomainSignal(iqDataList, 48000));
+        Assert.assertEquals(interpolated.getSampleRate(), 96000);
+        Assert.assertEquals(interpolated.getIqDataList().size(), 1000);
+        // Compare with the ideal tone delayed by the filter
+        for (int i = 100; i < 1000; i++) {
+            Complex expected = new Complex(0, 2 * Math.PI * 1000 * (i - resampler.getDelay()) / 96000.0).exp();
+            Assert.assertTrue(interpolated.getIqDataList().get(i).subtract(expected).abs() < 1E-3);
+        }
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void fractionalSampleRateTest() {
+        new PolyphaseResampler(1, 3)
+                .resample(SignalFactory.newTimeDomainSignal(IqArrayUtil.toComplexList(new double[20]), 1000));
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidFactorTest() {
+        new PolyphaseResampler(0, 3);
+    }
+
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.SignalProcessing;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link GoertzelTracker}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class GoertzelTrackerTest {
+
+    private static final double THRESHOLD = 1E-10;
+    private static final int SAMPLE_RATE = 6400;
+    private static final int BLOCK_SIZE = 64;
+    private static final double RESISTANCE = 50;
+
+    private TimeDomainSignal signal;
+
+    @BeforeMethod
+    public void createSignal() {
+        Random random = new Random(1);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < BLOCK_SIZE * 4; i++) {
+            double phase = 2 * Math.PI * 1200.0 * i / SAMPLE_RATE;
+            iqDataList.add(new Complex(Math.cos(phase) + random.nextGaussian() * 0.1,
+                    Math.sin(phase) + random.nextGaussian() * 0.1));
+        }
+        signal = SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+    }
+
+    @Test
+    public void matchesFullDftTest() {
+        double[] frequencies = new double[] { 1200, -300, 0 };
+        GoertzelTracker tracker = new GoertzelTracker(SAMPLE_RATE, BLOCK_SIZE, frequencies);
+        List<TimeDomainSignal> blocks = SignalProcessing.splitIqDataForTimeInterval(signal,
+                (double) BLOCK_SIZE / SAMPLE_RATE);
+        List<Long> sampleIndexes = new ArrayList<>();
+        tracker.process(signal, (sampleIndex, t) -> {
+            FrequencyDomainSignal spectrum = blocks.get(sampleIndexes.size()).asFrequencyDomainSignal();
+            for (int i = 0; i < frequencies.length; i++) {
+                int bin = (int) (frequencies[i] * BLOCK_SIZE / SAMPLE_RATE) + BLOCK_SIZE / 2;
+                Complex expected = spectrum.getIqDataList().get(bin);
+                Assert.assertTrue(t.getBin(i).subtract(expected).abs() < THRESHOLD);
+                Assert.assertTrue(
+                        Math.abs(t.getPowerDbm(i, RESISTANCE) - spectrum.toPowerDbm(RESISTANCE).get(bin)) < 1E-6);
+            }
+            sampleIndexes.add(sampleIndex);
+        });
+        Assert.assertEquals(sampleIndexes.size(), 4);
+        Assert.assertEquals(sampleIndexes.get(0).longValue(), BLOCK_SIZE - 1);
+        Assert.assertEquals(sampleIndexes.get(3).longValue(), 4 * BLOCK_SIZE - 1);
+        Assert.assertEquals(tracker.getSampleCount(), 4 * BLOCK_SIZE);
+    }
+
+    @Test
+    public void processIqArrayTest() {
+        GoertzelTracker tracker = new GoertzelTracker(SAMPLE_RATE, BLOCK_SIZE, 1200);
+        double[] iqArray = new double[signal.getIqDataList().size() * 2];
+        for (int i = 0; i < signal.getIqDataList().size(); i++) {
+            iqArray[2 * i] = signal.getIqDataList().get(i).getReal();
+            iqArray[2 * i + 1] = signal.getIqDataList().get(i).getImaginary();
+        }
+        double[] powerDbm = new double[1];
+        List<Double> powerList = new ArrayList<>();
+        tracker.process(iqArray, 0, BLOCK_SIZE / 2, (sampleIndex, t) -> Assert.fail());
+        tracker.process(iqArray, BLOCK_SIZE / 2, BLOCK_SIZE * 3 / 2, (sampleIndex, t) -> {
+            t.copyPowerDbm(RESISTANCE, powerDbm);
+            powerList.add(powerDbm[0]);
+        });
+        Assert.assertEquals(powerList.size(), 2);
+        double tonePowerDbm = 10 * Math.log10(1 / RESISTANCE / 0.001);
+        Assert.assertTrue(Math.abs(powerList.get(0) - tonePowerDbm) < 0.5);
+        Assert.assertTrue(Math.abs(powerList.get(1) - tonePowerDbm) < 0.5);
+
+        tracker.reset();
+        Assert.assertEquals(tracker.getSampleCount(), 0);
+        Assert.assertEquals(tracker.getBin(0), Complex.ZERO);
+    }
+
+    @Test
+    public void gettersTest() {
+        GoertzelTracker tracker = new GoertzelTracker(SAMPLE_RATE, BLOCK_SIZE, 100, 200);
+        Assert.assertEquals(tracker.getSampleRate(), SAMPLE_RATE);
+        Assert.assertEquals(tracker.getLength(), BLOCK_SIZE);
+        Assert.assertEquals(tracker.getFrequencies().length, 2);
+        Assert.assertEquals(tracker.getFrequencies()[1], 200.0);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void frequencyOutsideSampleRateTest() {
+        new GoertzelTracker(SAMPLE_RATE, BLOCK_SIZE, SAMPLE_RATE);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void noFrequenciesTest() {
+        new GoertzelTracker(SAMPLE_RATE, BLOCK_SIZE);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void sampleRateMismatchTest() {
+        new GoertzelTracker(SAMPLE_RATE * 2, BLOCK_SIZE, 100).process(signal, (sampleIndex, t) -> {
+        });
+    }
+
+}
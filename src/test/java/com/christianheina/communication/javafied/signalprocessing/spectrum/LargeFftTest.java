@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.BinaryIqFormat;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link LargeFft}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class LargeFftTest {
+
+    private static final double THRESHOLD = 1E-6;
+    private static final int SAMPLE_RATE = 1000;
+
+    private static TimeDomainSignal createSignal(int samples) {
+        Random random = new Random(samples);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < samples; i++) {
+            // Values exactly representable as 32 bit floats
+            iqDataList.add(new Complex((float) random.nextGaussian(), (float) random.nextGaussian()));
+        }
+        return SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+    }
+
+    private static Path writeIqFile(TimeDomainSignal signal, ByteOrder byteOrder) throws IOException {
+        ByteBuffer buf = ByteBuffer.allocate(signal.getIqDataList().size() * 8).order(byteOrder);
+        for (Complex sample : signal.getIqDataList()) {
+            buf.putFloat((float) sample.getReal());
+            buf.putFloat((float) sample.getImaginary());
+        }
+        Path iqFile = Files.createTempFile("iq", ".bin");
+        Files.write(iqFile, buf.array());
+        return iqFile;
+    }
+
+    private static void assertFft(int samples, int blockSamples) throws IOException {
+        TimeDomainSignal signal = createSignal(samples);
+        Path iqFile = writeIqFile(signal, ByteOrder.LITTLE_ENDIAN);
+        Path spectrumFile = Files.createTempFile("spectrum", ".bin");
+        try {
+            LargeFft.fft(iqFile, BinaryIqFormat.FLOAT_32, ByteOrder.LITTLE_ENDIAN, spectrumFile, blockSamples);
+            Assert.assertEquals(Files.size(spectrumFile), samples * 16L);
+            FrequencyDomainSignal expected = signal.asFrequencyDomainSignal();
+            FrequencyDomainSignal actual = LargeFft.readSpectrum(spectrumFile, ByteOrder.LITTLE_ENDIAN, 0, samples,
+                    SAMPLE_RATE);
+            Assert.assertEquals(actual.getSampleRate(), SAMPLE_RATE);
+            for (int i = 0; i < samples; i++) {
+                Assert.assertTrue(
+                        actual.getIqDataList().get(i).subtract(expected.getIqDataList().get(i)).abs() < THRESHOLD);
+            }
+            FrequencyDomainSignal part = LargeFft.readSpectrum(spectrumFile, ByteOrder.LITTLE_ENDIAN, samples / 2, 3,
+                    SAMPLE_RATE);
+            Assert.assertEquals(part.getIqDataList().size(), 3);
+            Assert.assertEquals(part.getIqDataList().get(0), actual.getIqDataList().get(samples / 2));
+        } finally {
+            Files.delete(iqFile);
+            Files.delete(spectrumFile);
+        }
+    }
+
+    @Test
+    public void fftPowerOfTwoTest() throws IOException {
+        assertFft(1024, 64);
+    }
+
+    @Test
+    public void fftMixedRadixTest() throws IOException {
+        assertFft(240, 32);
+    }
+
+    @Test
+    public void fftOddTest() throws IOException {
+        assertFft(105, 16);
+    }
+
+    @Test
+    public void fftPrimeTest() throws IOException {
+        assertFft(37, 64);
+    }
+
+    @Test
+    public void fftSingleBlockTest() throws IOException {
+        assertFft(500, LargeFft.DEFAULT_BLOCK_SAMPLES);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void fftNotFactorableTest() throws IOException {
+        assertFft(67, 64);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void fftIncompleteFileTest() throws IOException {
+        Path iqFile = Files.createTempFile("iq", ".bin");
+        Path spectrumFile = Files.createTempFile("spectrum", ".bin");
+        try {
+            Files.write(iqFile, new byte[] { 63, -128, 0, 0, 0, 0 });
+            LargeFft.fft(iqFile, BinaryIqFormat.FLOAT_32, ByteOrder.BIG_ENDIAN, spectrumFile);
+        } finally {
+            Files.delete(iqFile);
+            Files.delete(spectrumFile);
+        }
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void readSpectrumOutsideFileTest() throws IOException {
+        Path spectrumFile = Files.createTempFile("spectrum", ".bin");
+        try {
+            Files.write(spectrumFile, new byte[32]);
+            LargeFft.readSpectrum(spectrumFile, ByteOrder.BIG_ENDIAN, 1, 2, SAMPLE_RATE);
+        } finally {
+            Files.delete(spectrumFile);
+        }
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void readSpectrumTooManyBinsTest() throws IOException {
+        Path spectrumFile = Files.createTempFile("spectrum", ".bin");
+        try {
+            Files.write(spectrumFile, new byte[32]);
+            LargeFft.readSpectrum(spectrumFile, ByteOrder.BIG_ENDIAN, 0, 1 << 27, SAMPLE_RATE);
+        } finally {
+            Files.delete(spectrumFile);
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.common.utilities.PowerUtil;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link PersistenceSpectrum}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class PersistenceSpectrumTest {
+
+    private static final int SAMPLE_RATE = 1000;
+    private static final int BINS = 8;
+    private static final double RESISTANCE = 50;
+
+    /**
+     * Spectrum where every bin has the given power in dBm.
+     */
+    private static FrequencyDomainSignal flatSpectrum(double dbm) {
+        double magnitude = Math.sqrt(PowerUtil.dBmToWatts(dbm) * RESISTANCE);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < BINS; i++) {
+            iqDataList.add(new Complex(0, magnitude));
+        }
+        return SignalFactory.newFrequencyDomainSignal(iqDataList, SAMPLE_RATE);
+    }
+
+    @Test
+    public void countTest() {
+        PersistenceSpectrum persistence = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE);
+        persistence.update(flatSpectrum(-55));
+        persistence.update(flatSpectrum(-55));
+        persistence.update(flatSpectrum(-15));
+        for (int i = 0; i < BINS; i++) {
+            Assert.assertEquals(persistence.getHits(i, 4), 2.0);
+            Assert.assertEquals(persistence.getHits(i, 8), 1.0);
+            Assert.assertEquals(persistence.getHits(i, 0), 0.0);
+        }
+        Assert.assertEquals(persistence.getFrameCount(), 3);
+        Assert.assertEquals(persistence.getPowerBinDbm(4), -55, 1E-12);
+    }
+
+    @Test
+    public void clampTest() {
+        PersistenceSpectrum persistence = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE);
+        persistence.update(flatSpectrum(-150));
+        persistence.update(flatSpectrum(30));
+        persistence.update(new double[2 * BINS]);
+        Assert.assertEquals(persistence.getHits(3, 0), 2.0);
+        Assert.assertEquals(persistence.getHits(3, 9), 1.0);
+    }
+
+    @Test
+    public void decayTest() {
+        double decay = 0.5;
+        PersistenceSpectrum persistence = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE, decay);
+        persistence.update(flatSpectrum(-55));
+        persistence.update(flatSpectrum(-15));
+        persistence.update(flatSpectrum(-15));
+        Assert.assertEquals(persistence.getHits(0, 4), 0.25, 1E-6);
+        Assert.assertEquals(persistence.getHits(0, 8), 1.5, 1E-6);
+    }
+
+    @Test
+    public void decayRescaleTest() {
+        double decay = 0.9;
+        PersistenceSpectrum persistence = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE, decay);
+        FrequencyDomainSignal spectrum = flatSpectrum(-55);
+        for (int i = 0; i < 2000; i++) {
+            persistence.update(spectrum);
+        }
+        // Geometric series converges to 1 / (1 - decay)
+        Assert.assertEquals(persistence.getHits(5, 4), 10, 1E-4);
+        float[] hits = new float[BINS * 10];
+        persistence.copyHits(hits);
+        Assert.assertEquals(hits[5 * 10 + 4], 10, 1E-4);
+    }
+
+    @Test
+    public void tinyDecayTest() {
+        PersistenceSpectrum persistence = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE, 1E-30);
+        PersistenceSpectrum other = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE, 1E-30);
+        for (int i = 0; i < 10; i++) {
+            persistence.update(flatSpectrum(-55));
+            persistence.update(flatSpectrum(-25));
+            other.update(flatSpectrum(-55));
+        }
+        Assert.assertEquals(persistence.getHits(0, 7), 1, 1E-6);
+        Assert.assertEquals(persistence.getHits(0, 4), 1E-30, 1E-36);
+        persistence.merge(other);
+        Assert.assertEquals(persistence.getHits(0, 4), 1, 1E-6);
+        float[] hits = new float[BINS * 10];
+        persistence.copyHits(hits);
+        for (float hit : hits) {
+            Assert.assertFalse(Float.isNaN(hit) || Float.isInfinite(hit));
+        }
+    }
+
+    @Test
+    public void mergeTest() {
+        PersistenceSpectrum first = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE);
+        PersistenceSpectrum second = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE);
+        first.update(flatSpectrum(-55));
+        second.update(flatSpectrum(-55));
+        second.update(flatSpectrum(-25));
+        first.merge(second);
+        Assert.assertEquals(first.getHits(1, 4), 2.0);
+        Assert.assertEquals(first.getHits(1, 7), 1.0);
+        Assert.assertEquals(first.getFrameCount(), 3);
+    }
+
+    @Test
+    public void mergeDecayTest() {
+        PersistenceSpectrum first = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE, 0.5);
+        PersistenceSpectrum second = new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE, 0.5);
+        first.update(flatSpectrum(-55));
+        second.update(flatSpectrum(-55));
+        second.update(flatSpectrum(-55));
+        first.merge(second);
+        Assert.assertEquals(first.getHits(0, 4), 2.5, 1E-6);
+    }
+
+    @Test
+    public void spectrogramListenerTest() {
+        Random random = new Random(2);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < BINS * 50; i++) {
+            iqDataList.add(new Complex(random.nextGaussian(), random.nextGaussian()));
+        }
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+        PersistenceSpectrum persistence = new PersistenceSpectrum(BINS, 20, -100, 20, RESISTANCE);
+        new ShortTimeFourierTransform(SAMPLE_RATE, BINS, BINS).process(signal, persistence);
+        Assert.assertEquals(persistence.getFrameCount(), 50);
+        double total = 0;
+        for (int p = 0; p < persistence.getPowerBins(); p++) {
+            total += persistence.getHits(2, p);
+        }
+        Assert.assertEquals(total, 50.0);
+        Assert.assertEquals(persistence.getFrequencyBins(), BINS);
+        persistence.reset();
+        Assert.assertEquals(persistence.getFrameCount(), 0);
+        persistence.update(IqArrayUtil.toIqArray(flatSpectrum(-50).getIqDataList()));
+        Assert.assertEquals(persistence.getHits(0, 8), 1.0);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void mergeMismatchTest() {
+        new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE)
+                .merge(new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE, 0.5));
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidDecayTest() {
+        new PersistenceSpectrum(BINS, 10, -100, 0, RESISTANCE, 0);
+    }
+
+}
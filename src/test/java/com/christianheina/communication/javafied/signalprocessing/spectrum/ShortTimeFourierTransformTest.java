@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.SignalProcessing;
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+import com.christianheina.communication.javafied.signalprocessing.window.Window;
+import com.christianheina.communication.javafied.signalprocessing.window.WindowFactory;
+
+/**
+ * Unit test for {@link ShortTimeFourierTransform}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class ShortTimeFourierTransformTest {
+
+    private static final double THRESHOLD = 1E-10;
+    private static final int SAMPLE_RATE = 1000;
+    private static final int FFT_SIZE = 16;
+    private static final double RESISTANCE = 50;
+
+    private TimeDomainSignal signal;
+
+    @BeforeMethod
+    public void createSignal() {
+        Random random = new Random(3);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            iqDataList.add(new Complex(random.nextGaussian(), random.nextGaussian()));
+        }
+        signal = SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+    }
+
+    private static void assertRow(double[] spectrum, FrequencyDomainSignal expected) {
+        Assert.assertEquals(spectrum.length, 2 * expected.getIqDataList().size());
+        for (int i = 0; i < expected.getIqDataList().size(); i++) {
+            Assert.assertTrue(Math.abs(spectrum[2 * i] - expected.getIqDataList().get(i).getReal()) < THRESHOLD);
+            Assert.assertTrue(
+                    Math.abs(spectrum[2 * i + 1] - expected.getIqDataList().get(i).getImaginary()) < THRESHOLD);
+        }
+    }
+
+    @Test
+    public void nonOverlappingRowsTest() {
+        ShortTimeFourierTransform stft = new ShortTimeFourierTransform(SAMPLE_RATE, FFT_SIZE, FFT_SIZE);
+        List<TimeDomainSignal> slices = SignalProcessing.splitIqDataForTimeInterval(signal,
+                (double) FFT_SIZE / SAMPLE_RATE);
+        int rows = stft.process(signal,
+                (frameIndex, spectrum) -> assertRow(spectrum, slices.get((int) frameIndex).asFrequencyDomainSignal()));
+        Assert.assertEquals(rows, slices.size());
+    }
+
+    @Test
+    public void overlappingRowsInBlocksTest() {
+        int hopSize = 5;
+        double[] window = new double[FFT_SIZE];
+        for (int i = 0; i < FFT_SIZE; i++) {
+            window[i] = 0.5 - 0.5 * Math.cos(2 * Math.PI * i / FFT_SIZE);
+        }
+        double coherentGain = Arrays.stream(window).sum() / FFT_SIZE;
+        ShortTimeFourierTransform stft = new ShortTimeFourierTransform(SAMPLE_RATE, FFT_SIZE, hopSize, window);
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        List<Long> frames = new ArrayList<>();
+        SpectrogramListener listener = (frameIndex, spectrum) -> {
+            int start = (int) frameIndex * hopSize;
+            List<Complex> windowed = new ArrayList<>();
+            for (int i = 0; i < FFT_SIZE; i++) {
+                windowed.add(signal.getIqDataList().get(start + i).multiply(window[i] / coherentGain));
+            }
+            assertRow(spectrum, SignalFactory.newTimeDomainSignal(windowed, SAMPLE_RATE).asFrequencyDomainSignal());
+            frames.add(frameIndex);
+        };
+        int rows = 0;
+        for (int offset = 0; offset < 200; offset += 7) {
+            int samples = Math.min(7, 200 - offset);
+            int expectedRows = stft.rowsFor(samples);
+            int blockRows = stft.process(iqArray, offset, samples, listener);
+            Assert.assertEquals(blockRows, expectedRows);
+            rows += blockRows;
+        }
+        Assert.assertEquals(rows, 1 + (200 - FFT_SIZE) / hopSize);
+        Assert.assertEquals(frames.size(), rows);
+    }
+
+    @Test
+    public void gappedRowsTest() {
+        int hopSize = 20;
+        ShortTimeFourierTransform stft = new ShortTimeFourierTransform(SAMPLE_RATE, FFT_SIZE, hopSize);
+        List<TimeDomainSignal> slices = SignalProcessing.splitIqDataForTimeInterval(signal, 0,
+                (double) FFT_SIZE / SAMPLE_RATE, (double) hopSize / SAMPLE_RATE);
+        int rows = stft.process(signal,
+                (frameIndex, spectrum) -> assertRow(spectrum, slices.get((int) frameIndex).asFrequencyDomainSignal()));
+        Assert.assertEquals(rows, 10);
+    }
+
+    @Test
+    public void spectrogramMatrixTest() {
+        ShortTimeFourierTransform stft = new ShortTimeFourierTransform(SAMPLE_RATE, FFT_SIZE, 8);
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        float[][] spectrogram = new float[30][FFT_SIZE];
+        int rows = stft.process(iqArray, 0, 100, RESISTANCE, spectrogram, 2);
+        Assert.assertEquals(rows, 11);
+        List<Double> expected = SignalFactory
+                .newTimeDomainSignal(signal.getIqDataList().subList(8, 8 + FFT_SIZE), SAMPLE_RATE)
+                .asFrequencyDomainSignal().toPowerDbm(RESISTANCE);
+        for (int i = 0; i < FFT_SIZE; i++) {
+            Assert.assertTrue(Math.abs(spectrogram[3][i] - expected.get(i)) < 1E-4);
+        }
+        Assert.assertEquals(spectrogram[13][0], 0f);
+        rows = stft.process(iqArray, 100, 100, RESISTANCE, spectrogram, 13);
+        Assert.assertEquals(rows, 13);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void spectrogramMatrixFullTest() {
+        ShortTimeFourierTransform stft = new ShortTimeFourierTransform(SAMPLE_RATE, FFT_SIZE, 8);
+        stft.process(IqArrayUtil.toIqArray(signal.getIqDataList()), 0, 200, RESISTANCE, new float[5][FFT_SIZE], 0);
+    }
+
+    @Test
+    public void resetTest() {
+        ShortTimeFourierTransform stft = new ShortTimeFourierTransform(SAMPLE_RATE, FFT_SIZE, 4);
+        Assert.assertEquals(stft.getSampleRate(), SAMPLE_RATE);
+        Assert.assertEquals(stft.getFftSize(), FFT_SIZE);
+        Assert.assertEquals(stft.getHopSize(), 4);
+        stft.process(signal, (frameIndex, spectrum) -> {
+        });
+        Assert.assertEquals(stft.rowsFor(3), 0);
+        Assert.assertEquals(stft.rowsFor(4), 1);
+        stft.reset();
+        Assert.assertEquals(stft.rowsFor(FFT_SIZE - 1), 0);
+        Assert.assertEquals(stft.rowsFor(FFT_SIZE), 1);
+        long[] first = new long[] { -1 };
+        stft.process(signal, (frameIndex, spectrum) -> first[0] = first[0] < 0 ? frameIndex : first[0]);
+        Assert.assertEquals(first[0], 0);
+    }
+
+    @Test
+    public void spectrogramShortRowTest() {
+        ShortTimeFourierTransform stft = new ShortTimeFourierTransform(SAMPLE_RATE, FFT_SIZE, 8);
+        float[][] spectrogram = new float[30][FFT_SIZE];
+        spectrogram[5] = new float[FFT_SIZE - 1];
+        try {
+            stft.process(IqArrayUtil.toIqArray(signal.getIqDataList()), 0, 100, RESISTANCE, spectrogram, 0);
+            Assert.fail("Expected exception");
+        } catch (SignalProcessingException e) {
+            // Nothing written and no samples consumed
+            Assert.assertEquals(spectrogram[0], new float[FFT_SIZE]);
+            Assert.assertEquals(stft.rowsFor(FFT_SIZE), 1);
+        }
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void windowLengthMismatchTest() {
+        new ShortTimeFourierTransform(SAMPLE_RATE, FFT_SIZE, 4, new double[FFT_SIZE - 1]);
+    }
+
+    @Test
+    public void windowTest() {
+        Window window = WindowFactory.getWindow(WindowType.BLACKMAN_HARRIS, FFT_SIZE);
+        ShortTimeFourierTransform stft = new ShortTimeFourierTransform(SAMPLE_RATE, FFT_SIZE, window);
+        Assert.assertEquals(stft.getFftSize(), FFT_SIZE);
+        List<TimeDomainSignal> slices = SignalProcessing.splitIqDataForTimeInterval(signal,
+                (double) FFT_SIZE / SAMPLE_RATE);
+        stft.process(signal, (frameIndex, spectrum) -> {
+            FrequencyDomainSignal expected = slices.get((int) frameIndex).asFrequencyDomainSignal(window);
+            for (int i = 0; i < FFT_SIZE; i++) {
+                Complex value = new Complex(spectrum[2 * i], spectrum[2 * i + 1]);
+                Assert.assertTrue(value.subtract(expected.getIqDataList().get(i)).abs() < THRESHOLD);
+            }
+        });
+    }
+
+}
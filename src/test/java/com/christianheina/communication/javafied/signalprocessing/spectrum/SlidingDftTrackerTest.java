@@ -0,0 +1,98 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+
+/**
+ * Unit test for {@link SlidingDftTracker}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class SlidingDftTrackerTest {
+
+    private static final double THRESHOLD = 1E-10;
+    private static final int SAMPLE_RATE = 3200;
+    private static final int WINDOW_SIZE = 32;
+
+    private TimeDomainSignal signal;
+
+    @BeforeMethod
+    public void createSignal() {
+        Random random = new Random(2);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < WINDOW_SIZE * 300; i++) {
+            double phase = 2 * Math.PI * -500.0 * i / SAMPLE_RATE;
+            iqDataList.add(new Complex(Math.cos(phase) + random.nextGaussian() * 0.1,
+                    Math.sin(phase) + random.nextGaussian() * 0.1));
+        }
+        signal = SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+    }
+
+    @Test
+    public void matchesFullDftTest() {
+        double[] frequencies = new double[] { -500, 300, 1234.5 };
+        SlidingDftTracker tracker = new SlidingDftTracker(SAMPLE_RATE, WINDOW_SIZE, frequencies);
+        List<Long> sampleIndexes = new ArrayList<>();
+        tracker.process(signal, (sampleIndex, t) -> {
+            sampleIndexes.add(sampleIndex);
+            if (sampleIndex % 97 != 0 && sampleIndex != WINDOW_SIZE * 256 - 1) {
+                return;
+            }
+            List<Complex> window = signal.getIqDataList().subList((int) sampleIndex - WINDOW_SIZE + 1,
+                    (int) sampleIndex + 1);
+            FrequencyDomainSignal spectrum = SignalFactory.newTimeDomainSignal(window, SAMPLE_RATE)
+                    .asFrequencyDomainSignal();
+            for (int i = 0; i < 2; i++) {
+                int bin = (int) (frequencies[i] * WINDOW_SIZE / SAMPLE_RATE) + WINDOW_SIZE / 2;
+                Assert.assertTrue(t.getBin(i).subtract(spectrum.getIqDataList().get(bin)).abs() < THRESHOLD);
+            }
+            Complex expected = Complex.ZERO;
+            for (int n = 0; n < WINDOW_SIZE; n++) {
+                expected = expected.add(
+                        window.get(n).multiply(new Complex(0, -2 * Math.PI * frequencies[2] * n / SAMPLE_RATE).exp()));
+            }
+            Assert.assertTrue(t.getBin(2).subtract(expected.divide(WINDOW_SIZE)).abs() < THRESHOLD);
+        });
+        Assert.assertEquals(sampleIndexes.size(), signal.getIqDataList().size() - WINDOW_SIZE + 1);
+        Assert.assertEquals(sampleIndexes.get(0).longValue(), WINDOW_SIZE - 1);
+    }
+
+    @Test
+    public void resetTest() {
+        SlidingDftTracker tracker = new SlidingDftTracker(SAMPLE_RATE, WINDOW_SIZE, -500);
+        tracker.process(signal, (sampleIndex, t) -> {
+        });
+        Assert.assertTrue(tracker.getBin(0).abs() > 0.9);
+        tracker.reset();
+        Assert.assertEquals(tracker.getSampleCount(), 0);
+        Assert.assertEquals(tracker.getBin(0), Complex.ZERO);
+        Assert.assertFalse(tracker.update(1, 0));
+    }
+
+}
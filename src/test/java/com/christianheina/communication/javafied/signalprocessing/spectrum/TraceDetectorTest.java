@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.data.FrequencyDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.TraceMode;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+
+/**
+ * Unit test for {@link TraceDetector}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class TraceDetectorTest {
+
+    private static final int SAMPLE_RATE = 1000;
+    private static final int BINS = 16;
+    private static final int FRAMES = 20;
+    private static final double RESISTANCE = 50;
+    private static final double THRESHOLD = 1E-12;
+
+    private List<FrequencyDomainSignal> frames;
+    private double[][] power;
+
+    @BeforeMethod
+    public void createFrames() {
+        Random random = new Random(7);
+        frames = new ArrayList<>();
+        power = new double[FRAMES][BINS];
+        for (int f = 0; f < FRAMES; f++) {
+            List<Complex> iqDataList = new ArrayList<>();
+            for (int i = 0; i < BINS; i++) {
+                Complex value = new Complex(random.nextGaussian(), random.nextGaussian());
+                iqDataList.add(value);
+                power[f][i] = value.abs() * value.abs() / RESISTANCE;
+            }
+            frames.add(SignalFactory.newFrequencyDomainSignal(iqDataList, SAMPLE_RATE));
+        }
+    }
+
+    @Test
+    public void maxHoldTest() {
+        TraceDetector detector = new TraceDetector(TraceMode.MAX_HOLD, BINS);
+        frames.forEach(detector::update);
+        for (int i = 0; i < BINS; i++) {
+            double expected = 0;
+            for (int f = 0; f < FRAMES; f++) {
+                expected = Math.max(expected, power[f][i]);
+            }
+            Assert.assertEquals(detector.getPower(i, RESISTANCE), expected, THRESHOLD);
+        }
+        Assert.assertEquals(detector.getFrameCount(), FRAMES);
+    }
+
+    @Test
+    public void minHoldTest() {
+        TraceDetector detector = new TraceDetector(TraceMode.MIN_HOLD, BINS);
+        frames.forEach(detector::update);
+        for (int i = 0; i < BINS; i++) {
+            double expected = Double.MAX_VALUE;
+            for (int f = 0; f < FRAMES; f++) {
+                expected = Math.min(expected, power[f][i]);
+            }
+            Assert.assertEquals(detector.getPower(i, RESISTANCE), expected, THRESHOLD);
+        }
+    }
+
+    @Test
+    public void averageTest() {
+        TraceDetector detector = new TraceDetector(TraceMode.AVERAGE, BINS);
+        frames.forEach(detector::update);
+        double[] trace = new double[BINS];
+        detector.copyPower(RESISTANCE, trace);
+        for (int i = 0; i < BINS; i++) {
+            double expected = 0;
+            for (int f = 0; f < FRAMES; f++) {
+                expected += power[f][i] / FRAMES;
+            }
+            Assert.assertEquals(trace[i], expected, THRESHOLD);
+        }
+    }
+
+    @Test
+    public void exponentialAverageTest() {
+        int averageCount = 4;
+        TraceDetector detector = new TraceDetector(TraceMode.EXPONENTIAL_AVERAGE, BINS, averageCount);
+        frames.forEach(detector::update);
+        for (int i = 0; i < BINS; i++) {
+            double expected = 0;
+            for (int f = 0; f < FRAMES; f++) {
+                double weight = 1.0 / Math.min(f + 1, averageCount);
+                expected = expected * (1 - weight) + power[f][i] * weight;
+            }
+            Assert.assertEquals(detector.getPower(i, RESISTANCE), expected, THRESHOLD);
+        }
+    }
+
+    @Test
+    public void iqArrayMatchesSignalTest() {
+        for (TraceMode mode : TraceMode.values()) {
+            TraceDetector signalDetector = new TraceDetector(mode, BINS, 3);
+            TraceDetector arrayDetector = new TraceDetector(mode, BINS, 3);
+            for (FrequencyDomainSignal frame : frames) {
+                signalDetector.update(frame);
+                arrayDetector.update(IqArrayUtil.toIqArray(frame.getIqDataList()));
+            }
+            double[] expected = new double[BINS];
+            double[] actual = new double[BINS];
+            signalDetector.copyPowerDbm(RESISTANCE, expected);
+            arrayDetector.copyPowerDbm(RESISTANCE, actual);
+            Assert.assertEquals(actual, expected, THRESHOLD);
+            Assert.assertEquals(arrayDetector.getMode(), mode);
+        }
+    }
+
+    @Test
+    public void spectrogramListenerTest() {
+        List<Complex> iqDataList = new ArrayList<>();
+        for (FrequencyDomainSignal frame : frames) {
+            iqDataList.addAll(frame.getIqDataList());
+        }
+        TimeDomainSignal signal = SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+        ShortTimeFourierTransform stft = new ShortTimeFourierTransform(SAMPLE_RATE, BINS, BINS);
+        TraceDetector detector = new TraceDetector(TraceMode.MAX_HOLD, BINS);
+        stft.process(signal, detector);
+        Assert.assertEquals(detector.getFrameCount(), FRAMES);
+        Assert.assertEquals(detector.getBins(), BINS);
+    }
+
+    @Test
+    public void resetTest() {
+        TraceDetector detector = new TraceDetector(TraceMode.MIN_HOLD, BINS);
+        detector.update(frames.get(0));
+        detector.reset();
+        Assert.assertEquals(detector.getFrameCount(), 0);
+        detector.update(frames.get(1));
+        Assert.assertEquals(detector.getPowerDbm(0, RESISTANCE), frames.get(1).toPowerDbm(RESISTANCE).get(0),
+                THRESHOLD);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void binMismatchTest() {
+        new TraceDetector(TraceMode.AVERAGE, BINS).update(new double[BINS]);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidAverageCountTest() {
+        new TraceDetector(TraceMode.EXPONENTIAL_AVERAGE, BINS, 0);
+    }
+
+}
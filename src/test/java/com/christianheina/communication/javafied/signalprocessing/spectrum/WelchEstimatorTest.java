@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.spectrum;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.SignalProcessing;
+import com.christianheina.communication.javafied.signalprocessing.data.SignalFactory;
+import com.christianheina.communication.javafied.signalprocessing.data.TimeDomainSignal;
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+import com.christianheina.communication.javafied.signalprocessing.util.IqArrayUtil;
+import com.christianheina.communication.javafied.signalprocessing.window.WindowFactory;
+
+/**
+ * Unit test for {@link WelchEstimator}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class WelchEstimatorTest {
+
+    private static final int SAMPLE_RATE = 1000;
+    private static final int SEGMENT_SIZE = 32;
+    private static final double RESISTANCE = 50;
+
+    private TimeDomainSignal signal;
+
+    @BeforeMethod
+    public void createSignal() {
+        Random random = new Random(4);
+        List<Complex> iqDataList = new ArrayList<>();
+        for (int i = 0; i < SEGMENT_SIZE * 400; i++) {
+            iqDataList.add(new Complex(random.nextGaussian(), random.nextGaussian()));
+        }
+        signal = SignalFactory.newTimeDomainSignal(iqDataList, SAMPLE_RATE);
+    }
+
+    @Test
+    public void matchesAveragedSegmentsTest() {
+        WelchEstimator estimator = new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE, 0);
+        estimator.add(signal);
+        List<TimeDomainSignal> segments = SignalProcessing.splitIqDataForTimeInterval(signal,
+                (double) SEGMENT_SIZE / SAMPLE_RATE);
+        Assert.assertEquals(estimator.getSegmentCount(), segments.size());
+        double[] expected = new double[SEGMENT_SIZE];
+        for (TimeDomainSignal segment : segments) {
+            List<Double> power = segment.asFrequencyDomainSignal().toPower(RESISTANCE);
+            for (int i = 0; i < SEGMENT_SIZE; i++) {
+                expected[i] += power.get(i) / segments.size();
+            }
+        }
+        List<Double> powerDbm = estimator.toPowerDbm(RESISTANCE);
+        for (int i = 0; i < SEGMENT_SIZE; i++) {
+            Assert.assertTrue(Math.abs(estimator.toPower(RESISTANCE).get(i) - expected[i]) < 1E-12);
+            Assert.assertTrue(Math.abs(powerDbm.get(i) - 10 * Math.log10(expected[i] / 0.001)) < 1E-9);
+        }
+    }
+
+    @Test
+    public void windowedNoiseFloorTest() {
+        WelchEstimator rectangular = new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE, 0);
+        WelchEstimator hann = new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE / 2,
+                WindowFactory.getWindow(WindowType.HANN, SEGMENT_SIZE));
+        rectangular.add(signal);
+        hann.add(signal);
+        Assert.assertEquals(hann.getSegmentCount(), 2 * 400 - 1);
+        double rectangularMean = 0;
+        double hannMean = 0;
+        for (int i = 0; i < SEGMENT_SIZE; i++) {
+            rectangularMean += rectangular.toPower(RESISTANCE).get(i) / SEGMENT_SIZE;
+            hannMean += hann.toPower(RESISTANCE).get(i) / SEGMENT_SIZE;
+        }
+        Assert.assertTrue(Math.abs(10 * Math.log10(hannMean / rectangularMean)) < 0.2);
+    }
+
+    @Test
+    public void mergeTest() {
+        double[] iqArray = IqArrayUtil.toIqArray(signal.getIqDataList());
+        int half = signal.getIqDataList().size() / 2;
+        WelchEstimator whole = new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE, 0);
+        WelchEstimator first = new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE, 0);
+        WelchEstimator second = new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE, 0);
+        whole.add(iqArray, 0, 2 * half);
+        first.add(iqArray, 0, half);
+        second.add(iqArray, half, half);
+        first.merge(second);
+        Assert.assertEquals(first.getSegmentCount(), whole.getSegmentCount());
+        for (int i = 0; i < SEGMENT_SIZE; i++) {
+            Assert.assertTrue(
+                    Math.abs(first.toPowerDbm(RESISTANCE).get(i) - whole.toPowerDbm(RESISTANCE).get(i)) < 1E-9);
+        }
+        first.reset();
+        Assert.assertEquals(first.getSegmentCount(), 0);
+        Assert.assertEquals(first.getSegmentSize(), SEGMENT_SIZE);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void mergeMismatchTest() {
+        new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE, 0).merge(new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE, 1));
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void emptyEstimateTest() {
+        new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE, 0).toPowerDbm(RESISTANCE);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void overlapTooLargeTest() {
+        new WelchEstimator(SAMPLE_RATE, SEGMENT_SIZE, SEGMENT_SIZE);
+    }
+
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.util;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.BinaryIqFormat;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link BinaryIqDecoder}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class BinaryIqDecoderTest {
+
+    @Test
+    public void float16Test() {
+        ByteBuffer buf = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putShort((short) 0x3C00).putShort((short) 0xC000).flip();
+        Assert.assertEquals(BinaryIqDecoder.decode(buf, BinaryIqFormat.FLOAT_16), 1.0);
+        Assert.assertEquals(BinaryIqDecoder.decode(buf, BinaryIqFormat.FLOAT_16), -2.0);
+        Assert.assertFalse(buf.hasRemaining());
+    }
+
+    @Test
+    public void float32Test() {
+        ByteBuffer buf = ByteBuffer.allocate(8).order(ByteOrder.BIG_ENDIAN);
+        buf.putFloat(0.25f).putFloat(-1.5f).flip();
+        Assert.assertEquals(BinaryIqDecoder.decode(buf, BinaryIqFormat.FLOAT_32), 0.25);
+        Assert.assertEquals(BinaryIqDecoder.decode(buf, BinaryIqFormat.FLOAT_32), -1.5);
+        Assert.assertFalse(buf.hasRemaining());
+    }
+
+    @Test
+    public void float64Test() {
+        ByteBuffer buf = ByteBuffer.allocate(16).order(ByteOrder.LITTLE_ENDIAN);
+        buf.putDouble(Math.PI).putDouble(-Math.E).flip();
+        Assert.assertEquals(BinaryIqDecoder.decode(buf, BinaryIqFormat.FLOAT_64), Math.PI);
+        Assert.assertEquals(BinaryIqDecoder.decode(buf, BinaryIqFormat.FLOAT_64), -Math.E);
+        Assert.assertFalse(buf.hasRemaining());
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void unsupportedFormatTest() {
+        BinaryIqDecoder.decode(ByteBuffer.allocate(8), null);
+    }
+
+}
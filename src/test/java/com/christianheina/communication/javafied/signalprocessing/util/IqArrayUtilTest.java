@@ -0,0 +1,87 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.util;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.commons.math3.complex.Complex;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import com.christianheina.common.math.ComplexAdditions;
+import com.christianheina.common.utilities.PowerUtil;
+
+/**
+ * Unit test for {@link IqArrayUtil}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class IqArrayUtilTest {
+
+    private static final double RESISTANCE = 50;
+
+    private List<Complex> complexList;
+
+    @BeforeMethod
+    public void prepare() {
+        complexList = new ArrayList<>();
+        complexList.add(Complex.ONE);
+        complexList.add(new Complex(-1, 0));
+        complexList.add(new Complex(0.5, -2));
+        complexList.add(new Complex(1, 1));
+        complexList.add(new Complex(3, 0.25));
+    }
+
+    @Test
+    public void toIqArrayTest() {
+        double[] iqArray = IqArrayUtil.toIqArray(complexList);
+        Assert.assertEquals(iqArray.length, complexList.size() * 2);
+        Assert.assertEquals(iqArray[4], 0.5);
+        Assert.assertEquals(iqArray[5], -2.0);
+        Assert.assertEquals(IqArrayUtil.toComplexList(iqArray), complexList);
+    }
+
+    @Test
+    public void toPowerTest() {
+        double[] power = new double[complexList.size()];
+        float[] powerDbm = new float[complexList.size()];
+        IqArrayUtil.toPower(IqArrayUtil.toIqArray(complexList), RESISTANCE, power);
+        IqArrayUtil.toPowerDbm(IqArrayUtil.toIqArray(complexList), RESISTANCE, powerDbm);
+        List<Double> expected = PowerUtil.complexListToPowerList(complexList, RESISTANCE);
+        List<Double> expectedDbm = PowerUtil.complexListToPowerDbmList(complexList, RESISTANCE);
+        for (int i = 0; i < complexList.size(); i++) {
+            Assert.assertTrue(Math.abs(power[i] - expected.get(i)) < 1E-12);
+            Assert.assertTrue(Math.abs(powerDbm[i] - expectedDbm.get(i)) < 1E-4);
+        }
+    }
+
+    @Test
+    public void fftShiftTest() {
+        for (int size = 1; size <= complexList.size(); size++) {
+            List<Complex> subList = complexList.subList(0, size);
+            double[] shifted = new double[size * 2];
+            IqArrayUtil.fftShift(IqArrayUtil.toIqArray(subList), shifted);
+            Assert.assertEquals(IqArrayUtil.toComplexList(shifted), ComplexAdditions.fftShift(subList));
+            double[] unshifted = new double[size * 2];
+            IqArrayUtil.ifftShift(shifted, unshifted);
+            Assert.assertEquals(IqArrayUtil.toComplexList(unshifted), subList);
+        }
+    }
+
+}
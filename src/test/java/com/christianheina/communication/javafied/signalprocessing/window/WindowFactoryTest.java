@@ -0,0 +1,137 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.window;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link WindowFactory}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class WindowFactoryTest {
+
+    private static final double THRESHOLD = 1E-12;
+
+    @Test
+    public void cachedWindowTest() {
+        Window window = WindowFactory.getWindow(WindowType.HANN, 64);
+        Assert.assertSame(WindowFactory.getWindow(WindowType.HANN, 64), window);
+        Assert.assertSame(WindowFactory.getWindow(WindowType.HANN, 64, 3), window);
+        Assert.assertNotSame(WindowFactory.getSymmetricWindow(WindowType.HANN, 64), window);
+        Assert.assertNotSame(WindowFactory.getWindow(WindowType.KAISER, 64, 3),
+                WindowFactory.getWindow(WindowType.KAISER, 64));
+    }
+
+    @Test
+    public void cacheEvictionTest() {
+        WindowFactory.clearCache();
+        Assert.assertEquals(WindowFactory.cacheSize(), 0);
+
+        // Least recently used windows are evicted first
+        Window used = WindowFactory.getWindow(WindowType.HANN, 64);
+        Window unused = WindowFactory.getWindow(WindowType.HAMMING, 64);
+        for (int i = 0; i < 300; i++) {
+            WindowFactory.getWindow(WindowType.KAISER, 16, 1 + i);
+            Assert.assertSame(WindowFactory.getWindow(WindowType.HANN, 64), used);
+        }
+        Assert.assertEquals(WindowFactory.cacheSize(), 256);
+        Assert.assertNotSame(WindowFactory.getWindow(WindowType.HAMMING, 64), unused);
+
+        WindowFactory.clearCache();
+        Assert.assertEquals(WindowFactory.cacheSize(), 0);
+    }
+
+    @Test
+    public void rectangularTest() {
+        Window window = WindowFactory.getWindow(WindowType.RECTANGULAR, 5);
+        Assert.assertEquals(window.getCoefficients(), new double[] { 1, 1, 1, 1, 1 });
+        Assert.assertEquals(window.getEquivalentNoiseBandwidth(), 1, THRESHOLD);
+    }
+
+    @Test
+    public void hannTest() {
+        Window window = WindowFactory.getWindow(WindowType.HANN, 4);
+        Assert.assertEquals(window.getCoefficients(), new double[] { 0, 0.5, 1, 0.5 }, THRESHOLD);
+        Assert.assertFalse(window.isSymmetric());
+        Window symmetric = WindowFactory.getSymmetricWindow(WindowType.HANN, 5);
+        Assert.assertEquals(symmetric.getCoefficients(), new double[] { 0, 0.5, 1, 0.5, 0 }, THRESHOLD);
+        Assert.assertTrue(symmetric.isSymmetric());
+    }
+
+    @Test
+    public void hammingTest() {
+        Window window = WindowFactory.getSymmetricWindow(WindowType.HAMMING, 3);
+        Assert.assertEquals(window.getCoefficients(), new double[] { 0.08, 1, 0.08 }, THRESHOLD);
+    }
+
+    @Test
+    public void equivalentNoiseBandwidthTest() {
+        Assert.assertEquals(WindowFactory.getWindow(WindowType.HANN, 1024).getEquivalentNoiseBandwidth(), 1.5, 1E-9);
+        Assert.assertEquals(WindowFactory.getWindow(WindowType.HAMMING, 1024).getEquivalentNoiseBandwidth(), 1.3628,
+                1E-3);
+        Assert.assertEquals(WindowFactory.getWindow(WindowType.BLACKMAN_HARRIS, 1024).getEquivalentNoiseBandwidth(),
+                2.0044, 1E-3);
+        Assert.assertEquals(WindowFactory.getWindow(WindowType.FLAT_TOP, 1024).getEquivalentNoiseBandwidth(), 3.77,
+                1E-2);
+    }
+
+    @Test
+    public void kaiserTest() {
+        Assert.assertEquals(WindowFactory.getWindow(WindowType.KAISER, 8, 0).getCoefficients(),
+                WindowFactory.getWindow(WindowType.RECTANGULAR, 8).getCoefficients(), THRESHOLD);
+        Window window = WindowFactory.getSymmetricWindow(WindowType.KAISER, 5, 1);
+        Assert.assertEquals(window.getCoefficient(0), 1 / 1.2660658777520082, THRESHOLD);
+        Assert.assertEquals(window.getCoefficient(2), 1, THRESHOLD);
+        Assert.assertEquals(window.getCoefficient(1), window.getCoefficient(3), THRESHOLD);
+        Assert.assertEquals(window.getParameter(), 1.0);
+    }
+
+    @Test
+    public void tukeyTest() {
+        Assert.assertEquals(WindowFactory.getWindow(WindowType.TUKEY, 16, 1).getCoefficients(),
+                WindowFactory.getWindow(WindowType.HANN, 16).getCoefficients(), THRESHOLD);
+        Assert.assertEquals(WindowFactory.getWindow(WindowType.TUKEY, 16, 0).getCoefficients(),
+                WindowFactory.getWindow(WindowType.RECTANGULAR, 16).getCoefficients(), THRESHOLD);
+        Window window = WindowFactory.getWindow(WindowType.TUKEY, 16);
+        Assert.assertEquals(window.getCoefficient(0), 0, THRESHOLD);
+        Assert.assertEquals(window.getCoefficient(8), 1, THRESHOLD);
+        Assert.assertEquals(window.getType(), WindowType.TUKEY);
+    }
+
+    @Test
+    public void singleCoefficientTest() {
+        Assert.assertEquals(WindowFactory.getSymmetricWindow(WindowType.HANN, 1).getCoefficients(), new double[] { 1 });
+    }
+
+    @Test
+    public void besselI0Test() {
+        Assert.assertEquals(WindowFactory.besselI0(0), 1, THRESHOLD);
+        Assert.assertEquals(WindowFactory.besselI0(1), 1.2660658777520082, THRESHOLD);
+        Assert.assertEquals(WindowFactory.besselI0(8.6) / 750.4611595631661, 1, 1E-12);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void invalidLengthTest() {
+        WindowFactory.getWindow(WindowType.HANN, 0);
+    }
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2026 Christian Heina
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.christianheina.communication.javafied.signalprocessing.window;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import com.christianheina.communication.javafied.signalprocessing.enums.WindowType;
+import com.christianheina.communication.javafied.signalprocessing.exceptions.SignalProcessingException;
+
+/**
+ * Unit test for {@link Window}.
+ * 
+ * @author Christian Heina (developer@christianheina.com)
+ */
+public class WindowTest {
+
+    private static final double THRESHOLD = 1E-12;
+
+    @Test
+    public void gainTest() {
+        Window window = WindowFactory.getWindow(WindowType.HANN, 4);
+        Assert.assertEquals(window.getLength(), 4);
+        Assert.assertEquals(window.getCoherentGain(), 0.5, THRESHOLD);
+        Assert.assertEquals(window.getNoisePowerGain(), 0.375, THRESHOLD);
+        Assert.assertEquals(window.getEquivalentNoiseBandwidth(), 1.5, THRESHOLD);
+    }
+
+    @Test
+    public void applyTest() {
+        Window window = WindowFactory.getWindow(WindowType.HANN, 4);
+        double[] iqArray = new double[] { 1, 2, 1, 2, 1, 2, 1, 2 };
+        window.apply(iqArray);
+        Assert.assertEquals(iqArray, new double[] { 0, 0, 0.5, 1, 1, 2, 0.5, 1 }, THRESHOLD);
+
+        double[] offsetArray = new double[] { 7, 7, 1, 2, 1, 2, 1, 2, 1, 2 };
+        window.apply(offsetArray, 1);
+        Assert.assertEquals(offsetArray, new double[] { 7, 7, 0, 0, 0.5, 1, 1, 2, 0.5, 1 }, THRESHOLD);
+    }
+
+    @Test
+    public void coefficientCopyTest() {
+        Window window = WindowFactory.getWindow(WindowType.HANN, 4);
+        window.getCoefficients()[2] = 5;
+        Assert.assertEquals(window.getCoefficient(2), 1, THRESHOLD);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void applyLengthMismatchTest() {
+        WindowFactory.getWindow(WindowType.HANN, 4).apply(new double[6]);
+    }
+
+    @Test(expectedExceptions = SignalProcessingException.class)
+    public void applyOffsetOutsideTest() {
+        WindowFactory.getWindow(WindowType.HANN, 4).apply(new double[8], 1);
+    }
+
+}